@@ -11,9 +11,13 @@ import com.chutneytesting.engine.domain.execution.ExecutionEngine;
 import com.chutneytesting.engine.domain.execution.ExecutionManager;
 import com.chutneytesting.engine.domain.execution.engine.DefaultExecutionEngine;
 import com.chutneytesting.engine.domain.execution.engine.DefaultStepExecutor;
+import com.chutneytesting.engine.domain.execution.engine.EngineThreads;
+import com.chutneytesting.engine.domain.execution.engine.ExecutionMode;
+import com.chutneytesting.engine.domain.execution.engine.evaluation.SpelExpressionCache;
 import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctionCallback;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
+import com.chutneytesting.engine.domain.execution.strategies.ParallelStepExecutionStrategy;
 import com.chutneytesting.engine.domain.execution.strategies.StepExecutionStrategies;
 import com.chutneytesting.engine.domain.execution.strategies.StepExecutionStrategy;
 import com.chutneytesting.engine.domain.report.Reporter;
@@ -32,13 +36,14 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.util.ReflectionUtils;
 
-public class ExecutionConfiguration {
+public class ExecutionConfiguration implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionConfiguration.class);
 
@@ -48,24 +53,34 @@ public class ExecutionConfiguration {
     private final TestEngine embeddedTestEngine;
 
     private final SpelFunctions spelFunctions;
+    private final ExecutorService parallelStepsExecutor;
     private final Set<StepExecutionStrategy> stepExecutionStrategies;
 
     private final Long reporterTTL;
 
     public ExecutionConfiguration() {
-        this(5L, Executors.newFixedThreadPool(10), emptyMap(), null, null);
+        this(5L, EngineThreads.engineExecutor(ExecutionMode.fromSystemProperty(), 10, "engine-executor"), emptyMap(), null, null);
     }
 
     public ExecutionConfiguration(Long reporterTTL, Executor taskExecutor, Map<String,String> tasksConfiguration, String user, String password) {
+        this(reporterTTL, taskExecutor, tasksConfiguration, user, password, SpelCompilerMode.OFF);
+    }
+
+    /**
+     * @param spelCompilerMode {@link SpelCompilerMode#MIXED} compiles frequently evaluated expressions, {@link SpelCompilerMode#OFF} only interprets them
+     */
+    public ExecutionConfiguration(Long reporterTTL, Executor taskExecutor, Map<String,String> tasksConfiguration, String user, String password, SpelCompilerMode spelCompilerMode) {
         this.reporterTTL = reporterTTL;
 
         TaskTemplateLoader taskTemplateLoaderV2 = createTaskTemplateLoaderV2();
         spelFunctions = createSpelFunctions();
+        parallelStepsExecutor = ParallelStepExecutionStrategy.parallelStepsExecutor(
+            Integer.getInteger(ParallelStepExecutionStrategy.THREADS_SYSTEM_PROPERTY, ParallelStepExecutionStrategy.DEFAULT_THREADS));
         stepExecutionStrategies = createStepExecutionStrategies();
 
         taskTemplateRegistry = new DefaultTaskTemplateRegistry(new TaskTemplateLoaders(singletonList(taskTemplateLoaderV2)));
         reporter = createReporter();
-        executionEngine = createExecutionEngine(taskExecutor, user, password);
+        executionEngine = createExecutionEngine(taskExecutor, user, password, spelCompilerMode);
         embeddedTestEngine = createEmbeddedTestEngine(new EngineTasksConfiguration(tasksConfiguration));
     }
 
@@ -89,6 +104,14 @@ public class ExecutionConfiguration {
         return executionEngine;
     }
 
+    /**
+     * Shut down the threads of parallel steps.
+     */
+    @Override
+    public void close() {
+        parallelStepsExecutor.shutdown();
+    }
+
     private TaskTemplateLoader createTaskTemplateLoaderV2() {
         return new DefaultTaskTemplateLoader<>(
             "chutney.tasks",
@@ -110,7 +133,7 @@ public class ExecutionConfiguration {
             .classpathToClass("META-INF/extension/chutney.strategies")
             .load()
             .stream()
-            .map(ThrowingFunction.toUnchecked(ExecutionConfiguration::<StepExecutionStrategy>instantiate))
+            .map(ThrowingFunction.toUnchecked(this::<StepExecutionStrategy>instantiateStrategy))
             .map(identity(c -> LOGGER.debug("Loading strategy: " + c.getType() + " (" + c.getClass().getSimpleName() + ")")))
             .collect(Collectors.toSet());
     }
@@ -119,9 +142,9 @@ public class ExecutionConfiguration {
         return new Reporter(reporterTTL);
     }
 
-    private ExecutionEngine createExecutionEngine(Executor taskExecutor, String user, String password) {
+    private ExecutionEngine createExecutionEngine(Executor taskExecutor, String user, String password, SpelCompilerMode spelCompilerMode) {
         return new DefaultExecutionEngine(
-            new StepDataEvaluator(spelFunctions),
+            new StepDataEvaluator(spelFunctions, new SpelExpressionCache(SpelExpressionCache.DEFAULT_MAXIMUM_SIZE, spelCompilerMode, SpelExpressionCache.DEFAULT_COMPILATION_THRESHOLD)),
             new StepExecutionStrategies(stepExecutionStrategies),
             new DelegationService(new DefaultStepExecutor(taskTemplateRegistry), new HttpClient(user, password)),
             reporter,
@@ -132,6 +155,18 @@ public class ExecutionConfiguration {
         return new EmbeddedTestEngine(executionEngine, reporter, new ExecutionManager(), tasksConfiguration);
     }
 
+    /**
+     * Strategies declaring a constructor taking an {@link ExecutorService} are given the pool of parallel steps.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T instantiateStrategy(Class<?> clazz) throws IllegalAccessException, InstantiationException, NoSuchMethodException, InvocationTargetException {
+        try {
+            return (T) clazz.getDeclaredConstructor(ExecutorService.class).newInstance(parallelStepsExecutor);
+        } catch (NoSuchMethodException e) {
+            return instantiate(clazz);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> T instantiate(Class<?> clazz) throws IllegalAccessException, InstantiationException, NoSuchMethodException, InvocationTargetException {
         return (T) clazz.getDeclaredConstructor().newInstance();
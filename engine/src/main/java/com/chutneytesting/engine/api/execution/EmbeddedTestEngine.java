@@ -40,6 +40,12 @@ public final class EmbeddedTestEngine implements TestEngine {
             .map(StepExecutionReportMapper::toDto);
     }
 
+    @Override
+    public Observable<StepExecutionReportDeltaDto> receiveNotificationDeltas(Long executionId) {
+        return reporter.subscribeOnExecutionDeltas(executionId)
+            .map(StepExecutionReportMapper::toDto);
+    }
+
     @Override
     public void pauseExecution(Long executionId) {
         executionManager.pauseExecution(executionId);
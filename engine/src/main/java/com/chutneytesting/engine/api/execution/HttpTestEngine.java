@@ -41,6 +41,11 @@ public class HttpTestEngine implements TestEngine {
         throw new IllegalArgumentException();
     }
 
+    @Override
+    public Observable<StepExecutionReportDeltaDto> receiveNotificationDeltas(Long executionId) {
+        throw new IllegalArgumentException();
+    }
+
     @Override
     public void pauseExecution(Long executionId) {
         throw new IllegalArgumentException();
@@ -0,0 +1,17 @@
+package com.chutneytesting.engine.api.execution;
+
+import java.util.List;
+
+public class StepExecutionReportDeltaDto {
+
+    public List<Integer> path;
+    public List<StepExecutionReportDto> spine;
+
+    public StepExecutionReportDeltaDto() {
+    }
+
+    public StepExecutionReportDeltaDto(List<Integer> path, List<StepExecutionReportDto> spine) {
+        this.path = path;
+        this.spine = spine;
+    }
+}
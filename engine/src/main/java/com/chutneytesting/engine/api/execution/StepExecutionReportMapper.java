@@ -4,6 +4,7 @@ import static java.util.Collections.EMPTY_MAP;
 
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import com.chutneytesting.engine.domain.execution.report.StepExecutionReportDelta;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -28,6 +29,13 @@ class StepExecutionReportMapper {
         );
     }
 
+    static StepExecutionReportDeltaDto toDto(StepExecutionReportDelta delta) {
+        return new StepExecutionReportDeltaDto(
+            delta.path,
+            delta.spine.stream().map(StepExecutionReportMapper::toDto).collect(Collectors.toList())
+        );
+    }
+
     static class StepContextMapper {
 
         @SuppressWarnings("unchecked")
@@ -10,6 +10,12 @@ public interface TestEngine {
 
     Observable<StepExecutionReportDto> receiveNotification(Long executionId);
 
+    /**
+     * Follow an execution step by step, each notification only holding the changed step and its ancestors.
+     * The first notification is a snapshot of the whole report.
+     */
+    Observable<StepExecutionReportDeltaDto> receiveNotificationDeltas(Long executionId);
+
     void pauseExecution(Long executionId);
 
     void resumeExecution(Long executionId);
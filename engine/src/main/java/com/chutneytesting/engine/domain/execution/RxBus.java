@@ -4,40 +4,123 @@ package com.chutneytesting.engine.domain.execution;
 import com.chutneytesting.engine.domain.execution.event.Event;
 import io.reactivex.Observable;
 import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
 import io.reactivex.functions.Consumer;
 import io.reactivex.subjects.PublishSubject;
 import io.reactivex.subjects.Subject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Synchronous event bus dispatching events by type and execution id.<br>
+ * Subscribers of one execution are held in a dedicated lane, so publishing an event only reaches subscribers of its type,
+ * either registered for all executions or for its execution.
+ * Events are delivered one at a time to subscribers of all executions, as well as to subscribers of the same execution.
+ * Events of different executions only wait for each other when subscribers of all executions listen to their type.
+ * <p>
+ * A failing subscriber does not prevent others from receiving the event, its exception is logged.
+ */
 public class RxBus {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RxBus.class);
     private static final RxBus INSTANCE = new RxBus();
 
     public static RxBus getInstance() {
         return INSTANCE;
     }
 
+    private final Lane globalLane = new Lane();
+    private final Map<Long, Lane> executionLanes = new ConcurrentHashMap<>();
     private final Subject<Object> bus = PublishSubject.create().toSerialized();
 
     public void post(Object event) {
-        bus.onNext(event);
+        // Lanes are dispatched one after the other, never holding both locks
+        globalLane.dispatch(event);
+        if (event instanceof Event) {
+            Lane executionLane = executionLanes.get(((Event) event).executionId());
+            if (executionLane != null) {
+                executionLane.dispatch(event);
+            }
+        }
+
+        if (bus.hasObservers()) {
+            bus.onNext(event);
+        }
     }
 
     public <T> Disposable register(final Class<T> eventClass, Consumer<T> onNext) {
-        return bus
-            .filter(event -> event.getClass().equals(eventClass))
-            .map(obj -> (T) obj)
-            .subscribe(onNext);
+        Consumer<Object> subscriber = castTo(eventClass, onNext);
+        globalLane.add(eventClass, subscriber);
+        return Disposables.fromAction(() -> globalLane.remove(eventClass, subscriber));
     }
 
     public <T extends Event> Disposable registerOnExecutionId(final Class<T> eventClass, long executionId, Consumer<? super Event> onNext) {
-        return bus
-            .filter(event -> event.getClass().equals(eventClass))
-            .map(obj -> (T) obj)
-            .filter(e -> e.executionId() == executionId)
-            .subscribe(onNext);
+        Consumer<Object> subscriber = castTo(eventClass, onNext);
+        executionLanes.compute(executionId, (id, lane) -> {
+            Lane executionLane = lane == null ? new Lane() : lane;
+            executionLane.add(eventClass, subscriber);
+            return executionLane;
+        });
+        return Disposables.fromAction(() ->
+            executionLanes.computeIfPresent(executionId, (id, lane) -> {
+                lane.remove(eventClass, subscriber);
+                return lane.isEmpty() ? null : lane;
+            })
+        );
     }
 
+    /**
+     * @return all posted events, for observers needing the whole stream
+     */
     public Observable<Object> toObservable() {
         return bus;
     }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Consumer<Object> castTo(Class<T> eventClass, Consumer<? super T> onNext) {
+        return event -> onNext.accept((T) event);
+    }
+
+    private static class Lane {
+
+        private final Map<Class<?>, List<Consumer<Object>>> subscribersByType = new ConcurrentHashMap<>();
+
+        private void add(Class<?> eventClass, Consumer<Object> subscriber) {
+            subscribersByType.computeIfAbsent(eventClass, c -> new CopyOnWriteArrayList<>()).add(subscriber);
+        }
+
+        private void remove(Class<?> eventClass, Consumer<Object> subscriber) {
+            subscribersByType.computeIfPresent(eventClass, (c, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+
+        private boolean isEmpty() {
+            return subscribersByType.isEmpty();
+        }
+
+        /**
+         * Subscribers are called one event at a time, lane being locked only when some listen to the event type.
+         */
+        private void dispatch(Object event) {
+            List<Consumer<Object>> subscribers = subscribersByType.get(event.getClass());
+            if (subscribers == null) {
+                return;
+            }
+            synchronized (this) {
+                for (Consumer<Object> subscriber : subscribers) {
+                    try {
+                        subscriber.accept(event);
+                    } catch (Throwable t) {
+                        LOGGER.error("Subscriber failed on event {}", event.getClass().getSimpleName(), t);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -7,19 +7,23 @@ import com.chutneytesting.engine.domain.execution.event.EndScenarioExecutionEven
 import com.chutneytesting.task.spi.FinallyAction;
 import com.chutneytesting.task.spi.injectable.TasksConfiguration;
 import io.reactivex.disposables.Disposable;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class ScenarioExecution {
 
-    private final List<FinallyAction> finallyActions = new ArrayList<>();
+    private final List<FinallyAction> finallyActions = new CopyOnWriteArrayList<>();
     private final TasksConfiguration taskConfiguration;
     public final long executionId;
 
-    private boolean pause = false;
-    private boolean stop = false;
+    private volatile boolean pause = false;
+    private volatile boolean stop = false;
+    private final Lock pauseLock = new ReentrantLock();
+    private final Condition resumed = pauseLock.newCondition();
 
     private Disposable endExecutionSubscriber;
 
@@ -55,13 +59,21 @@ public class ScenarioExecution {
         this.stop = false; // In case of a stopped scenario, we should set it to false in order to execute finally actions
     }
 
+    /**
+     * Park until resumed or stopped.<br>
+     * Waits on a lock condition rather than a monitor, so a virtual thread is unmounted while paused.
+     */
     public void waitForRestart() {
-        while (pause) {
-            try {
-                TimeUnit.SECONDS.sleep(1);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+        pauseLock.lock();
+        try {
+            while (pause && !stop) {
+                resumed.await();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            pauseLock.unlock();
         }
     }
 
@@ -79,10 +91,21 @@ public class ScenarioExecution {
 
     private void stop() {
         stop = true;
+        signalResumed();
     }
 
     private void resume() {
         pause = false;
+        signalResumed();
+    }
+
+    private void signalResumed() {
+        pauseLock.lock();
+        try {
+            resumed.signalAll();
+        } finally {
+            pauseLock.unlock();
+        }
     }
 
     public TasksConfiguration getTasksConfiguration() {
@@ -13,6 +13,7 @@ import com.chutneytesting.engine.domain.execution.engine.step.StepContext;
 import com.chutneytesting.task.domain.TaskTemplate;
 import com.chutneytesting.task.domain.TaskTemplateRegistry;
 import com.chutneytesting.task.domain.parameter.ParameterResolver;
+import com.chutneytesting.task.spi.AsyncTask;
 import com.chutneytesting.task.spi.Task;
 import com.chutneytesting.task.spi.TaskExecutionResult;
 import com.chutneytesting.task.spi.injectable.FinallyActionRegistry;
@@ -22,6 +23,8 @@ import com.chutneytesting.task.spi.injectable.TasksConfiguration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.slf4j.LoggerFactory;
 
 public class DefaultStepExecutor implements StepExecutor {
@@ -48,7 +51,7 @@ public class DefaultStepExecutor implements StepExecutor {
                 Task task = matchedTask.get().create(parameterResolvers);
                 List<String> errors = task.validateInputs();
                 if (errors.isEmpty()) {
-                    executionResult = task.execute();
+                    executionResult = execute(task);
                     updateStepFromTaskResult(step, executionResult);
                     updateStepContextFromTaskResult(stepContext, executionResult);
                 } else {
@@ -66,6 +69,26 @@ public class DefaultStepExecutor implements StepExecutor {
 
     }
 
+    /**
+     * Asynchronous tasks are waited for with a managed block, so when the engine runs on a {@link java.util.concurrent.ForkJoinPool},
+     * a waiting step does not count against engine parallelism, up to {@link EngineThreads#engineExecutor compensating threads} limit.
+     */
+    private TaskExecutionResult execute(Task task) throws Exception {
+        if (!(task instanceof AsyncTask)) {
+            return task.execute();
+        }
+        CompletableFuture<TaskExecutionResult> result = ((AsyncTask) task).executeAsync().toCompletableFuture();
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
     private void updateStepContextFromTaskResult(StepContext stepContext, TaskExecutionResult executionResult) {
         if (executionResult.status == TaskExecutionResult.Status.Success) {
             stepContext.addStepOutputs(executionResult.outputs);
@@ -0,0 +1,138 @@
+package com.chutneytesting.engine.domain.execution.engine;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Engine executors for each {@link ExecutionMode}.<br>
+ * Virtual threads are looked up at runtime, so the engine still runs on Java runtimes without them.
+ */
+public final class EngineThreads {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EngineThreads.class);
+
+    // Threads a pool adds while its steps wait in managed blocks, further waiting steps hold their thread
+    static final int MAX_COMPENSATING_THREADS = 256;
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method IS_VIRTUAL;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null, builderName = null, builderFactory = null, isVirtual = null, newThreadPerTaskExecutor = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            builderName = builder.getMethod("name", String.class, long.class);
+            builderFactory = builder.getMethod("factory");
+            isVirtual = Thread.class.getMethod("isVirtual");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        IS_VIRTUAL = isVirtual;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private EngineThreads() {
+    }
+
+    public static boolean virtualThreadsAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * @param threads pool size, unused for {@link ExecutionMode#VIRTUAL}
+     */
+    public static ExecutorService engineExecutor(ExecutionMode mode, int threads, String namePrefix) {
+        if (mode == ExecutionMode.VIRTUAL) {
+            if (virtualThreadsAvailable()) {
+                return virtualThreadPerTaskExecutor(namePrefix);
+            }
+            LOGGER.warn("Virtual threads are not available on Java {}, falling back to {} execution mode", Runtime.version().feature(), ExecutionMode.POOL);
+        }
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(namePrefix + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(threads, threadFactory, null, false,
+            0, threads + MAX_COMPENSATING_THREADS, 1, pool -> true, 60, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Sleep in a managed block.<br>
+     * On an engine fork join pool, a compensating thread runs other steps meanwhile. On a virtual thread, only the virtual thread parks.
+     */
+    public static void sleep(long millis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            @Override
+            public boolean block() throws InterruptedException {
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0) {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                }
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return deadline - System.nanoTime() <= 0;
+            }
+        });
+    }
+
+    /**
+     * @throws UnsupportedOperationException when virtual threads are not available
+     */
+    public static ExecutorService virtualThreadPerTaskExecutor(String namePrefix) {
+        if (!virtualThreadsAvailable()) {
+            throw new UnsupportedOperationException("Virtual threads are not available on Java " + Runtime.version().feature());
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, virtualThreadFactory(namePrefix));
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create virtual threads executor", e);
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException when virtual threads are not available
+     */
+    public static ThreadFactory virtualThreadFactory(String namePrefix) {
+        if (!virtualThreadsAvailable()) {
+            throw new UnsupportedOperationException("Virtual threads are not available on Java " + Runtime.version().feature());
+        }
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 0L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create virtual threads factory", e);
+        }
+    }
+
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invoke(thread);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.chutneytesting.engine.domain.execution.engine;
+
+import java.util.Locale;
+
+/**
+ * How scenarios are given threads.
+ */
+public enum ExecutionMode {
+    /**
+     * Bounded fork join pool, waiting on asynchronous tasks does not count against its threads.
+     */
+    POOL,
+    /**
+     * A virtual thread per scenario and per parallel branch, blocking steps only park their virtual thread.<br>
+     * Requires a Java runtime with virtual threads, {@link #POOL} is used otherwise.
+     */
+    VIRTUAL;
+
+    public static final String SYSTEM_PROPERTY = "chutney.engine.execution.mode";
+
+    public static ExecutionMode parse(String mode) {
+        return mode == null || mode.isBlank() ? POOL : valueOf(mode.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public static ExecutionMode fromSystemProperty() {
+        return parse(System.getProperty(SYSTEM_PROPERTY));
+    }
+}
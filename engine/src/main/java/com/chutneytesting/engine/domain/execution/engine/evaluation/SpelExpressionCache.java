@@ -0,0 +1,117 @@
+package com.chutneytesting.engine.domain.execution.engine.evaluation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Bounded and thread-safe cache of parsed SpEL expressions, keyed by expression text.<br>
+ * When built with {@link SpelCompilerMode#MIXED}, expressions evaluated more than {@link #compilationThreshold} times are compiled to bytecode.
+ * Compiled expressions fall back to interpretation when they cannot be run (ex. variable type change).
+ */
+public class SpelExpressionCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+    public static final int DEFAULT_COMPILATION_THRESHOLD = 10;
+
+    private final SpelExpressionParser parser;
+    private final SpelCompilerMode compilerMode;
+    private final int compilationThreshold;
+    private final Cache<String, CachedExpression> expressions;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder compilations = new LongAdder();
+    private final LongAdder compilationFailures = new LongAdder();
+
+    public SpelExpressionCache() {
+        this(DEFAULT_MAXIMUM_SIZE, SpelCompilerMode.OFF, DEFAULT_COMPILATION_THRESHOLD);
+    }
+
+    public SpelExpressionCache(long maximumSize, SpelCompilerMode compilerMode, int compilationThreshold) {
+        this.compilerMode = compilerMode;
+        this.compilationThreshold = compilationThreshold;
+        this.parser = new SpelExpressionParser(new SpelParserConfiguration(compilerMode, SpelExpressionCache.class.getClassLoader()));
+        this.expressions = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * @throws ParseException when expression is not valid, invalid expressions are not cached
+     */
+    public Expression get(String expressionAsString) throws ParseException {
+        CachedExpression cachedExpression = expressions.getIfPresent(expressionAsString);
+        if (cachedExpression == null) {
+            misses.increment();
+            cachedExpression = new CachedExpression(parser.parseExpression(expressionAsString));
+            expressions.put(expressionAsString, cachedExpression);
+        } else {
+            hits.increment();
+        }
+        return cachedExpression.use();
+    }
+
+    public Statistics statistics() {
+        return new Statistics(expressions.size(), hits.sum(), misses.sum(), compilations.sum(), compilationFailures.sum());
+    }
+
+    private class CachedExpression {
+        private final Expression expression;
+        private final AtomicInteger uses = new AtomicInteger();
+        private final AtomicBoolean compilationAttempted = new AtomicBoolean();
+
+        private CachedExpression(Expression expression) {
+            this.expression = expression;
+        }
+
+        private Expression use() {
+            if (compilerMode != SpelCompilerMode.OFF
+                && expression instanceof SpelExpression
+                && uses.incrementAndGet() > compilationThreshold
+                && compilationAttempted.compareAndSet(false, true)) {
+                if (((SpelExpression) expression).compileExpression()) {
+                    compilations.increment();
+                } else {
+                    compilationFailures.increment();
+                }
+            }
+            return expression;
+        }
+    }
+
+    public static class Statistics {
+        public final long size;
+        public final long hits;
+        public final long misses;
+        public final long compilations;
+        public final long compilationFailures;
+
+        public Statistics(long size, long hits, long misses, long compilations, long compilationFailures) {
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+            this.compilations = compilations;
+            this.compilationFailures = compilationFailures;
+        }
+
+        @Override
+        public String toString() {
+            return "SpelExpressionCache.Statistics{" +
+                "size=" + size +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", compilations=" + compilations +
+                ", compilationFailures=" + compilationFailures +
+                '}';
+        }
+    }
+}
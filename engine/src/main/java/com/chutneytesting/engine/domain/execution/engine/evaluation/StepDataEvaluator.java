@@ -6,6 +6,7 @@ import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -14,9 +15,9 @@ import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.MethodResolver;
 import org.springframework.expression.ParseException;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 public class StepDataEvaluator {
@@ -27,23 +28,29 @@ public class StepDataEvaluator {
     private static final Pattern EVALUATION_OBJECT_PATTERN = Pattern.compile("^(?:" + escapeForRegex(EVALUATION_STRING_ESCAPE) + ")?" + escapeForRegex(EVALUATION_STRING_PREFIX) + "(?:(?!" + escapeForRegex(EVALUATION_STRING_PREFIX) + ").)*" + escapeForRegex(EVALUATION_STRING_SUFFIX) + "$", Pattern.DOTALL);
 
 
-    private final SpelFunctions spelFunctions;
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private final SpelExpressionCache expressionCache;
+    private final Map<String, Object> functions;
+    private final List<MethodResolver> methodResolvers;
 
     public StepDataEvaluator(SpelFunctions spelFunctions) {
-        this.spelFunctions = spelFunctions;
+        this(spelFunctions, new SpelExpressionCache());
+    }
+
+    public StepDataEvaluator(SpelFunctions spelFunctions, SpelExpressionCache expressionCache) {
+        this.expressionCache = expressionCache;
+        this.functions = registerFunctions(spelFunctions);
+        this.methodResolvers = List.of(filteredMethodResolver());
+    }
+
+    public SpelExpressionCache.Statistics expressionCacheStatistics() {
+        return expressionCache.statistics();
     }
 
     public Map<String, Object> evaluateNamedDataWithContextVariables(final Map<String, Object> data, final Map<String, Object> contextVariables) throws EvaluationException {
         Map<String, Object> evaluatedNamedData = new LinkedHashMap<>();
 
-        StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
-        evaluationContext.registerMethodFilter(java.lang.Runtime.class, methods -> Collections.emptyList());
-        evaluationContext.registerMethodFilter(java.lang.ProcessBuilder.class, methods -> Collections.emptyList());
-
-        if (spelFunctions != null) {
-            spelFunctions.stream().forEach(f -> evaluationContext.registerFunction(f.getName(), f.getMethod()));
-        }
+        StandardEvaluationContext evaluationContext = new FunctionsEvaluationContext(functions);
+        evaluationContext.setMethodResolvers(methodResolvers);
         evaluationContext.setVariables(contextVariables);
 
         data.forEach(
@@ -62,9 +69,9 @@ public class StepDataEvaluator {
         if (object instanceof String) {
             String stringValue = (String) object;
             if (isObjectEvaluation(stringValue)) {
-                inputEvaluatedValue = Strings.replaceExpression(stringValue, s -> evaluate(parser, evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE);
+                inputEvaluatedValue = Strings.replaceExpression(stringValue, s -> evaluate(evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE);
             } else {
-                inputEvaluatedValue = Strings.replaceExpressions(stringValue, s -> evaluate(parser, evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE);
+                inputEvaluatedValue = Strings.replaceExpressions(stringValue, s -> evaluate(evaluationContext, s), EVALUATION_STRING_PREFIX, EVALUATION_STRING_SUFFIX, EVALUATION_STRING_ESCAPE);
             }
         } else if (object instanceof Map) {
             Map evaluatedMap = new LinkedHashMap();
@@ -97,8 +104,8 @@ public class StepDataEvaluator {
         return inputEvaluatedValue;
     }
 
-    private Object evaluate(ExpressionParser parser, final EvaluationContext evaluationContext, String expressionAsString) throws EvaluationException {
-        final Expression expression = parseExpression(parser, expressionAsString);
+    private Object evaluate(final EvaluationContext evaluationContext, String expressionAsString) throws EvaluationException {
+        final Expression expression = parseExpression(expressionAsString);
 
         try {
             Object result = expression.getValue(evaluationContext);
@@ -122,13 +129,45 @@ public class StepDataEvaluator {
         return EVALUATION_OBJECT_PATTERN.matcher(template.trim()).matches();
     }
 
-    private Expression parseExpression(ExpressionParser parser, String expressionAsString) {
+    private Expression parseExpression(String expressionAsString) {
         Expression expression;
         try {
-            expression = parser.parseExpression(expressionAsString);
+            expression = expressionCache.get(expressionAsString);
         } catch (ParseException e) {
             throw new EvaluationException("Cannot parse " + expressionAsString + " , " + e.getMessage(), e);
         }
         return expression;
     }
+
+    private static Map<String, Object> registerFunctions(SpelFunctions spelFunctions) {
+        Map<String, Object> functions = new HashMap<>();
+        if (spelFunctions != null) {
+            spelFunctions.stream().forEach(f -> functions.put(f.getName(), f.getMethod()));
+        }
+        return Collections.unmodifiableMap(functions);
+    }
+
+    private static MethodResolver filteredMethodResolver() {
+        ReflectiveMethodResolver methodResolver = new ReflectiveMethodResolver();
+        methodResolver.registerMethodFilter(java.lang.Runtime.class, methods -> Collections.emptyList());
+        methodResolver.registerMethodFilter(java.lang.ProcessBuilder.class, methods -> Collections.emptyList());
+        return methodResolver;
+    }
+
+    /**
+     * Evaluation context looking up functions in a registry shared by all evaluations, instead of registering them as variables each time.
+     */
+    private static class FunctionsEvaluationContext extends StandardEvaluationContext {
+        private final Map<String, Object> functions;
+
+        private FunctionsEvaluationContext(Map<String, Object> functions) {
+            this.functions = functions;
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            Object variable = super.lookupVariable(name);
+            return variable != null ? variable : functions.get(name);
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package com.chutneytesting.engine.domain.execution.engine.scenario;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link ScenarioContext} reading through a parent context which is never modified.<br>
+ * Writes are kept locally until {@link #mergeInto(Map)} is called, so concurrent branches of a scenario can share the same parent context.
+ * The parent context must not be modified while this context is in use.
+ */
+public class CopyOnWriteScenarioContext extends AbstractMap<String, Object> implements ScenarioContext {
+
+    private final Map<String, Object> parent;
+    private final Map<String, Object> written = new LinkedHashMap<>();
+    private final Set<String> removed = new HashSet<>();
+
+    public CopyOnWriteScenarioContext(Map<String, Object> parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (written.containsKey(key)) {
+            return written.get(key);
+        }
+        return removed.contains(key) ? null : parent.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return written.containsKey(key) || (!removed.contains(key) && parent.containsKey(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        removed.remove(key);
+        written.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        written.remove(key);
+        if (parent.containsKey(key)) {
+            removed.add((String) key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        written.clear();
+        removed.addAll(parent.keySet());
+    }
+
+    @Override
+    public int size() {
+        return merged().size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return Collections.unmodifiableMap(merged()).entrySet();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getOrDefault(String key, T defaultValue) {
+        return containsKey(key) ? (T) get(key) : defaultValue;
+    }
+
+    /**
+     * Apply local writes and removals on given context.
+     */
+    public void mergeInto(Map<String, Object> target) {
+        removed.forEach(target::remove);
+        target.putAll(written);
+    }
+
+    private Map<String, Object> merged() {
+        Map<String, Object> merged = new LinkedHashMap<>(parent);
+        removed.forEach(merged::remove);
+        merged.putAll(written);
+        return merged;
+    }
+}
@@ -0,0 +1,35 @@
+package com.chutneytesting.engine.domain.execution.report;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+/**
+ * Change of one step of an execution report.<br>
+ * {@link #path} holds the sub-step indexes leading from the root step to the changed step (empty for the root step itself).<br>
+ * {@link #spine} holds the reports of every step along this path, root first and changed step last.
+ * Reports of the spine are shallow (without sub-steps) unless their sub-steps must be (re)placed, as for a whole snapshot.
+ */
+public class StepExecutionReportDelta {
+
+    public final Long executionId;
+    public final List<Integer> path;
+    public final List<StepExecutionReport> spine;
+
+    public StepExecutionReportDelta(Long executionId, List<Integer> path, List<StepExecutionReport> spine) {
+        if (spine.size() != path.size() + 1) {
+            throw new IllegalArgumentException("Delta spine must contain one report per path element plus the root one");
+        }
+        this.executionId = executionId;
+        this.path = unmodifiableList(path);
+        this.spine = unmodifiableList(spine);
+    }
+
+    public static StepExecutionReportDelta snapshot(Long executionId, StepExecutionReport rootReport) {
+        return new StepExecutionReportDelta(executionId, List.of(), List.of(rootReport));
+    }
+
+    public boolean isSnapshot() {
+        return path.isEmpty() && !spine.get(0).steps.isEmpty();
+    }
+}
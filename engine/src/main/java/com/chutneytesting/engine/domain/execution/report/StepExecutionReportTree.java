@@ -0,0 +1,68 @@
+package com.chutneytesting.engine.domain.execution.report;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Execution report patched in place by {@link StepExecutionReportDelta deltas}.<br>
+ * Applying a delta only touches the steps along its path.
+ * Immutable reports are built on demand, reusing the ones of steps left unchanged since the previous {@link #snapshot()}.
+ */
+public class StepExecutionReportTree {
+
+    private StepExecutionReport report;
+    private final List<StepExecutionReportTree> steps = new ArrayList<>();
+    // Null when this step or one of its sub-steps changed since last built
+    private StepExecutionReport built;
+
+    public synchronized void apply(StepExecutionReportDelta delta) {
+        StepExecutionReportTree node = this;
+        node.patch(delta.spine.get(0));
+        for (int depth = 0; depth < delta.path.size(); depth++) {
+            int index = delta.path.get(depth);
+            if (index >= node.steps.size()) {
+                node.steps.add(new StepExecutionReportTree());
+                index = node.steps.size() - 1;
+            }
+            node = node.steps.get(index);
+            node.patch(delta.spine.get(depth + 1));
+        }
+    }
+
+    /**
+     * @return the current report, null if no delta has been applied yet
+     */
+    public synchronized StepExecutionReport snapshot() {
+        return report == null ? null : build();
+    }
+
+    private void patch(StepExecutionReport patch) {
+        report = patch;
+        built = null;
+        if (!patch.steps.isEmpty()) {
+            steps.clear();
+            for (StepExecutionReport subStep : patch.steps) {
+                StepExecutionReportTree node = new StepExecutionReportTree();
+                node.patch(subStep);
+                steps.add(node);
+            }
+        }
+    }
+
+    private StepExecutionReport build() {
+        if (built == null) {
+            if (steps.isEmpty()) {
+                built = report;
+            } else {
+                List<StepExecutionReport> subSteps = new ArrayList<>(steps.size());
+                for (StepExecutionReportTree step : steps) {
+                    subSteps.add(step.build());
+                }
+                built = new StepExecutionReportBuilder().from(report)
+                    .setSteps(subSteps)
+                    .createStepExecutionReport();
+            }
+        }
+        return built;
+    }
+}
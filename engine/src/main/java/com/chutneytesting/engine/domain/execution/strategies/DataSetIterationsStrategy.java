@@ -7,14 +7,32 @@ import com.chutneytesting.engine.domain.execution.report.Status;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Execute all dataset iterations, regardless of their status.
+ * <p>
+ * Strategy properties:
+ * - maxConcurrency : when greater than 1, iterations are executed concurrently as with {@link ParallelStepExecutionStrategy}.
+ * Iterations must then be independent from each other.
+ */
 public final class DataSetIterationsStrategy implements StepExecutionStrategy {
 
     public static final String TYPE = "dataset-iterations-strategy";
     private static final Logger LOGGER = LoggerFactory.getLogger(DataSetIterationsStrategy.class);
 
+    private final ExecutorService parallelStepsExecutor;
+
+    public DataSetIterationsStrategy() {
+        this(ParallelStepExecutionStrategy.defaultExecutor());
+    }
+
+    public DataSetIterationsStrategy(ExecutorService parallelStepsExecutor) {
+        this.parallelStepsExecutor = parallelStepsExecutor;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -25,6 +43,22 @@ public final class DataSetIterationsStrategy implements StepExecutionStrategy {
                           Step step,
                           ScenarioContext scenarioContext,
                           StepExecutionStrategies strategies) {
+        int maxConcurrency;
+        try {
+            maxConcurrency = ParallelStepExecutionStrategy.maxConcurrency(step, 1);
+        } catch (IllegalArgumentException e) {
+            step.failure(e);
+            return Status.FAILURE;
+        }
+        if (step.isParentStep() && maxConcurrency > 1) {
+            step.beginExecution(scenarioExecution);
+            try {
+                return Status.worst(ParallelStepExecutionStrategy.executeSubSteps(parallelStepsExecutor, scenarioExecution, step, scenarioContext, strategies, maxConcurrency, false));
+            } finally {
+                step.endExecution(scenarioExecution);
+            }
+        }
+
         if (step.isParentStep()) {
             List<Status> childrenStatus = new ArrayList<>();
             Iterator<Step> subStepsIterator = step.subSteps().iterator();
@@ -0,0 +1,225 @@
+package com.chutneytesting.engine.domain.execution.strategies;
+
+import static java.util.Optional.ofNullable;
+
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.engine.EngineThreads;
+import com.chutneytesting.engine.domain.execution.engine.scenario.CopyOnWriteScenarioContext;
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.execution.report.Status;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Execute sub-steps concurrently.
+ * <p>
+ * Strategy properties:
+ * - maxConcurrency : the maximum number of sub-steps executed at the same time, defaults to {@link #DEFAULT_MAX_CONCURRENCY}
+ * <p>
+ * Threads are taken from a pool shared by all parallel steps, given by the engine configuration which owns it.
+ * Strategies built without one share a default pool, sized by the {@value #THREADS_SYSTEM_PROPERTY} system property.
+ * Each sub-step runs with its own copy of the scenario context, on a virtual thread when the scenario runs on one.
+ * When all sub-steps are done, their context modifications are merged in sub-steps declaration order.
+ * As for sequential execution, sub-steps not yet started when one fails are not executed.
+ */
+public class ParallelStepExecutionStrategy implements StepExecutionStrategy {
+
+    public static final String TYPE = "parallel";
+    public static final String MAX_CONCURRENCY_PROPERTY = "maxConcurrency";
+    public static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    public static final String THREADS_SYSTEM_PROPERTY = "chutney.engine.parallel-steps.threads";
+    public static final int DEFAULT_THREADS = 50;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelStepExecutionStrategy.class);
+
+    // Shared by all parallel steps, maxConcurrency only bounds how many of its threads a step uses
+    private final ExecutorService executor;
+
+    public ParallelStepExecutionStrategy() {
+        this(defaultExecutor());
+    }
+
+    public ParallelStepExecutionStrategy(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public Status execute(ScenarioExecution scenarioExecution,
+                          Step step,
+                          ScenarioContext scenarioContext,
+                          StepExecutionStrategies strategies) {
+        if (step.isParentStep()) {
+            int maxConcurrency;
+            try {
+                maxConcurrency = maxConcurrency(step, DEFAULT_MAX_CONCURRENCY);
+            } catch (IllegalArgumentException e) {
+                step.failure(e);
+                return Status.FAILURE;
+            }
+            step.beginExecution(scenarioExecution);
+            try {
+                List<Status> childrenStatus = executeSubSteps(executor, scenarioExecution, step, scenarioContext, strategies, maxConcurrency, true);
+                return Status.worst(childrenStatus);
+            } finally {
+                step.endExecution(scenarioExecution);
+            }
+        }
+
+        return step.execute(scenarioExecution, scenarioContext);
+    }
+
+    /**
+     * Execute sub-steps of given step, each one with its own copy of the scenario context.<br>
+     * Sub-steps are taken in declaration order by the calling thread and up to maxConcurrency - 1 helpers submitted to given pool.
+     * Helpers still waiting for a thread when all sub-steps are taken are cancelled, so that nested parallel steps cannot starve the pool.
+     *
+     * @param failFast when true, sub-steps not started yet are skipped once a sub-step fails
+     * @return executed sub-steps statuses
+     */
+    static List<Status> executeSubSteps(ExecutorService executor,
+                                        ScenarioExecution scenarioExecution,
+                                        Step step,
+                                        ScenarioContext scenarioContext,
+                                        StepExecutionStrategies strategies,
+                                        int maxConcurrency,
+                                        boolean failFast) {
+        List<Step> subSteps = step.subSteps();
+        List<CopyOnWriteScenarioContext> branchesContexts = new ArrayList<>(subSteps.size());
+        subSteps.forEach(subStep -> branchesContexts.add(new CopyOnWriteScenarioContext(scenarioContext)));
+        Status[] branchesStatus = new Status[subSteps.size()];
+        AtomicInteger nextBranch = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean(false);
+
+        Runnable worker = () -> {
+            for (int i = nextBranch.getAndIncrement(); i < subSteps.size(); i = nextBranch.getAndIncrement()) {
+                if (failFast && failed.get()) {
+                    return;
+                }
+                Status status = executeBranch(scenarioExecution, subSteps.get(i), branchesContexts.get(i), strategies);
+                branchesStatus[i] = status;
+                if (status == Status.FAILURE) {
+                    failed.set(true);
+                }
+            }
+        };
+
+        ExecutorService branchesExecutor = branchesExecutor(executor);
+        int helpersCount = Math.min(maxConcurrency, subSteps.size()) - 1;
+        List<Future<?>> helpers = new ArrayList<>(Math.max(0, helpersCount));
+        for (int i = 0; i < helpersCount; i++) {
+            helpers.add(branchesExecutor.submit(worker));
+        }
+        worker.run();
+        helpers.forEach(ParallelStepExecutionStrategy::join);
+
+        List<Status> childrenStatus = new ArrayList<>(subSteps.size());
+        for (Status status : branchesStatus) {
+            ofNullable(status).ifPresent(childrenStatus::add);
+        }
+        branchesContexts.forEach(branchContext -> branchContext.mergeInto(scenarioContext));
+        return childrenStatus;
+    }
+
+    /**
+     * Branches of a scenario running on a virtual thread get their own virtual threads.
+     */
+    private static ExecutorService branchesExecutor(ExecutorService executor) {
+        if (EngineThreads.isVirtual(Thread.currentThread())) {
+            return VirtualBranchesExecutor.INSTANCE;
+        }
+        return executor;
+    }
+
+    private static Status executeBranch(ScenarioExecution scenarioExecution, Step subStep, ScenarioContext branchContext, StepExecutionStrategies strategies) {
+        try {
+            StepExecutionStrategy strategy = strategies.buildStrategyFrom(subStep);
+            return strategy.execute(scenarioExecution, subStep, branchContext, strategies);
+        } catch (RuntimeException e) {
+            subStep.failure(e);
+            LOGGER.warn("Intercepted exception!", e);
+            return Status.FAILURE;
+        }
+    }
+
+    private static void join(Future<?> helper) {
+        if (helper.cancel(false)) {
+            return;
+        }
+        try {
+            helper.get();
+        } catch (InterruptedException e) {
+            helper.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for parallel steps have been interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @return a pool for the sub-steps of all parallel steps, to be shut down by its owner
+     */
+    public static ExecutorService parallelStepsExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("parallel-step-%d").setDaemon(true).build()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    static ExecutorService defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    private static class DefaultExecutor {
+        private static final ExecutorService INSTANCE = parallelStepsExecutor(Integer.getInteger(THREADS_SYSTEM_PROPERTY, DEFAULT_THREADS));
+    }
+
+    private static class VirtualBranchesExecutor {
+        private static final ExecutorService INSTANCE = EngineThreads.virtualThreadPerTaskExecutor("parallel-step-");
+    }
+
+    /**
+     * @throws IllegalArgumentException when given step maxConcurrency property is not a positive integer
+     */
+    static int maxConcurrency(Step step, int defaultValue) {
+        return step.strategy()
+            .map(strategyDefinition -> strategyDefinition.strategyProperties.get(MAX_CONCURRENCY_PROPERTY))
+            .map(ParallelStepExecutionStrategy::parseMaxConcurrency)
+            .orElse(defaultValue);
+    }
+
+    private static int parseMaxConcurrency(Object value) {
+        int maxConcurrency;
+        try {
+            maxConcurrency = Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Strategy property " + MAX_CONCURRENCY_PROPERTY + " must be a positive integer, got: " + value);
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Strategy property " + MAX_CONCURRENCY_PROPERTY + " must be a positive integer, got: " + value);
+        }
+        return maxConcurrency;
+    }
+}
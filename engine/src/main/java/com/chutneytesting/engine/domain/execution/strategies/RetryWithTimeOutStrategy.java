@@ -1,13 +1,13 @@
 package com.chutneytesting.engine.domain.execution.strategies;
 
 import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.engine.EngineThreads;
 import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.task.spi.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Retry every retryDelay execution of a Step until success or until timeOut
@@ -73,7 +73,7 @@ public class RetryWithTimeOutStrategy implements StepExecutionStrategy {
             if (st == Status.FAILURE) {
                 try {
                     step.startWatch();
-                    TimeUnit.MILLISECONDS.sleep(retryDelayMs);
+                    EngineThreads.sleep(retryDelayMs);
                 } catch (InterruptedException e) {
                     throw new IllegalStateException("Sleeping between executions have been interrupted", e);
                 } finally {
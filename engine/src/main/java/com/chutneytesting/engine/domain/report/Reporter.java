@@ -3,6 +3,7 @@ package com.chutneytesting.engine.domain.report;
 
 import static com.chutneytesting.engine.domain.execution.report.Status.PAUSED;
 import static com.chutneytesting.engine.domain.execution.report.Status.RUNNING;
+import static java.util.Collections.emptyList;
 
 import com.chutneytesting.engine.domain.execution.RxBus;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
@@ -15,12 +16,17 @@ import com.chutneytesting.engine.domain.execution.event.StartScenarioExecutionEv
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReportBuilder;
+import com.chutneytesting.engine.domain.execution.report.StepExecutionReportDelta;
+import com.chutneytesting.engine.domain.execution.report.StepExecutionReportTree;
 import com.chutneytesting.engine.domain.execution.strategies.StepStrategyDefinition;
 import io.reactivex.Completable;
 import io.reactivex.Observable;
-import io.reactivex.Observer;
-import io.reactivex.subjects.ReplaySubject;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.PublishSubject;
 import io.reactivex.subjects.Subject;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,13 +37,17 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Publishes execution reports as {@link StepExecutionReportDelta}, one per step event.<br>
+ * A delta only holds the changed step and its ancestors, so publishing does not depend on the scenario size.
+ * Whole reports are materialized on demand, on subscription, and at scenario start and end.
+ */
 public class Reporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Reporter.class);
     private static final long DEFAULT_RETENTION_DELAY_SECONDS = 5;
 
-    private final Map<Long, Subject<StepExecutionReport>> reportsPublishers = new ConcurrentHashMap<>();
-    private final Map<Long, Step> rootSteps = new ConcurrentHashMap<>();
+    private final Map<Long, ExecutionReport> executionReports = new ConcurrentHashMap<>();
     private long retentionDelaySeconds;
 
     public Reporter() {
@@ -49,63 +59,87 @@ public class Reporter {
         busRegistration();
     }
 
+    /**
+     * @return materialized reports, one per step event
+     */
     public Observable<StepExecutionReport> subscribeOnExecution(Long executionId) {
+        return Observable.defer(() -> {
+            StepExecutionReportTree report = new StepExecutionReportTree();
+            return subscribeOnExecutionDeltas(executionId)
+                .map(delta -> {
+                    report.apply(delta);
+                    return report.snapshot();
+                });
+        });
+    }
+
+    /**
+     * @return deltas, one per step event, beginning with a snapshot of the current report if the execution is already started
+     */
+    public Observable<StepExecutionReportDelta> subscribeOnExecutionDeltas(Long executionId) {
         LOGGER.trace("Subscribe for execution {}", executionId);
-        return Optional.ofNullable((Observable<StepExecutionReport>) reportsPublishers.get(executionId))
+        return Optional.ofNullable(executionReports.get(executionId))
+            .map(ExecutionReport::deltas)
             .orElseGet(Observable::empty);
     }
 
+    /**
+     * @return the current materialized report of a known execution
+     */
+    public Optional<StepExecutionReport> snapshot(Long executionId) {
+        return Optional.ofNullable(executionReports.get(executionId))
+            .map(ExecutionReport::snapshot);
+    }
+
     public void setRetentionDelaySeconds(long retentionDelaySeconds) {
         this.retentionDelaySeconds = retentionDelaySeconds;
     }
 
     public void createPublisher(Long executionId, Step rootStep) {
         LOGGER.trace("Create publisher for execution {}", executionId);
-        reportsPublishers.put(executionId, ReplaySubject.<StepExecutionReport>createWithSize(1).toSerialized());
-        rootSteps.put(executionId, rootStep);
-        LOGGER.debug("Publishers map size : {}", reportsPublishers.size());
+        executionReports.put(executionId, new ExecutionReport(executionId, rootStep));
+        LOGGER.debug("Publishers map size : {}", executionReports.size());
     }
 
     private void storeRootStepAndPublishReport(StartScenarioExecutionEvent event) {
         LOGGER.trace("Store root step for execution {}", event.executionId());
-        rootSteps.put(event.executionId(), event.step);
-        publishReport(event);
+        doIfPublisherExists(event.executionId(), executionReport -> executionReport.start(event.step));
     }
 
-    private void publishReport(Event event) {
-        LOGGER.trace("Publish report for execution {}", event.executionId());
-        doIfPublisherExists(event.executionId(), (observer) -> observer.onNext(generateRunningReport(event.executionId())));
+    private void publishBeginReport(BeginStepExecutionEvent event) {
+        publishReport(event, event.step, event.step.isParentStep());
     }
 
-    private void publishLastReport(Event event) {
-        LOGGER.trace("Publish report for execution {}", event.executionId());
-        doIfPublisherExists(event.executionId(), (observer) -> observer.onNext(generateLastReport(event.executionId())));
+    private void publishEndReport(EndStepExecutionEvent event) {
+        publishReport(event, event.step, false);
     }
 
-    private void publishReportAndCompletePublisher(Event event) {
-        doIfPublisherExists(event.executionId(), (observer) -> {
-                publishLastReport(event);
-                completePublisher(event.executionId(), observer);
-            });
+    private void publishPauseReport(PauseStepExecutionEvent event) {
+        publishReport(event, event.step, false);
     }
 
-    private StepExecutionReport generateRunningReport(long executionId) {
-        final Status calculatedRootStepStatus = rootSteps.get(executionId).status();
-
-        final Status finalStatus;
-        if(!calculatedRootStepStatus.equals(RUNNING) && !calculatedRootStepStatus.equals(PAUSED)) {
-            finalStatus = RUNNING;
-        } else {
-            finalStatus = calculatedRootStepStatus;
-        }
-        return generateReport(rootSteps.get(executionId), s -> finalStatus);
+    private void publishReport(Event event, Step step, boolean withSubSteps) {
+        LOGGER.trace("Publish report for execution {}", event.executionId());
+        doIfPublisherExists(event.executionId(), executionReport -> executionReport.publish(step, withSubSteps));
     }
 
-    private StepExecutionReport generateLastReport(long executionId) {
-        return generateReport(rootSteps.get(executionId), s -> s.status());
+    private void publishReportAndCompletePublisher(EndScenarioExecutionEvent event) {
+        doIfPublisherExists(event.executionId(), executionReport -> {
+            LOGGER.trace("Publish report for execution {}", event.executionId());
+            executionReport.complete();
+            scheduleRemoval(event.executionId());
+        });
     }
 
     StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier) {
+        return generateReport(step, statusSupplier, step.subSteps().stream().map(subStep -> generateReport(subStep, Step::status)).collect(Collectors.toList()));
+    }
+
+    private StepExecutionReport generateShallowReport(Step step, Function<Step, Status> statusSupplier) {
+        return generateReport(step, statusSupplier, emptyList());
+    }
+
+    private StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier, List<StepExecutionReport> subStepsReports) {
         Step.StepContextImpl stepContext = step.stepContext();
         return new StepExecutionReportBuilder().setName(step.definition().name)
             .setDuration(step.duration().toMillis())
@@ -113,7 +147,7 @@ public class Reporter {
             .setStatus(statusSupplier.apply(step))
             .setInformation(step.informations())
             .setErrors(step.errors())
-            .setSteps(step.subSteps().stream().map(subStep -> generateReport(subStep, s -> s.status())).collect(Collectors.toList()))
+            .setSteps(subStepsReports)
             .setEvaluatedInputs(stepContext.getEvaluatedInputs())
             .setStepResults(stepContext.getStepOutputs())
             .setScenarioContext(stepContext.getScenarioContext())
@@ -123,38 +157,141 @@ public class Reporter {
             .createStepExecutionReport();
     }
 
+    private static Status runningRootStatus(Step rootStep) {
+        final Status calculatedRootStepStatus = rootStep.status();
+        if (!calculatedRootStepStatus.equals(RUNNING) && !calculatedRootStepStatus.equals(PAUSED)) {
+            return RUNNING;
+        }
+        return calculatedRootStepStatus;
+    }
+
     /* TODO mbb - hack - remove me when core module domain is decouple from lite-engine domain & API */
     private String guardNullStrategy(Optional<StepStrategyDefinition> strategy) {
         return strategy.map(stepStrategyDefinition -> stepStrategyDefinition.type).orElse(null);
     }
 
-    private void completePublisher(long executionId, Observer<StepExecutionReport> observer) {
+    private void scheduleRemoval(long executionId) {
         LOGGER.trace("Complete publisher for execution {}", executionId);
-        observer.onComplete();
         if (retentionDelaySeconds > 0) {
             Completable.timer(retentionDelaySeconds, TimeUnit.SECONDS)
                 .subscribe(() -> {
-                    rootSteps.remove(executionId);
-                    reportsPublishers.remove(executionId);
+                    executionReports.remove(executionId);
                     LOGGER.trace("Remove publisher for execution {}", executionId);
                 }, throwable -> LOGGER.error("Cannot remove publisher for execution {}", executionId, throwable));
         } else {
-            rootSteps.remove(executionId);
-            reportsPublishers.remove(executionId);
+            executionReports.remove(executionId);
         }
     }
 
-    private void doIfPublisherExists(long executionId, Consumer<Observer<StepExecutionReport>> consumer) {
-        Optional.ofNullable((Observer<StepExecutionReport>) reportsPublishers.get(executionId))
+    private void doIfPublisherExists(long executionId, Consumer<ExecutionReport> consumer) {
+        Optional.ofNullable(executionReports.get(executionId))
             .ifPresent(consumer);
     }
 
     private void busRegistration() {
         RxBus bus = RxBus.getInstance();
         bus.register(StartScenarioExecutionEvent.class, this::storeRootStepAndPublishReport);
-        bus.register(BeginStepExecutionEvent.class, this::publishReport);
-        bus.register(EndStepExecutionEvent.class, this::publishReport);
-        bus.register(PauseStepExecutionEvent.class, this::publishReport);
+        bus.register(BeginStepExecutionEvent.class, this::publishBeginReport);
+        bus.register(EndStepExecutionEvent.class, this::publishEndReport);
+        bus.register(PauseStepExecutionEvent.class, this::publishPauseReport);
         bus.register(EndScenarioExecutionEvent.class, this::publishReportAndCompletePublisher);
     }
+
+    /**
+     * Report state of one execution.<br>
+     * Publications and subscriptions are serialized on this instance so a subscriber never misses a delta published after its snapshot.
+     */
+    private class ExecutionReport {
+
+        private final long executionId;
+        private final Subject<StepExecutionReportDelta> publisher = PublishSubject.create();
+        private final Map<Step, List<Integer>> stepsPaths = new IdentityHashMap<>();
+        private Step rootStep;
+        private boolean started = false;
+        private boolean completed = false;
+
+        private ExecutionReport(long executionId, Step rootStep) {
+            this.executionId = executionId;
+            this.rootStep = rootStep;
+        }
+
+        private synchronized void start(Step rootStep) {
+            this.rootStep = rootStep;
+            this.started = true;
+            indexStepsPaths();
+            publisher.onNext(StepExecutionReportDelta.snapshot(executionId, generateReport(rootStep, s -> runningRootStatus(rootStep))));
+        }
+
+        private synchronized void publish(Step step, boolean withSubSteps) {
+            if (completed) {
+                return;
+            }
+            List<Integer> path = stepsPaths.get(step);
+            if (path == null) {
+                indexStepsPaths();
+                path = stepsPaths.get(step);
+                withSubSteps = true;
+            }
+            if (path == null) {
+                publisher.onNext(StepExecutionReportDelta.snapshot(executionId, snapshot()));
+            } else {
+                publisher.onNext(new StepExecutionReportDelta(executionId, path, spine(path, withSubSteps)));
+            }
+        }
+
+        private synchronized void complete() {
+            if (!completed) {
+                completed = true;
+                publisher.onNext(StepExecutionReportDelta.snapshot(executionId, generateReport(rootStep, Step::status)));
+                publisher.onComplete();
+            }
+        }
+
+        private synchronized StepExecutionReport snapshot() {
+            return completed ? generateReport(rootStep, Step::status) : generateReport(rootStep, s -> runningRootStatus(rootStep));
+        }
+
+        private Observable<StepExecutionReportDelta> deltas() {
+            return Observable.create(emitter -> {
+                synchronized (this) {
+                    if (started) {
+                        emitter.onNext(StepExecutionReportDelta.snapshot(executionId, snapshot()));
+                    }
+                    Disposable subscription = publisher.subscribe(emitter::onNext, emitter::onError, emitter::onComplete);
+                    emitter.setDisposable(subscription);
+                }
+            });
+        }
+
+        private List<StepExecutionReport> spine(List<Integer> path, boolean withSubSteps) {
+            List<StepExecutionReport> spine = new ArrayList<>(path.size() + 1);
+            spine.add(generateShallowReport(rootStep, s -> runningRootStatus(rootStep)));
+            Step current = rootStep;
+            for (int i = 0; i < path.size(); i++) {
+                current = current.subSteps().get(path.get(i));
+                boolean changedStep = i == path.size() - 1;
+                spine.add(changedStep && withSubSteps ? generateReport(current, Step::status) : generateShallowReport(current, Step::status));
+            }
+            if (path.isEmpty() && withSubSteps) {
+                spine.set(0, generateReport(rootStep, s -> runningRootStatus(rootStep)));
+            }
+            return spine;
+        }
+
+        private void indexStepsPaths() {
+            stepsPaths.clear();
+            indexStepsPaths(rootStep, List.of());
+        }
+
+        private void indexStepsPaths(Step step, List<Integer> path) {
+            stepsPaths.put(step, path);
+            List<Step> subSteps = step.subSteps();
+            for (int i = 0; i < subSteps.size(); i++) {
+                List<Integer> subStepPath = new ArrayList<>(path.size() + 1);
+                subStepPath.addAll(path);
+                subStepPath.add(i);
+                indexStepsPaths(subSteps.get(i), subStepPath);
+            }
+        }
+    }
 }
@@ -13,13 +13,20 @@ public class TaskTemplateParserV2 implements TaskTemplateParser<Task> {
     private static final String CLASS_NAME_TASK_SUFFIX = "Task";
     private static final Converter<String, String> CAMEL_TO_HYPHEN_CONVERTER = CaseFormat.UPPER_CAMEL.converterTo(CaseFormat.LOWER_HYPHEN);
 
+    /**
+     * Tasks are instantiated through their public constructor, other ones are left to tests, e.g. to inject collaborators.
+     */
     @Override
     public ResultOrError<TaskTemplate, ParsingError> parse(Class<? extends Task> taskClass) {
-        if (taskClass.getDeclaredConstructors().length > 1) {
+        Constructor<?>[] constructors = taskClass.getConstructors();
+        if (constructors.length == 0) {
+            constructors = taskClass.getDeclaredConstructors();
+        }
+        if (constructors.length > 1) {
             return ResultOrError.error(new ParsingError(taskClass, "More than one constructor"));
         }
         String taskName = computeTaskName(taskClass);
-        Constructor<? extends Task> constructor = (Constructor<? extends Task>) taskClass.getDeclaredConstructors()[0];
+        Constructor<? extends Task> constructor = (Constructor<? extends Task>) constructors[0];
         List<Parameter> parameters = extractParameters(constructor);
         return ResultOrError.result(new TaskTemplateV2(taskName, taskClass, constructor, parameters));
     }
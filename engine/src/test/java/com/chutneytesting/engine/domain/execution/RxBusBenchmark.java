@@ -0,0 +1,112 @@
+package com.chutneytesting.engine.domain.execution;
+
+import com.chutneytesting.engine.domain.execution.action.PauseExecutionAction;
+import com.chutneytesting.engine.domain.execution.action.ResumeExecutionAction;
+import com.chutneytesting.engine.domain.execution.action.StopExecutionAction;
+import com.chutneytesting.engine.domain.execution.event.Event;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare event publication cost of {@link RxBus} with the former single subject bus, as concurrent executions grow.<br>
+ * Each execution registers the same subscribers as a {@link ScenarioExecution}.
+ * <p>
+ * Run with main method from test classpath.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RxBusBenchmark {
+
+    @Param({"1", "50", "500"})
+    public int executions;
+
+    private RxBus rxBus;
+    private SubjectBus subjectBus;
+
+    @Setup
+    public void setUp() {
+        rxBus = new RxBus();
+        subjectBus = new SubjectBus();
+        for (long executionId = 0; executionId < executions; executionId++) {
+            registerExecution(executionId);
+        }
+    }
+
+    @Benchmark
+    public void rxBus(Blackhole blackhole) {
+        rxBus.post(new PauseExecutionAction(randomExecutionId()));
+        blackhole.consume(rxBus);
+    }
+
+    @Benchmark
+    public void subjectBus(Blackhole blackhole) {
+        subjectBus.post(new PauseExecutionAction(randomExecutionId()));
+        blackhole.consume(subjectBus);
+    }
+
+    private long randomExecutionId() {
+        return ThreadLocalRandom.current().nextLong(executions);
+    }
+
+    private void registerExecution(long executionId) {
+        rxBus.registerOnExecutionId(PauseExecutionAction.class, executionId, e -> {});
+        rxBus.registerOnExecutionId(StopExecutionAction.class, executionId, e -> {});
+        rxBus.registerOnExecutionId(ResumeExecutionAction.class, executionId, e -> {});
+        subjectBus.registerOnExecutionId(PauseExecutionAction.class, executionId, e -> {});
+        subjectBus.registerOnExecutionId(StopExecutionAction.class, executionId, e -> {});
+        subjectBus.registerOnExecutionId(ResumeExecutionAction.class, executionId, e -> {});
+    }
+
+    /**
+     * Former {@link RxBus} implementation, filtering every event for every subscriber.
+     */
+    private static class SubjectBus {
+
+        private final Subject<Object> bus = PublishSubject.create().toSerialized();
+
+        private void post(Object event) {
+            bus.onNext(event);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends Event> Disposable registerOnExecutionId(final Class<T> eventClass, long executionId, Consumer<? super Event> onNext) {
+            return bus
+                .filter(event -> event.getClass().equals(eventClass))
+                .map(obj -> (T) obj)
+                .filter(e -> e.executionId() == executionId)
+                .subscribe(onNext);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RxBusBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
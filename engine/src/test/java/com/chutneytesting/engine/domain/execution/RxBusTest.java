@@ -0,0 +1,87 @@
+package com.chutneytesting.engine.domain.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.chutneytesting.engine.domain.execution.action.PauseExecutionAction;
+import com.chutneytesting.engine.domain.execution.action.StopExecutionAction;
+import com.chutneytesting.engine.domain.execution.event.Event;
+import io.reactivex.disposables.Disposable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class RxBusTest {
+
+    private final RxBus sut = new RxBus();
+
+    @Test
+    public void should_dispatch_events_by_type_and_execution_id() {
+        List<Event> executionEvents = new ArrayList<>();
+        List<PauseExecutionAction> allPauseEvents = new ArrayList<>();
+        sut.registerOnExecutionId(PauseExecutionAction.class, 1L, executionEvents::add);
+        sut.register(PauseExecutionAction.class, allPauseEvents::add);
+
+        sut.post(new PauseExecutionAction(1L));
+        sut.post(new PauseExecutionAction(2L));
+        sut.post(new StopExecutionAction(1L));
+
+        assertThat(executionEvents).singleElement().extracting(Event::executionId).isEqualTo(1L);
+        assertThat(allPauseEvents).extracting(Event::executionId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void should_not_dispatch_events_after_disposal() {
+        List<Event> events = new ArrayList<>();
+        Disposable disposable = sut.registerOnExecutionId(PauseExecutionAction.class, 1L, events::add);
+
+        disposable.dispose();
+        sut.post(new PauseExecutionAction(1L));
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void should_dispatch_to_others_when_a_subscriber_fails() {
+        List<Event> events = new ArrayList<>();
+        sut.registerOnExecutionId(PauseExecutionAction.class, 1L, e -> {
+            throw new IllegalStateException();
+        });
+        sut.registerOnExecutionId(PauseExecutionAction.class, 1L, events::add);
+
+        assertThatCode(() -> sut.post(new PauseExecutionAction(1L))).doesNotThrowAnyException();
+        assertThatCode(() -> sut.post(new PauseExecutionAction(1L))).doesNotThrowAnyException();
+
+        assertThat(events).hasSize(2);
+    }
+
+    @Test
+    public void should_deliver_events_one_at_a_time_to_subscribers_of_all_executions() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        sut.register(PauseExecutionAction.class, e -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            running.decrementAndGet();
+        });
+        sut.register(StopExecutionAction.class, e -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            running.decrementAndGet();
+        });
+
+        ExecutorService posters = Executors.newFixedThreadPool(4);
+        for (long executionId = 0; executionId < 40; executionId++) {
+            long id = executionId;
+            posters.execute(() -> sut.post(id % 2 == 0 ? new PauseExecutionAction(id) : new StopExecutionAction(id)));
+        }
+        posters.shutdown();
+        assertThat(posters.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+}
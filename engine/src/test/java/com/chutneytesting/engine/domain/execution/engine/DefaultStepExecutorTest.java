@@ -4,7 +4,9 @@ import static com.chutneytesting.engine.domain.execution.ScenarioExecution.creat
 import static com.chutneytesting.task.spi.TaskExecutionResult.ok;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.Optional.of;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -19,8 +21,11 @@ import com.chutneytesting.task.TestTaskTemplateFactory.ComplexTask;
 import com.chutneytesting.task.domain.TaskTemplate;
 import com.chutneytesting.task.domain.TaskTemplateParserV2;
 import com.chutneytesting.task.domain.TaskTemplateRegistry;
+import com.chutneytesting.task.spi.AsyncTask;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.Test;
 
 public class DefaultStepExecutorTest {
@@ -97,4 +102,45 @@ public class DefaultStepExecutorTest {
 
         verify(step, times(0)).failure(any(Exception.class));
     }
+
+    @Test
+    public void should_wait_for_async_task_result() {
+        TaskTemplateRegistry taskTemplateRegistry = mock(TaskTemplateRegistry.class);
+        TaskTemplate taskTemplate = mock(TaskTemplate.class);
+        AsyncTask task = mock(AsyncTask.class);
+        when(taskTemplate.create(any())).thenReturn(task);
+        when(task.validateInputs()).thenReturn(emptyList());
+        Executor after50ms = CompletableFuture.delayedExecutor(50, MILLISECONDS);
+        when(task.executeAsync()).thenReturn(CompletableFuture.supplyAsync(() -> ok("waited", true), after50ms));
+        when(taskTemplateRegistry.getByIdentifier(any())).thenReturn(of(taskTemplate));
+        Step step = mock(Step.class, RETURNS_DEEP_STUBS);
+
+        StepContext stepContext = mock(StepContext.class, RETURNS_DEEP_STUBS);
+
+        StepExecutor stepExecutor = new DefaultStepExecutor(taskTemplateRegistry);
+        stepExecutor.execute(createScenarioExecution(null), stepContext, mock(TargetImpl.class), step);
+
+        verify(task, times(0)).execute();
+        verify(step, times(1)).success();
+        verify(stepContext, times(1)).addStepOutputs(singletonMap("waited", true));
+    }
+
+    @Test
+    public void should_fail_step_with_message_on_async_task_error() {
+        TaskTemplateRegistry taskTemplateRegistry = mock(TaskTemplateRegistry.class);
+        TaskTemplate taskTemplate = mock(TaskTemplate.class);
+        AsyncTask task = mock(AsyncTask.class);
+        when(taskTemplate.create(any())).thenReturn(task);
+        when(task.validateInputs()).thenReturn(emptyList());
+        when(task.executeAsync()).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("no message received")));
+        when(taskTemplateRegistry.getByIdentifier(any())).thenReturn(of(taskTemplate));
+        Step step = mock(Step.class, RETURNS_DEEP_STUBS);
+
+        StepContext stepContext = mock(StepContext.class);
+
+        StepExecutor stepExecutor = new DefaultStepExecutor(taskTemplateRegistry);
+        stepExecutor.execute(createScenarioExecution(null), stepContext, mock(TargetImpl.class), step);
+
+        verify(step, times(1)).failure("Task [null] failed: no message received");
+    }
 }
@@ -0,0 +1,51 @@
+package com.chutneytesting.engine.domain.execution.engine;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+public class EngineThreadsTest {
+
+    @Test
+    public void should_bound_compensating_threads_of_waiting_steps() throws Exception {
+        int threads = 2;
+        int maxThreads = threads + EngineThreads.MAX_COMPENSATING_THREADS;
+        int steps = maxThreads + 10;
+        ExecutorService executor = EngineThreads.engineExecutor(ExecutionMode.POOL, threads, "engine-test-");
+        try {
+            CompletableFuture<Void> taskResult = new CompletableFuture<>();
+            CountDownLatch waiting = new CountDownLatch(maxThreads);
+            CountDownLatch done = new CountDownLatch(steps);
+            for (int i = 0; i < steps; i++) {
+                executor.execute(() -> {
+                    waiting.countDown();
+                    taskResult.join();
+                    done.countDown();
+                });
+            }
+
+            assertThat(waiting.await(10, SECONDS)).isTrue();
+            assertThat(((ForkJoinPool) executor).getPoolSize()).isLessThanOrEqualTo(maxThreads);
+
+            taskResult.complete(null);
+
+            assertThat(done.await(10, SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void should_sleep_outside_fork_join_pool() throws InterruptedException {
+        long start = System.nanoTime();
+
+        EngineThreads.sleep(50);
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(50_000_000L);
+    }
+}
@@ -0,0 +1,121 @@
+package com.chutneytesting.engine.domain.execution.engine;
+
+import com.chutneytesting.ExecutionConfiguration;
+import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
+import com.chutneytesting.engine.api.execution.ExecutionRequestDto.StepDefinitionRequestDto;
+import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
+import com.chutneytesting.engine.api.execution.TestEngine;
+import com.chutneytesting.task.domain.TaskTemplate;
+import com.chutneytesting.task.domain.TaskTemplateParserV2;
+import com.chutneytesting.task.spi.Task;
+import com.chutneytesting.task.spi.TaskExecutionResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measure the time to run a batch of concurrent scenarios made of blocking I/O steps, for each {@link ExecutionMode}.<br>
+ * Each scenario has three steps blocking their thread for 100ms, so a batch lasts about 300ms when all scenarios run concurrently.
+ * <p>
+ * Virtual mode needs a Java runtime with virtual threads, it falls back to pool mode otherwise.
+ * <p>
+ * Run with main method from test classpath.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutionModeBenchmark {
+
+    private static final int POOL_THREADS = 20;
+
+    @Param({"POOL", "VIRTUAL"})
+    public ExecutionMode mode;
+
+    @Param({"1000", "5000"})
+    public int scenarios;
+
+    private ExecutorService executor;
+    private TestEngine testEngine;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        executor = EngineThreads.engineExecutor(mode, POOL_THREADS, "benchmark-engine-");
+        // Reports are kept long enough to be read once the whole batch is submitted
+        ExecutionConfiguration executionConfiguration = new ExecutionConfiguration(300L, executor, Collections.emptyMap(), null, null);
+        TaskTemplate taskTemplate = new TaskTemplateParserV2().parse(BlockingIoTask.class).result();
+        ((Map<String, TaskTemplate>) ReflectionTestUtils.getField(executionConfiguration.taskTemplateRegistry(), "taskTemplatesByType"))
+            .put("blocking-io", taskTemplate);
+        testEngine = executionConfiguration.embeddedTestEngine();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<StepExecutionReportDto> concurrentScenarios() {
+        List<Long> executionIds = new ArrayList<>(scenarios);
+        for (int i = 0; i < scenarios; i++) {
+            executionIds.add(testEngine.executeAsync(new ExecutionRequestDto(scenario())));
+        }
+        List<StepExecutionReportDto> reports = new ArrayList<>(scenarios);
+        executionIds.forEach(executionId -> reports.add(testEngine.receiveNotification(executionId).blockingLast()));
+        return reports;
+    }
+
+    private static StepDefinitionRequestDto scenario() {
+        List<StepDefinitionRequestDto> steps = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            steps.add(new StepDefinitionRequestDto("io " + i, null, null, "blocking-io", Collections.emptyMap(), null, Collections.emptyMap(), Collections.emptyMap(), ""));
+        }
+        return new StepDefinitionRequestDto("scenario", null, null, null, Collections.emptyMap(), steps, Collections.emptyMap(), Collections.emptyMap(), "");
+    }
+
+    public static class BlockingIoTask implements Task {
+
+        public BlockingIoTask() {
+        }
+
+        @Override
+        public TaskExecutionResult execute() {
+            try {
+                TimeUnit.MILLISECONDS.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return TaskExecutionResult.ko();
+            }
+            return TaskExecutionResult.ok();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ExecutionModeBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
@@ -1,14 +1,18 @@
 package com.chutneytesting.engine.domain.execution.engine;
 
 import static com.chutneytesting.engine.domain.execution.RxBus.getInstance;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.awaitility.Awaitility.await;
 
 import com.chutneytesting.engine.domain.execution.ScenarioExecution;
 import com.chutneytesting.engine.domain.execution.action.PauseExecutionAction;
 import com.chutneytesting.engine.domain.execution.action.ResumeExecutionAction;
 import com.chutneytesting.engine.domain.execution.action.StopExecutionAction;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
 
 public class ScenarioExecutionTest {
@@ -45,4 +49,23 @@ public class ScenarioExecutionTest {
             }
         );
     }
+
+    @Test
+    public void paused_execution_should_wait_until_resumed_or_stopped() {
+        ScenarioExecution resumedExecution = ScenarioExecution.createScenarioExecution(null);
+        ScenarioExecution stoppedExecution = ScenarioExecution.createScenarioExecution(null);
+        getInstance().post(new PauseExecutionAction(resumedExecution.executionId));
+        getInstance().post(new PauseExecutionAction(stoppedExecution.executionId));
+        await().atMost(1, SECONDS).until(() -> resumedExecution.hasToPause() && stoppedExecution.hasToPause());
+
+        CompletableFuture<Void> resumedWait = CompletableFuture.runAsync(resumedExecution::waitForRestart);
+        CompletableFuture<Void> stoppedWait = CompletableFuture.runAsync(stoppedExecution::waitForRestart);
+        assertThat(catchThrowable(() -> resumedWait.get(200, MILLISECONDS))).isInstanceOf(TimeoutException.class);
+        assertThat(stoppedWait).isNotDone();
+
+        getInstance().post(new ResumeExecutionAction(resumedExecution.executionId));
+        getInstance().post(new StopExecutionAction(stoppedExecution.executionId));
+
+        await().atMost(1, SECONDS).until(() -> resumedWait.isDone() && stoppedWait.isDone());
+    }
 }
@@ -0,0 +1,66 @@
+package com.chutneytesting.engine.domain.execution.engine.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+public class SpelExpressionCacheTest {
+
+    @Test
+    public void should_parse_expression_once() {
+        SpelExpressionCache sut = new SpelExpressionCache();
+
+        Expression first = sut.get("#a + #b");
+        Expression second = sut.get("#a + #b");
+        sut.get("#a - #b");
+
+        assertThat(second).isSameAs(first);
+        SpelExpressionCache.Statistics statistics = sut.statistics();
+        assertThat(statistics.size).isEqualTo(2);
+        assertThat(statistics.hits).isEqualTo(1);
+        assertThat(statistics.misses).isEqualTo(2);
+        assertThat(statistics.compilations).isZero();
+    }
+
+    @Test
+    public void should_be_bounded() {
+        SpelExpressionCache sut = new SpelExpressionCache(10, SpelCompilerMode.OFF, 0);
+
+        for (int i = 0; i < 100; i++) {
+            sut.get("#a + " + i);
+        }
+
+        assertThat(sut.statistics().size).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    public void should_not_cache_invalid_expression() {
+        SpelExpressionCache sut = new SpelExpressionCache();
+
+        assertThatThrownBy(() -> sut.get("#a +")).isInstanceOf(ParseException.class);
+        assertThatThrownBy(() -> sut.get("#a +")).isInstanceOf(ParseException.class);
+
+        assertThat(sut.statistics().size).isZero();
+        assertThat(sut.statistics().misses).isEqualTo(2);
+    }
+
+    @Test
+    public void should_compile_hot_expression_in_mixed_mode() {
+        SpelExpressionCache sut = new SpelExpressionCache(10, SpelCompilerMode.MIXED, 3);
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariables(Map.of("a", 2, "b", 3));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(sut.get("#a * #b").getValue(context)).isEqualTo(6);
+        }
+
+        assertThat(sut.statistics().compilations).isEqualTo(1);
+        assertThat(sut.statistics().compilationFailures).isZero();
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.expression.spel.SpelCompilerMode;
 
 @SuppressWarnings("unchecked")
 public class StepDataEvaluatorTest {
@@ -152,6 +153,40 @@ public class StepDataEvaluatorTest {
             .isInstanceOf(com.chutneytesting.engine.domain.execution.engine.evaluation.EvaluationException.class);
     }
 
+    @ParameterizedTest()
+    @ValueSource(strings = {
+        "${T(java.lang.Runtime).getRuntime().exec(\"echo I_c4n_5cr3w_Y0ur_1if3\")}",
+        "${new java.lang.ProcessBuilder({\"whoami\"}).start()}"
+    })
+    public void should_prevent_malicious_use_of_spel_with_compiled_expressions(String magicSpel) {
+        StepDataEvaluator compilingSut = new StepDataEvaluator(new SpelFunctions(), new SpelExpressionCache(10, SpelCompilerMode.MIXED, 1));
+        Map<String, Object> inputs = Map.of("MaliciousInjection", magicSpel);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() ->
+                compilingSut.evaluateNamedDataWithContextVariables(inputs, new ScenarioContextImpl())
+            )
+                .isInstanceOf(com.chutneytesting.engine.domain.execution.engine.evaluation.EvaluationException.class);
+        }
+    }
+
+    @Test
+    public void should_reuse_parsed_expressions_between_evaluations() {
+        StepDataEvaluator compilingSut = new StepDataEvaluator(new SpelFunctions(), new SpelExpressionCache(10, SpelCompilerMode.MIXED, 2));
+        ScenarioContextImpl scenarioContext = new ScenarioContextImpl();
+        scenarioContext.put("variable", "value");
+
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> evaluatedInputs = compilingSut.evaluateNamedDataWithContextVariables(Map.of("input", "${#variable.toUpperCase()}"), scenarioContext);
+            assertThat(evaluatedInputs.get("input")).isEqualTo("VALUE");
+        }
+
+        SpelExpressionCache.Statistics statistics = compilingSut.expressionCacheStatistics();
+        assertThat(statistics.misses).isEqualTo(1);
+        assertThat(statistics.hits).isEqualTo(4);
+        assertThat(statistics.compilations).isEqualTo(1);
+    }
+
     @Test
     public void should_not_prevent_legit_use_of_spel() {
         // Given
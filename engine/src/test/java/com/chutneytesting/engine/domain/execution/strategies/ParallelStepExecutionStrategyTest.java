@@ -0,0 +1,194 @@
+package com.chutneytesting.engine.domain.execution.strategies;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContextImpl;
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.execution.report.Status;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+
+public class ParallelStepExecutionStrategyTest {
+
+    private final ExecutorService executor = ParallelStepExecutionStrategy.parallelStepsExecutor(4);
+    private final StepExecutionStrategy sut = new ParallelStepExecutionStrategy(executor);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_run_substeps_concurrently() {
+        // Given
+        CountDownLatch latch = new CountDownLatch(2);
+        Step firstStep = mock(Step.class);
+        when(firstStep.execute(any(), any())).then(invocation -> awaitOthers(latch));
+        Step secondStep = mock(Step.class);
+        when(secondStep.execute(any(), any())).then(invocation -> awaitOthers(latch));
+
+        Step rootStep = parentStep(2, firstStep, secondStep);
+
+        // When
+        Status actualStatus = sut.execute(null, rootStep, new ScenarioContextImpl(), defaultStrategies());
+
+        // Then
+        assertThat(actualStatus).isEqualTo(Status.SUCCESS);
+    }
+
+    @Test
+    public void should_not_run_more_substeps_than_max_concurrency_at_once() {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch firstStepsLatch = new CountDownLatch(2);
+        Step[] subSteps = new Step[6];
+        for (int i = 0; i < subSteps.length; i++) {
+            subSteps[i] = mock(Step.class);
+            when(subSteps[i].execute(any(), any())).then(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                // First two sub-steps wait for each other, next ones find the latch open
+                Status status = awaitOthers(firstStepsLatch);
+                running.decrementAndGet();
+                return status;
+            });
+        }
+
+        Step rootStep = parentStep(2, subSteps);
+
+        // When
+        Status actualStatus = sut.execute(null, rootStep, new ScenarioContextImpl(), defaultStrategies());
+
+        // Then
+        assertThat(actualStatus).isEqualTo(Status.SUCCESS);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        for (Step subStep : subSteps) {
+            verify(subStep).execute(any(), any());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"two", "0", "-1"})
+    public void should_fail_step_when_max_concurrency_is_not_a_positive_integer(String maxConcurrency) {
+        // Given
+        Step subStep = mock(Step.class);
+        Step rootStep = parentStep(maxConcurrency, subStep);
+
+        // When
+        Status actualStatus = sut.execute(null, rootStep, new ScenarioContextImpl(), defaultStrategies());
+
+        // Then
+        assertThat(actualStatus).isEqualTo(Status.FAILURE);
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(rootStep).failure(failure.capture());
+        assertThat(failure.getValue()).hasMessageContaining(ParallelStepExecutionStrategy.MAX_CONCURRENCY_PROPERTY).hasMessageContaining(maxConcurrency);
+        verify(subStep, never()).execute(any(), any());
+    }
+
+    @Test
+    public void should_merge_substeps_outputs_in_declaration_order() {
+        // Given
+        Step firstStep = mock(Step.class);
+        when(firstStep.execute(any(), any())).then(invocation -> {
+            ScenarioContext context = invocation.getArgument(1);
+            context.put("first", "value");
+            context.put("shared", "first");
+            return Status.SUCCESS;
+        });
+        Step secondStep = mock(Step.class);
+        when(secondStep.execute(any(), any())).then(invocation -> {
+            ScenarioContext context = invocation.getArgument(1);
+            assertThat(context).doesNotContainKey("first");
+            context.put("shared", "second");
+            return Status.SUCCESS;
+        });
+
+        Step rootStep = parentStep(2, firstStep, secondStep);
+        ScenarioContext scenarioContext = new ScenarioContextImpl();
+
+        // When
+        Status actualStatus = sut.execute(null, rootStep, scenarioContext, defaultStrategies());
+
+        // Then
+        assertThat(actualStatus).isEqualTo(Status.SUCCESS);
+        assertThat(scenarioContext).containsEntry("first", "value");
+        assertThat(scenarioContext).containsEntry("shared", "second");
+    }
+
+    @Test
+    public void should_fail_and_report_exception_when_substep_throws() {
+        // Given
+        Step failureStep = mock(Step.class);
+        RuntimeException exception = new RuntimeException();
+        when(failureStep.execute(any(), any())).thenThrow(exception);
+        Step successStep = mock(Step.class);
+        when(successStep.execute(any(), any())).thenReturn(Status.SUCCESS);
+
+        Step rootStep = parentStep(1, failureStep, successStep);
+
+        // When
+        Status actualStatus = sut.execute(null, rootStep, new ScenarioContextImpl(), defaultStrategies());
+
+        // Then
+        verify(failureStep).failure(exception);
+        assertThat(actualStatus).isEqualTo(Status.FAILURE);
+    }
+
+    @Test
+    public void should_soften_substeps_failures_with_soft_assert() {
+        // Given
+        Step failureStep = mock(Step.class);
+        when(failureStep.execute(any(), any())).thenReturn(Status.FAILURE);
+        Step successStep = mock(Step.class);
+        when(successStep.execute(any(), any())).thenReturn(Status.SUCCESS);
+
+        Step rootStep = parentStep(2, failureStep, successStep);
+
+        StepExecutionStrategies strategies = mock(StepExecutionStrategies.class);
+        when(strategies.buildStrategyFrom(failureStep)).thenReturn(new SoftAssertStrategy());
+        when(strategies.buildStrategyFrom(successStep)).thenReturn(DefaultStepExecutionStrategy.instance);
+
+        // When
+        Status actualStatus = sut.execute(null, rootStep, new ScenarioContextImpl(), strategies);
+
+        // Then
+        verify(failureStep).execute(any(), any());
+        verify(successStep).execute(any(), any());
+        assertThat(actualStatus).isEqualTo(Status.WARN);
+    }
+
+    private Step parentStep(Object maxConcurrency, Step... subSteps) {
+        StrategyProperties strategyProperties = new StrategyProperties().setProperty(ParallelStepExecutionStrategy.MAX_CONCURRENCY_PROPERTY, maxConcurrency);
+        Step rootStep = mock(Step.class);
+        when(rootStep.subSteps()).thenReturn(newArrayList(subSteps));
+        when(rootStep.isParentStep()).thenReturn(true);
+        when(rootStep.strategy()).thenReturn(Optional.of(new StepStrategyDefinition(ParallelStepExecutionStrategy.TYPE, strategyProperties)));
+        return rootStep;
+    }
+
+    private StepExecutionStrategies defaultStrategies() {
+        StepExecutionStrategies strategies = mock(StepExecutionStrategies.class);
+        when(strategies.buildStrategyFrom(any())).thenReturn(DefaultStepExecutionStrategy.instance);
+        return strategies;
+    }
+
+    private static Status awaitOthers(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        return latch.await(5, TimeUnit.SECONDS) ? Status.SUCCESS : Status.FAILURE;
+    }
+}
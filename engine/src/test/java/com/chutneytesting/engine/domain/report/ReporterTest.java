@@ -21,6 +21,7 @@ import com.chutneytesting.engine.domain.execution.event.EndScenarioExecutionEven
 import com.chutneytesting.engine.domain.execution.event.StartScenarioExecutionEvent;
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import com.chutneytesting.engine.domain.execution.report.StepExecutionReportDelta;
 import com.chutneytesting.task.spi.injectable.Target;
 import io.reactivex.observers.TestObserver;
 import java.util.ArrayList;
@@ -177,6 +178,78 @@ public class ReporterTest {
         assertThat(step.status()).isEqualTo(SUCCESS);
     }
 
+    @Test
+    public void should_publish_deltas_of_changed_step_only() {
+        Step subStep1 = step.subSteps().get(0);
+        Step subStep11 = step.subSteps().get(0).subSteps().get(0);
+
+        sut.createPublisher(scenarioExecution.executionId, step);
+        TestObserver<StepExecutionReportDelta> observer = sut.subscribeOnExecutionDeltas(scenarioExecution.executionId).test();
+        RxBus.getInstance().post(new StartScenarioExecutionEvent(scenarioExecution, step));
+        step.beginExecution(scenarioExecution);
+        subStep1.beginExecution(scenarioExecution);
+        subStep11.beginExecution(scenarioExecution);
+        subStep11.success();
+        subStep11.endExecution(scenarioExecution);
+
+        observer.awaitCount(5);
+        List<StepExecutionReportDelta> deltas = observer.values();
+        assertThat(deltas.get(0).isSnapshot()).isTrue();
+        assertThat(deltas.get(0).spine.get(0).steps).hasSize(2);
+
+        StepExecutionReportDelta lastDelta = deltas.get(4);
+        assertThat(lastDelta.path).containsExactly(0, 0);
+        assertThat(lastDelta.spine).extracting(r -> r.name).containsExactly("fakeScenario", "fakeParentStep", "fakeStep1");
+        assertThat(lastDelta.spine).allMatch(r -> r.steps.isEmpty());
+        assertThat(lastDelta.spine.get(0).status).isEqualTo(RUNNING);
+        assertThat(lastDelta.spine.get(2).status).isEqualTo(SUCCESS);
+
+        observer.dispose();
+    }
+
+    @Test
+    public void applied_deltas_should_materialize_same_report_as_full_generation() {
+        sut.createPublisher(scenarioExecution.executionId, step);
+        TestObserver<StepExecutionReport> observer = sut.subscribeOnExecution(scenarioExecution.executionId).test();
+
+        executeFakeScenarioSuccess();
+
+        observer.awaitCount(10);
+        observer.assertComplete();
+        StepExecutionReport beforeLastReport = observer.values().get(8);
+        assertThat(beforeLastReport.status).isEqualTo(RUNNING);
+        assertThat(beforeLastReport.steps.get(0).status).isEqualTo(SUCCESS);
+        assertThat(beforeLastReport.steps.get(0).steps).extracting(r -> r.status).containsExactly(SUCCESS, SUCCESS);
+        assertThat(beforeLastReport.steps.get(1).status).isEqualTo(Status.NOT_EXECUTED);
+
+        StepExecutionReport fullReport = sut.generateReport(step, Step::status);
+        StepExecutionReport lastReport = observer.values().get(9);
+        assertThat(lastReport).usingRecursiveComparison().ignoringFieldsMatchingRegexes(".*startDate", ".*duration").isEqualTo(fullReport);
+        assertThat(sut.snapshot(scenarioExecution.executionId)).isPresent();
+
+        observer.dispose();
+    }
+
+    @Test
+    public void late_subscriber_should_receive_snapshot_then_deltas() {
+        Step subStep1 = step.subSteps().get(0);
+
+        sut.createPublisher(scenarioExecution.executionId, step);
+        RxBus.getInstance().post(new StartScenarioExecutionEvent(scenarioExecution, step));
+        step.beginExecution(scenarioExecution);
+        subStep1.beginExecution(scenarioExecution);
+
+        TestObserver<StepExecutionReportDelta> observer = sut.subscribeOnExecutionDeltas(scenarioExecution.executionId).test();
+        subStep1.endExecution(scenarioExecution);
+
+        observer.awaitCount(2);
+        assertThat(observer.values().get(0).isSnapshot()).isTrue();
+        assertThat(observer.values().get(0).spine.get(0).steps.get(0).status).isEqualTo(RUNNING);
+        assertThat(observer.values().get(1).path).containsExactly(0);
+
+        observer.dispose();
+    }
+
     private Step buildFakeScenario() {
         final String environment = "";
         List<StepDefinition> subSubSteps = new ArrayList<>();
@@ -130,6 +130,20 @@ public abstract class TestTaskTemplateFactory {
         }
     }
 
+    public static class TestConstructorTask implements Task {
+
+        public TestConstructorTask(String someString) {
+        }
+
+        TestConstructorTask(String someString, String someString2) {
+        }
+
+        @Override
+        public TaskExecutionResult execute() {
+            return TaskExecutionResult.ok();
+        }
+    }
+
     public static class SuccessTask implements Task {
 
         @Override
@@ -3,6 +3,7 @@ package com.chutneytesting.task.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.chutneytesting.task.TestTaskTemplateFactory.ComplexTask;
+import com.chutneytesting.task.TestTaskTemplateFactory.TestConstructorTask;
 import com.chutneytesting.task.TestTaskTemplateFactory.TwoConstructorTask;
 import com.chutneytesting.task.TestTaskTemplateFactory.TwoParametersTask;
 import com.chutneytesting.task.TestTaskTemplateFactory.ValidSimpleTask;
@@ -53,4 +54,12 @@ public class TaskTemplateParserV2Test {
         assertThat(parsingResult.isError()).isTrue();
         assertThat(parsingResult.error().errorMessage()).isEqualTo("More than one constructor");
     }
+
+    @Test
+    public void task_with_non_public_test_constructor() {
+        ResultOrError<TaskTemplate, ParsingError> parsingResult = parser.parse(TestConstructorTask.class);
+
+        assertThat(parsingResult.isOk()).isTrue();
+        assertThat(parsingResult.result().parameters()).hasSize(1);
+    }
 }
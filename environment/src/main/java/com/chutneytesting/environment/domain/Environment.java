@@ -7,8 +7,10 @@ import static java.util.Optional.ofNullable;
 import com.chutneytesting.environment.domain.exception.AlreadyExistingTargetException;
 import com.chutneytesting.environment.domain.exception.TargetNotFoundException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -18,11 +20,15 @@ public class Environment {
     public final String name;
     public final String description;
     public final List<Target> targets; // TODO change to Set
+    private final Map<String, Target> targetsByName;
 
     private Environment(String name, String description, List<Target> targets) {
         this.name = name;
         this.description = description;
         this.targets = targets;
+        Map<String, Target> targetsByName = new HashMap<>();
+        targets.forEach(t -> targetsByName.putIfAbsent(t.name, t));
+        this.targetsByName = targetsByName;
     }
 
     public static EnvironmentBuilder builder() {
@@ -45,9 +51,7 @@ public class Environment {
     }
 
     Target getTarget(String targetName) {
-        return targets.stream()
-            .filter(t -> t.name.equals(targetName))
-            .findFirst()
+        return Optional.ofNullable(targetsByName.get(targetName))
             .orElseThrow(() -> new TargetNotFoundException("Target [" + targetName + "] not found in environment [" + name + "]"));
     }
 
@@ -8,6 +8,7 @@ import com.chutneytesting.environment.domain.exception.CannotDeleteEnvironmentEx
 import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
 import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameException;
 import com.chutneytesting.tools.file.FileUtils;
+import com.chutneytesting.tools.file.WatchedDirectoryCache;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -17,10 +18,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
+/**
+ * Environments are parsed once and kept in memory until their file changes.<br>
+ * Cached environments are invalidated on save and delete, and by a directory watcher for edits made outside of this repository.
+ */
+public class JsonFilesEnvironmentRepository implements EnvironmentRepository, AutoCloseable {
 
     static final Path ROOT_DIRECTORY_NAME = Paths.get("environment");
     private static final String JSON_FILE_EXT = ".json";
@@ -31,18 +37,30 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
         .enable(SerializationFeature.INDENT_OUTPUT)
         .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
 
+    private final WatchedDirectoryCache<String, Environment> environments;
+
     public JsonFilesEnvironmentRepository(String storeFolderPath) throws UncheckedIOException {
         this.storeFolderPath = Paths.get(storeFolderPath).resolve(ROOT_DIRECTORY_NAME).toAbsolutePath();
         initFolder(this.storeFolderPath);
+        this.environments = new WatchedDirectoryCache<>(this.storeFolderPath, "environments-watcher",
+            changed -> isJsonFile(changed) ? Optional.of(FileUtils.getNameWithoutExtension(changed)) : Optional.empty());
     }
 
     @Override
     public synchronized void save(Environment environment) throws UnsupportedOperationException, InvalidEnvironmentNameException {
-        doSave(environment);
+        try {
+            doSave(environment);
+        } finally {
+            environments.invalidate(environment.name);
+        }
     }
 
     @Override
     public Environment findByName(String name) throws EnvironmentNotFoundException {
+        return environments.get(name, this::readEnvironment);
+    }
+
+    private Environment readEnvironment(String name) throws EnvironmentNotFoundException {
         Path environmentPath = getEnvironmentPath(name);
         if (!Files.exists(environmentPath)) {
             throw new EnvironmentNotFoundException("Configuration file not found: " + environmentPath);
@@ -75,7 +93,7 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
     }
 
     @Override
-    public void delete(String name) {
+    public synchronized void delete(String name) {
         Path environmentPath = getEnvironmentPath(name);
         if (!Files.exists(environmentPath)) {
             throw new EnvironmentNotFoundException("Configuration file not found: " + environmentPath);
@@ -85,9 +103,16 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
             Files.move(environmentPath, backupPath);
         } catch (IOException e) {
             throw new CannotDeleteEnvironmentException("Cannot delete configuration file: " + environmentPath, e);
+        } finally {
+            environments.invalidate(name);
         }
     }
 
+    @Override
+    public void close() {
+        environments.close();
+    }
+
     private void doSave(Environment environment) {
         Path environmentPath = getEnvironmentPath(environment.name);
         try {
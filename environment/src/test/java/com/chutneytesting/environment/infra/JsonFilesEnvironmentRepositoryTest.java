@@ -1,37 +1,39 @@
 package com.chutneytesting.environment.infra;
 
 import static com.chutneytesting.environment.infra.JsonFilesEnvironmentRepository.ROOT_DIRECTORY_NAME;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 import com.chutneytesting.environment.domain.Environment;
-import com.chutneytesting.environment.domain.EnvironmentRepository;
 import com.chutneytesting.environment.domain.SecurityInfo;
 import com.chutneytesting.environment.domain.Target;
 import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
-import com.chutneytesting.tools.ThrowingConsumer;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Collections;
-import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class JsonFilesEnvironmentRepositoryTest {
 
-    private static final Path CONFIGURATION_FOLDER = Paths.get("target", "conf");
+    @TempDir
+    Path configurationFolder;
 
-    private final EnvironmentRepository sut = new JsonFilesEnvironmentRepository(CONFIGURATION_FOLDER.toString());
+    private JsonFilesEnvironmentRepository sut;
+
+    @BeforeEach
+    public void setUp() {
+        sut = new JsonFilesEnvironmentRepository(configurationFolder.toString());
+    }
 
     @AfterEach
     public void after() {
-        try (Stream<Path> confStream = Files.list(CONFIGURATION_FOLDER.resolve(ROOT_DIRECTORY_NAME))) {
-            confStream.forEach(ThrowingConsumer.toUnchecked(Files::delete));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        sut.close();
     }
 
     @Test
@@ -101,4 +103,27 @@ public class JsonFilesEnvironmentRepositoryTest {
             .isInstanceOf(EnvironmentNotFoundException.class);
     }
 
+    @Test
+    public void environment_is_parsed_once_until_saved_again() {
+        sut.save(Environment.builder().withName("TEST").withDescription("some description").build());
+
+        Environment environment = sut.findByName("TEST");
+        assertThat(sut.findByName("TEST")).isSameAs(environment);
+
+        sut.save(Environment.builder().withName("TEST").withDescription("some other description").build());
+
+        assertThat(sut.findByName("TEST").description).isEqualTo("some other description");
+    }
+
+    @Test
+    public void environment_edited_outside_of_repository_is_read_again() throws IOException {
+        sut.save(Environment.builder().withName("TEST").withDescription("some description").build());
+        assertThat(sut.findByName("TEST").description).isEqualTo("some description");
+
+        Files.write(configurationFolder.resolve(ROOT_DIRECTORY_NAME).resolve("TEST.json"), "{\"name\": \"TEST\", \"description\": \"edited by hand\"}".getBytes());
+
+        await().atMost(15, SECONDS).untilAsserted(() ->
+            assertThat(sut.findByName("TEST").description).isEqualTo("edited by hand")
+        );
+    }
 }
@@ -9,6 +9,8 @@ import com.chutneytesting.design.domain.editionlock.TestCaseEditionsService;
 import com.chutneytesting.design.domain.plugins.jira.JiraRepository;
 import com.chutneytesting.design.domain.scenario.TestCaseRepository;
 import com.chutneytesting.engine.api.execution.TestEngine;
+import com.chutneytesting.engine.domain.execution.engine.EngineThreads;
+import com.chutneytesting.engine.domain.execution.engine.ExecutionMode;
 import com.chutneytesting.execution.domain.campaign.CampaignExecutionEngine;
 import com.chutneytesting.execution.domain.compiler.TestCasePreProcessor;
 import com.chutneytesting.execution.domain.compiler.TestCasePreProcessors;
@@ -29,6 +31,7 @@ import java.net.UnknownHostException;
 import java.time.Clock;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -48,10 +51,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
@@ -79,9 +84,16 @@ public class ServerConfiguration implements AsyncConfigurer {
     public static final String ENGINE_DELEGATION_PASSWORD_SPRING_VALUE = "${chutney.engine.delegation.password:#{null}}";
     public static final String EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE = "${chutney.execution.async.publisher.ttl:5}";
     public static final String EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE = "${chutney.execution.async.publisher.debounce:250}";
+    public static final String EXECUTION_REPORT_COMPRESSION_SPRING_VALUE = "${chutney.execution.report.compression.enabled:false}";
+    public static final String EXECUTION_REPORT_COMPRESSION_BATCH_SPRING_VALUE = "${chutney.execution.report.compression.migration-batch-size:100}";
     public static final String CAMPAIGNS_THREAD_SPRING_VALUE = "${chutney.campaigns.thread:20}";
+    public static final String CAMPAIGNS_PARALLELISM_SPRING_VALUE = "${chutney.campaigns.parallelism:10}";
     public static final String ENGINE_THREAD_SPRING_VALUE = "${chutney.scenarios.thread:20}";
+    public static final String ENGINE_EXECUTION_MODE_SPRING_VALUE = "${chutney.engine.execution.mode:pool}";
+    public static final String ENGINE_SPEL_COMPILER_MODE_SPRING_VALUE = "${chutney.engine.spel.compiler-mode:off}";
     public static final String AGENTNETWORK_CONNECTION_CHECK_TIMEOUT_SPRING_VALUE = "${chutney.agentnetwork.connection-checker-timeout:1000}";
+    public static final String AGENTNETWORK_EXPLORATION_THREAD_SPRING_VALUE = "${chutney.agentnetwork.exploration-thread:20}";
+    public static final String AGENTNETWORK_EXPLORATION_TIMEOUT_SPRING_VALUE = "${chutney.agentnetwork.exploration-timeout:120000}";
     public static final String LOCALAGENT_DEFAULTNAME_SPRING_VALUE = "${chutney.localAgent.defaultName:#{null}}";
     public static final String LOCALAGENT_DEFAULTHOSTNAME_SPRING_VALUE = "${chutney.localAgent.defaultHostName:#{null}}";
     public static final String EXAMPLES_ACTIVE_SPRING_VALUE = "${chutney.examples.active:false}";
@@ -105,26 +117,41 @@ public class ServerConfiguration implements AsyncConfigurer {
         };
     }
 
-    @Bean
-    public TaskExecutor engineExecutor(@Value(ENGINE_THREAD_SPRING_VALUE) Integer threadForEngine) {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(threadForEngine);
-        executor.setMaxPoolSize(threadForEngine);
+    /**
+     * Scenarios threads, shut down with the context.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService engineExecutorService(@Value(ENGINE_THREAD_SPRING_VALUE) Integer threadForEngine,
+                                                 @Value(ENGINE_EXECUTION_MODE_SPRING_VALUE) String executionMode) {
+        ExecutorService executorService = EngineThreads.engineExecutor(ExecutionMode.parse(executionMode), threadForEngine, "engine-executor");
+        LOGGER.debug("Pool for engine created with size {} in {} mode", threadForEngine, executionMode);
+        return executorService;
+    }
 
-        executor.setThreadNamePrefix("engine-executor");
-        executor.initialize();
-        LOGGER.debug("Pool for engine created with size {}", threadForEngine);
-        return executor;
+    @Bean
+    public TaskExecutor engineExecutor(ExecutorService engineExecutorService) {
+        return new ConcurrentTaskExecutor(engineExecutorService);
     }
 
+    /**
+     * In {@link ExecutionMode#VIRTUAL} mode, campaigns still run at most threadForCampaigns at a time, each one on a virtual thread.
+     */
     @Bean
-    public TaskExecutor campaignExecutor(@Value(CAMPAIGNS_THREAD_SPRING_VALUE) Integer threadForCampaigns) {
+    public TaskExecutor campaignExecutor(@Value(CAMPAIGNS_THREAD_SPRING_VALUE) Integer threadForCampaigns,
+                                         @Value(ENGINE_EXECUTION_MODE_SPRING_VALUE) String executionMode) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(threadForCampaigns);
         executor.setMaxPoolSize(threadForCampaigns);
         executor.setThreadNamePrefix("campaign-executor");
+        if (ExecutionMode.parse(executionMode) == ExecutionMode.VIRTUAL) {
+            if (EngineThreads.virtualThreadsAvailable()) {
+                executor.setThreadFactory(EngineThreads.virtualThreadFactory("campaign-executor"));
+            } else {
+                LOGGER.warn("Virtual threads are not available, campaigns run on platform threads");
+            }
+        }
         executor.initialize();
-        LOGGER.debug("Pool for campaigns created with size {}", threadForCampaigns);
+        LOGGER.debug("Pool for campaigns created with size {} in {} mode", threadForCampaigns, executionMode);
         return executor;
     }
 
@@ -134,11 +161,13 @@ public class ServerConfiguration implements AsyncConfigurer {
         Executor engineExecutor,
         @Value(TASK_SQL_NB_LOGGED_ROW) String nbLoggedRow,
         @Value(ENGINE_DELEGATION_USER_SPRING_VALUE) String delegateUser,
-        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePasword
+        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePasword,
+        @Value(ENGINE_SPEL_COMPILER_MODE_SPRING_VALUE) String spelCompilerMode
     ) {
         Map<String, String> tasksConfiguration = new HashMap<>();
         tasksConfiguration.put(CONFIGURABLE_NB_LOGGED_ROW, nbLoggedRow);
-        return new ExecutionConfiguration(reporterTTL, engineExecutor, tasksConfiguration, delegateUser, delegatePasword);
+        LOGGER.debug("SpEL expressions compiler mode is {}", spelCompilerMode);
+        return new ExecutionConfiguration(reporterTTL, engineExecutor, tasksConfiguration, delegateUser, delegatePasword, SpelCompilerMode.valueOf(spelCompilerMode.trim().toUpperCase(Locale.ROOT)));
     }
 
     @Bean
@@ -194,7 +223,9 @@ public class ServerConfiguration implements AsyncConfigurer {
                                                     DataSetHistoryRepository dataSetHistoryRepository,
                                                     JiraXrayPlugin jiraXrayPlugin,
                                                     ChutneyMetrics metrics,
-                                                    TaskExecutor campaignExecutor) {
+                                                    TaskExecutor campaignExecutor,
+                                                    @Value(CAMPAIGNS_THREAD_SPRING_VALUE) Integer threadForCampaigns,
+                                                    @Value(CAMPAIGNS_PARALLELISM_SPRING_VALUE) Integer campaignParallelism) {
         return new CampaignExecutionEngine(
             campaignRepository,
             scenarioExecutionEngine,
@@ -203,7 +234,9 @@ public class ServerConfiguration implements AsyncConfigurer {
             dataSetHistoryRepository,
             jiraXrayPlugin,
             metrics,
-            new ExecutorServiceAdapter(campaignExecutor)
+            new ExecutorServiceAdapter(campaignExecutor),
+            threadForCampaigns,
+            campaignParallelism
         );
     }
 
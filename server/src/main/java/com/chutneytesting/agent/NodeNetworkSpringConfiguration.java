@@ -1,5 +1,7 @@
 package com.chutneytesting.agent;
 
+import static com.chutneytesting.ServerConfiguration.AGENTNETWORK_EXPLORATION_THREAD_SPRING_VALUE;
+import static com.chutneytesting.ServerConfiguration.AGENTNETWORK_EXPLORATION_TIMEOUT_SPRING_VALUE;
 import static com.chutneytesting.ServerConfiguration.LOCALAGENT_DEFAULTHOSTNAME_SPRING_VALUE;
 import static com.chutneytesting.ServerConfiguration.LOCALAGENT_DEFAULTNAME_SPRING_VALUE;
 import static com.chutneytesting.ServerConfiguration.SERVER_PORT_SPRING_VALUE;
@@ -13,6 +15,7 @@ import com.chutneytesting.agent.domain.explore.CurrentNetworkDescription;
 import com.chutneytesting.agent.domain.explore.ExploreAgentsService;
 import com.chutneytesting.engine.domain.delegation.ConnectionChecker;
 import com.chutneytesting.environment.domain.EnvironmentRepository;
+import com.chutneytesting.instrument.domain.ChutneyMetrics;
 import com.chutneytesting.tools.ui.MyMixInForIgnoreType;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,7 +29,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -64,16 +69,32 @@ public class NodeNetworkSpringConfiguration {
         return restTemplate;
     }
 
+    @Bean
+    public TaskExecutor agentNetworkExplorationExecutor(@Value(AGENTNETWORK_EXPLORATION_THREAD_SPRING_VALUE) Integer threadForExploration) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadForExploration);
+        executor.setMaxPoolSize(threadForExploration);
+        executor.setThreadNamePrefix("agent-network-exploration");
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     ExploreAgentsService agentNetwork(Explorations explorations,
                                       AgentClient agentClient,
                                       ConnectionChecker connectionChecker,
-                                      LocalServerIdentifier localServerIdentifier) {
+                                      LocalServerIdentifier localServerIdentifier,
+                                      ChutneyMetrics metrics,
+                                      TaskExecutor agentNetworkExplorationExecutor,
+                                      @Value(AGENTNETWORK_EXPLORATION_TIMEOUT_SPRING_VALUE) long explorationTimeoutMs) {
         return new ExploreAgentsService(
             explorations,
             agentClient,
             connectionChecker,
-            localServerIdentifier);
+            localServerIdentifier,
+            metrics,
+            agentNetworkExplorationExecutor,
+            explorationTimeoutMs);
     }
 
 
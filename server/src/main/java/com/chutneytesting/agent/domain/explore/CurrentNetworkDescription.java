@@ -1,10 +1,19 @@
 package com.chutneytesting.agent.domain.explore;
 
 import com.chutneytesting.admin.domain.Backupable;
+import com.chutneytesting.agent.domain.network.AgentRoutes;
 import com.chutneytesting.agent.domain.network.NetworkDescription;
 import java.util.Optional;
 
 public interface CurrentNetworkDescription extends Backupable {
     Optional<NetworkDescription> findCurrent();
+
+    /**
+     * Routes from local agent of current network description, without resolving the rest of the description.
+     */
+    default Optional<AgentRoutes> findCurrentAgentRoutes() {
+        return findCurrent().map(NetworkDescription::agentRoutes);
+    }
+
     void switchTo(NetworkDescription networkDescription);
 }
@@ -15,9 +15,23 @@ import com.chutneytesting.engine.domain.delegation.ConnectionChecker;
 import com.chutneytesting.engine.domain.delegation.NamedHostAndPort;
 import com.chutneytesting.engine.domain.delegation.UrlSlicer;
 import com.chutneytesting.environment.domain.Target;
+import com.chutneytesting.instrument.domain.ChutneyMetrics;
 import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +43,9 @@ import org.slf4j.LoggerFactory;
  * <li>propagate a {@link NetworkConfiguration} recursively to all reachable agents</li>
  * <li>aggregate discovered agentLinks between agents</li>
  * </ul>
+ * Remote agents and local targets are explored concurrently on the given executor, which bounds the parallelism.
+ * Targets sharing a host and port are checked once, and results not received before the exploration timeout are left out,
+ * their explorations being cancelled. Time taken to explore each remote agent is reported to {@link ChutneyMetrics}.
  */
 public class ExploreAgentsService {
 
@@ -39,15 +56,25 @@ public class ExploreAgentsService {
 
     private final ConnectionChecker connectionChecker;
     private final LocalServerIdentifier localServerIdentifier;
+    private final ChutneyMetrics metrics;
+
+    private final Executor explorationExecutor;
+    private final long explorationTimeoutMs;
 
     public ExploreAgentsService(Explorations explorations,
                                 AgentClient agentClient,
                                 ConnectionChecker connectionChecker,
-                                LocalServerIdentifier localServerIdentifier) {
+                                LocalServerIdentifier localServerIdentifier,
+                                ChutneyMetrics metrics,
+                                Executor explorationExecutor,
+                                long explorationTimeoutMs) {
         this.explorations = explorations;
         this.agentClient = agentClient;
         this.connectionChecker = connectionChecker;
         this.localServerIdentifier = localServerIdentifier;
+        this.metrics = metrics;
+        this.explorationExecutor = explorationExecutor;
+        this.explorationTimeoutMs = explorationTimeoutMs;
     }
 
     /**
@@ -88,26 +115,92 @@ public class ExploreAgentsService {
         return ImmutableExploreResult.of(agentLinks, targetLinks);
     }
 
-    private ExploreResult detectAvailableTargets(String localName, NetworkConfiguration networkConfiguration) {
+    private Set<ExploreResult> exploreToRemoteAgentsAndTargets(String localName, NetworkConfiguration networkConfiguration) {
+        // Results are aggregated as they arrive, so that the ones received before the timeout are kept
+        Set<ExploreResult> remoteExplorationResults = ConcurrentHashMap.newKeySet();
+        Set<Link<AgentId, TargetId>> localTargetLinks = ConcurrentHashMap.newKeySet();
+
+        List<Future<?>> explorationTasks = new ArrayList<>();
+        List<CompletableFuture<?>> pendingExplorations = new ArrayList<>();
+        networkConfiguration.agentNetworkConfiguration().stream()
+            .filter(agentInfo -> !localName.equals(agentInfo.name()))
+            .forEach(agentInfo -> pendingExplorations.add(
+                timed(() -> agentClient.explore(localName, agentInfo, networkConfiguration), explorationTasks,
+                    (success, duration) -> {
+                        LOGGER.info("Agent {} explored in {} ms", agentInfo.name(), duration);
+                        metrics.onAgentExplorationEnded(agentInfo.name(), success, duration);
+                    })
+                    .thenAccept(remoteExplorationResults::add)
+            ));
+        pendingExplorations.addAll(detectAvailableTargets(localName, networkConfiguration, localTargetLinks, explorationTasks));
+
+        try {
+            awaitExplorations(pendingExplorations);
+        } finally {
+            // Free exploration threads from agents or hosts which did not answer in time
+            explorationTasks.forEach(task -> task.cancel(true));
+        }
 
-        Set<Link<AgentId, TargetId>> targetLinks = networkConfiguration.environmentConfiguration().stream()
-            .flatMap(env -> env.targets.stream()
-                .filter(target -> connectionChecker.canConnectTo(namedHostAndPortFromTarget(target)))
-                .map(t -> TargetId.of(t.name, t.environment))
-                .map(targetIdentifier -> Link.of(AgentId.of(localName), targetIdentifier))
-            ).collect(Collectors.toSet());
-        return ImmutableExploreResult.of(Links.empty(), ImmutableExploreResult.Links.of(targetLinks));
+        ExploreResult localTargetsExplorationResult = ImmutableExploreResult.of(Links.empty(), ImmutableExploreResult.Links.of(localTargetLinks));
+        return ImmutableSet.<ExploreResult>builder().addAll(remoteExplorationResults).add(localTargetsExplorationResult).build();
     }
 
-    private Set<ExploreResult> exploreToRemoteAgentsAndTargets(String localName, NetworkConfiguration networkConfiguration) {
-        Set<ExploreResult> remoteExplorationResults = networkConfiguration.agentNetworkConfiguration().stream()
-            .filter(agentInfo -> !localName.equals(agentInfo.name()))
-            .map(agentInfo -> agentClient.explore(localName, agentInfo, networkConfiguration))
-            .collect(Collectors.toSet());
+    private List<CompletableFuture<?>> detectAvailableTargets(String localName, NetworkConfiguration networkConfiguration, Set<Link<AgentId, TargetId>> targetLinks, List<Future<?>> explorationTasks) {
+        Map<String, CompletableFuture<Boolean>> checksByHost = new HashMap<>();
+        List<CompletableFuture<?>> targetChecks = new ArrayList<>();
+
+        networkConfiguration.environmentConfiguration().stream()
+            .flatMap(env -> env.targets.stream())
+            .forEach(target -> {
+                NamedHostAndPort targetHostAndPort = namedHostAndPortFromTarget(target);
+                CompletableFuture<Boolean> check = checksByHost.computeIfAbsent(targetHostAndPort.host() + ":" + targetHostAndPort.port(),
+                    hostAndPort -> timed(() -> connectionChecker.canConnectTo(targetHostAndPort), explorationTasks,
+                        (success, duration) -> LOGGER.debug("Host {} checked in {} ms", hostAndPort, duration)));
+                targetChecks.add(check.thenAccept(reachable -> {
+                    if (reachable) {
+                        targetLinks.add(Link.of(AgentId.of(localName), TargetId.of(target.name, target.environment)));
+                    }
+                }));
+            });
+
+        LOGGER.debug("Checking {} targets on {} hosts", targetChecks.size(), checksByHost.size());
+        return targetChecks;
+    }
 
-        ExploreResult localTargetsExplorationResult = detectAvailableTargets(localName, networkConfiguration);
+    /**
+     * Run given exploration as a task which can be cancelled, unlike {@link CompletableFuture#supplyAsync}.
+     */
+    private <T> CompletableFuture<T> timed(Supplier<T> exploration, List<Future<?>> explorationTasks, ExplorationListener listener) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                result.complete(exploration.get());
+                success = true;
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            } finally {
+                listener.onExplorationEnded(success, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }, null);
+        explorationTasks.add(task);
+        explorationExecutor.execute(task);
+        return result;
+    }
 
-        return ImmutableSet.<ExploreResult>builder().addAll(remoteExplorationResults).add(localTargetsExplorationResult).build();
+    private void awaitExplorations(List<CompletableFuture<?>> pendingExplorations) {
+        try {
+            CompletableFuture.allOf(pendingExplorations.toArray(new CompletableFuture[0])).get(explorationTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            long notDone = pendingExplorations.stream().filter(exploration -> !exploration.isDone()).count();
+            LOGGER.warn("Exploration timeout of {} ms reached, {} agents or targets results are left out and their explorations cancelled", explorationTimeoutMs, notDone);
+        } catch (ExecutionException e) {
+            LOGGER.warn("Exploration failed, only results received are kept", e.getCause());
+        } catch (InterruptedException e) {
+            LOGGER.warn("Exploration interrupted, only results received are kept");
+            Thread.currentThread().interrupt();
+        }
     }
 
     private <S, D> Links<S, D> aggregateLinks(Set<ExploreResult> exploreResults, Function<ExploreResult, Links<S, D>> linksExtractor) {
@@ -129,4 +222,8 @@ public class ExploreAgentsService {
         UrlSlicer urlSlicer = new UrlSlicer(target.url);
         return new NamedHostAndPort(target.name, urlSlicer.host, urlSlicer.port);
     }
+
+    private interface ExplorationListener {
+        void onExplorationEnded(boolean success, long durationMs);
+    }
 }
@@ -0,0 +1,64 @@
+package com.chutneytesting.agent.domain.network;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+
+import com.chutneytesting.agent.domain.TargetId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shortest routes from an agent to every target reachable through the agent network.<br>
+ * Routes are computed once by a breadth first walk of the network, so that finding one is a lookup.
+ */
+public class AgentRoutes {
+
+    public static final AgentRoutes NONE = new AgentRoutes(emptyMap());
+
+    private final Map<TargetId, List<Agent>> routes;
+
+    private AgentRoutes(Map<TargetId, List<Agent>> routes) {
+        this.routes = routes;
+    }
+
+    public static AgentRoutes from(Agent origin) {
+        Map<TargetId, List<Agent>> routes = new HashMap<>();
+        // Agents to go through from origin to reach each visited agent
+        Map<Agent, List<Agent>> paths = new HashMap<>();
+        paths.put(origin, emptyList());
+        Deque<Agent> toVisit = new ArrayDeque<>();
+        toVisit.add(origin);
+
+        while (!toVisit.isEmpty()) {
+            Agent agent = toVisit.poll();
+            List<Agent> path = paths.get(agent);
+            // Agents are visited closest first, so first route found to a target is a shortest one
+            agent.reachableTargets().forEach(target -> routes.putIfAbsent(target, path));
+            for (Agent nextAgent : agent.reachableAgents()) {
+                if (!paths.containsKey(nextAgent)) {
+                    List<Agent> nextPath = new ArrayList<>(path);
+                    nextPath.add(nextAgent);
+                    paths.put(nextAgent, unmodifiableList(nextPath));
+                    toVisit.add(nextAgent);
+                }
+            }
+        }
+        return new AgentRoutes(routes);
+    }
+
+    /**
+     * @return agents to go through to reach given target, empty when origin reaches it or when no agent does
+     */
+    public List<Agent> routeTo(String targetName, String environment) {
+        return routes.getOrDefault(TargetId.of(targetName, environment), emptyList());
+    }
+
+    public int size() {
+        return routes.size();
+    }
+}
@@ -12,4 +12,12 @@ public interface NetworkDescription {
 
     // TODO why optional ?
     Optional<Agent> localAgent();
+
+    /**
+     * Routes from local agent, computed once per network description.
+     */
+    @Value.Lazy
+    default AgentRoutes agentRoutes() {
+        return localAgent().map(AgentRoutes::from).orElse(AgentRoutes.NONE);
+    }
 }
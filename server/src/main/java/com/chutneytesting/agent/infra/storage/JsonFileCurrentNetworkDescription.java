@@ -1,8 +1,12 @@
 package com.chutneytesting.agent.infra.storage;
 
+import static java.util.Collections.emptyList;
+
+import com.chutneytesting.agent.domain.configure.ImmutableNetworkConfiguration;
 import com.chutneytesting.agent.domain.configure.LocalServerIdentifier;
 import com.chutneytesting.agent.domain.explore.CurrentNetworkDescription;
 import com.chutneytesting.agent.domain.network.Agent;
+import com.chutneytesting.agent.domain.network.AgentRoutes;
 import com.chutneytesting.agent.domain.network.ImmutableNetworkDescription;
 import com.chutneytesting.agent.domain.network.NetworkDescription;
 import com.chutneytesting.environment.domain.EnvironmentRepository;
@@ -10,6 +14,10 @@ import java.io.OutputStream;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
+/**
+ * Current network description is read once, and swapped when switching to a new one.<br>
+ * Environments are not kept with it but resolved on each {@link #findCurrent()}, so that environment changes are seen without switching.
+ */
 @Component
 public class JsonFileCurrentNetworkDescription implements CurrentNetworkDescription {
 
@@ -18,7 +26,7 @@ public class JsonFileCurrentNetworkDescription implements CurrentNetworkDescript
     private final JsonFileAgentNetworkDao jsonFileAgentNetworkDao;
     private final LocalServerIdentifier localServerIdentifier;
 
-    private Optional<NetworkDescription> networkDescription;
+    private volatile Optional<NetworkDescription> networkDescription;
 
     public JsonFileCurrentNetworkDescription(
         EnvironmentRepository environmentRepository,
@@ -33,32 +41,48 @@ public class JsonFileCurrentNetworkDescription implements CurrentNetworkDescript
 
     @Override
     public Optional<NetworkDescription> findCurrent() {
-        networkDescription = getNetworkDescription();
-        return networkDescription;
+        return networkDescription.map(this::withCurrentEnvironments);
+    }
+
+    @Override
+    public Optional<AgentRoutes> findCurrentAgentRoutes() {
+        return networkDescription.map(NetworkDescription::agentRoutes);
     }
 
     @Override
-    public void switchTo(NetworkDescription networkDescription) {
+    public synchronized void switchTo(NetworkDescription networkDescription) {
         AgentNetworkForJsonFile dto = agentNetworkMapperJsonFileMapper.toDto(networkDescription);
         jsonFileAgentNetworkDao.save(dto);
+        this.networkDescription = getNetworkDescription();
     }
 
     @Override
     public void backup(OutputStream outputStream) {
-        if (getNetworkDescription().isPresent()) {
+        if (networkDescription.isPresent()) {
             jsonFileAgentNetworkDao.backup(outputStream);
         }
     }
 
     private Optional<NetworkDescription> getNetworkDescription() {
         Optional<NetworkDescription> newNetworkDescription = jsonFileAgentNetworkDao.read()
-            .map(dto -> agentNetworkMapperJsonFileMapper.fromDto(dto, environmentRepository.getEnvironments()));
+            // Environments are resolved on lookup
+            .map(dto -> agentNetworkMapperJsonFileMapper.fromDto(dto, emptyList()));
 
         if (newNetworkDescription.isPresent()) {
             final Agent localAgent = localServerIdentifier.findLocalAgent(newNetworkDescription.get().agentGraph());
             newNetworkDescription = Optional.of(ImmutableNetworkDescription.builder().from(newNetworkDescription.get()).localAgent(localAgent).build());
+            // Compute routes before the description is shared, executions only look them up
+            newNetworkDescription.get().agentRoutes();
         }
 
         return newNetworkDescription;
     }
+
+    private NetworkDescription withCurrentEnvironments(NetworkDescription networkDescription) {
+        return ImmutableNetworkDescription.builder().from(networkDescription)
+            .configuration(ImmutableNetworkConfiguration.builder().from(networkDescription.configuration())
+                .environmentConfiguration(ImmutableNetworkConfiguration.EnvironmentConfiguration.of(environmentRepository.getEnvironments()))
+                .build())
+            .build();
+    }
 }
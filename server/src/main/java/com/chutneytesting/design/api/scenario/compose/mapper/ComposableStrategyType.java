@@ -7,7 +7,8 @@ enum ComposableStrategyType {
 
     DEFAULT("Default", ""),
     RETRY("Retry", "retry-with-timeout"),
-    SOFT("Soft", "soft-assert");
+    SOFT("Soft", "soft-assert"),
+    PARALLEL("Parallel", "parallel");
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ComposableStrategyType.class);
     public final String name;
@@ -21,6 +21,7 @@ import com.chutneytesting.security.infra.SpringUserService;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -67,10 +68,14 @@ public class GwtTestCaseController {
 
     @PreAuthorize("hasAuthority('SCENARIO_READ') or hasAuthority('CAMPAIGN_WRITE')")
     @GetMapping(path = "", produces = MediaType.APPLICATION_JSON_VALUE)
-    public List<TestCaseIndexDto> getTestCases(@RequestParam( name = "textFilter", required = false) String textFilter) {
-
-        List<TestCaseMetadata> testCases = isNullOrEmpty(textFilter) ? testCaseRepository.findAll() : testCaseRepository.search(textFilter);
-        return testCases.stream()
+    public List<TestCaseIndexDto> getTestCases(@RequestParam( name = "textFilter", required = false) String textFilter,
+                                               @RequestParam( name = "offset", defaultValue = "0") int offset,
+                                               @RequestParam( name = "limit", defaultValue = "" + Integer.MAX_VALUE) int limit) {
+
+        Stream<TestCaseMetadata> testCases = isNullOrEmpty(textFilter) ?
+            testCaseRepository.findAll().stream().skip(offset).limit(limit) :
+            testCaseRepository.search(textFilter, offset, limit).stream();
+        return testCases
             .map((tc) -> {
                 List<ExecutionSummaryDto> executions = ExecutionSummaryDto.toDto(
                     executionHistoryRepository.getExecutions(
@@ -13,6 +13,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -80,21 +81,32 @@ public class CampaignExecutionReport {
 
     public void initExecution(List<TestCase> testCases, String executionEnvironment, String userId) {
         testCases.forEach(testCase ->
-            this.scenarioExecutionReports.add(
-                new ScenarioExecutionReportCampaign(
-                    testCase.id(),
-                    testCase.metadata().title(),
-                    ImmutableExecutionHistory.ExecutionSummary.builder()
-                        .executionId(-1L)
-                        .testCaseTitle(testCase.metadata().title())
-                        .time(now())
-                        .status(ServerReportStatus.NOT_EXECUTED)
-                        .duration(0)
-                        .environment(executionEnvironment)
-                        .datasetId(dataSetId)
-                        .datasetVersion(dataSetVersion)
-                        .user(userId)
-                        .build())));
+            this.scenarioExecutionReports.add(notExecuted(testCase.id(), testCase.metadata().title(), executionEnvironment, userId)));
+    }
+
+    /**
+     * Init execution without loading test cases, with their titles when known.
+     */
+    public void initPendingExecutions(List<String> scenarioIds, Map<String, String> scenarioTitles, String executionEnvironment, String userId) {
+        scenarioIds.forEach(scenarioId ->
+            this.scenarioExecutionReports.add(notExecuted(scenarioId, scenarioTitles.getOrDefault(scenarioId, ""), executionEnvironment, userId)));
+    }
+
+    private ScenarioExecutionReportCampaign notExecuted(String scenarioId, String title, String executionEnvironment, String userId) {
+        return new ScenarioExecutionReportCampaign(
+            scenarioId,
+            title,
+            ImmutableExecutionHistory.ExecutionSummary.builder()
+                .executionId(-1L)
+                .testCaseTitle(title)
+                .time(now())
+                .status(ServerReportStatus.NOT_EXECUTED)
+                .duration(0)
+                .environment(executionEnvironment)
+                .datasetId(dataSetId)
+                .datasetVersion(dataSetVersion)
+                .user(userId)
+                .build());
     }
 
     public void startScenarioExecution(TestCase testCase, String executionEnvironment, String userId) throws UnsupportedOperationException {
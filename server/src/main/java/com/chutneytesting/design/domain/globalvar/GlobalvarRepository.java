@@ -36,6 +36,7 @@ public interface GlobalvarRepository extends Backupable {
      *    - "key1" : "value1"
      *    - "key2.subKey1" : "subValue1"
      *    - "key2.subKey2" : "subValue2"
+     * Returned map is unmodifiable, and the same instance is returned as long as global variables do not change.
      * @return map with flatten key
      */
     Map<String, String> getFlatMap();
@@ -20,4 +20,9 @@ public interface TestCaseRepository {
     Integer lastVersion(String testCaseId);
 
     List<TestCaseMetadata> search(String textFilter);
+
+    /**
+     * @return matching scenarios, from offset and no more than limit
+     */
+    List<TestCaseMetadata> search(String textFilter, int offset, int limit);
 }
@@ -3,6 +3,8 @@ package com.chutneytesting.design.infra.storage.campaign;
 import static java.util.Collections.emptyMap;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.jdbc.core.RowMapper;
@@ -37,6 +39,27 @@ class CampaignParameterRepository {
             campaignParamaterRowMapper);
     }
 
+    private static final String QUERY_FIND_CAMPAIGNS_PARAMETERS =
+        "SELECT CAMPAIGN_ID, PARAMETER, VALUE "
+            + "FROM CAMPAIGN_PARAMETER "
+            + "WHERE CAMPAIGN_ID IN (:campaignIds) "
+            + "ORDER BY ID DESC";
+
+    /**
+     * @return parameters by campaign id, loaded with a single query
+     */
+    Map<Long, Map<String, String>> findCampaignsParameters(Collection<Long> campaignIds) {
+        Map<Long, Map<String, String>> parametersByCampaign = new HashMap<>();
+        if (campaignIds.isEmpty()) {
+            return parametersByCampaign;
+        }
+        uiNamedParameterJdbcTemplate.query(QUERY_FIND_CAMPAIGNS_PARAMETERS,
+            ImmutableMap.of("campaignIds", campaignIds),
+            campaignParamaterRowMapper)
+            .forEach(cp -> parametersByCampaign.computeIfAbsent(cp.campaignId, id -> new HashMap<>()).putIfAbsent(cp.parameter, cp.value));
+        return parametersByCampaign;
+    }
+
     private static final String QUERY_SAVE_CAMPAIGN_PARAMETER =
         "INSERT INTO CAMPAIGN_PARAMETER(ID, CAMPAIGN_ID, PARAMETER, VALUE) "
             + "VALUES (:id, :campaignId, :parameter, :value)";
@@ -11,6 +11,7 @@ import com.chutneytesting.design.infra.storage.scenario.jdbc.TagListMapper;
 import com.google.common.collect.ImmutableMap;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -114,14 +115,22 @@ public class DatabaseCampaignRepository implements CampaignRepository {
 
     @Override
     public List<Campaign> findByName(String campaignName) {
-        String sql = "SELECT C.ID " +
-            "FROM CAMPAIGN C " +
-            "LEFT JOIN CAMPAIGN_SCENARIOS CS ON CS.CAMPAIGN_ID = C.ID " +
-            "WHERE LOWER(C.TITLE) LIKE LOWER(:campaignName) " +
-            "GROUP BY C.ID ";
-        return uiNamedParameterJdbcTemplate.queryForList(sql, ImmutableMap.of("campaignName", campaignName), Long.class)
-            .stream()
-            .map(this::findById)
+        List<Campaign> campaigns = uiNamedParameterJdbcTemplate.query(
+            "SELECT C.* FROM CAMPAIGN C WHERE LOWER(C.TITLE) LIKE LOWER(:campaignName) ORDER BY C.ID",
+            ImmutableMap.of("campaignName", campaignName),
+            CAMPAIGN_ENTITY_ROW_MAPPER);
+        if (campaigns.isEmpty()) {
+            return campaigns;
+        }
+
+        List<Long> campaignIds = campaigns.stream().map(c -> c.id).collect(Collectors.toList());
+        Map<Long, List<String>> scenariosIds = findScenariosIdsByCampaign(
+            "SELECT CAMPAIGN_ID, SCENARIO_ID FROM CAMPAIGN_SCENARIOS WHERE CAMPAIGN_ID IN (:campaignIds) ORDER BY CAMPAIGN_ID, INDEX",
+            ImmutableMap.of("campaignIds", campaignIds));
+        Map<Long, Map<String, String>> parameters = campaignParameterRepository.findCampaignsParameters(campaignIds);
+
+        return campaigns.stream()
+            .map(c -> withScenariosAndParameters(c, scenariosIds.get(c.id), parameters.getOrDefault(c.id, new HashMap<>())))
             .collect(Collectors.toList());
     }
 
@@ -142,10 +151,13 @@ public class DatabaseCampaignRepository implements CampaignRepository {
 
     @Override
     public List<Campaign> findAll() {
-        String sql = "SELECT DISTINCT C.ID FROM CAMPAIGN C";
-        return uiNamedParameterJdbcTemplate.queryForList(sql, emptyMap(), Long.class)
-            .stream()
-            .map(this::findByIdWithoutExecutions) // TODO - Scenario ids are not used
+        List<Campaign> campaigns = uiNamedParameterJdbcTemplate.query("SELECT C.* FROM CAMPAIGN C ORDER BY C.ID", emptyMap(), CAMPAIGN_ENTITY_ROW_MAPPER);
+        Map<Long, List<String>> scenariosIds = findScenariosIdsByCampaign( // TODO - Scenario ids are not used
+            "SELECT CAMPAIGN_ID, SCENARIO_ID FROM CAMPAIGN_SCENARIOS ORDER BY CAMPAIGN_ID, INDEX",
+            emptyMap());
+
+        return campaigns.stream()
+            .map(c -> withScenariosAndParameters(c, scenariosIds.get(c.id), null))
             .collect(Collectors.toList());
     }
 
@@ -206,13 +218,36 @@ public class DatabaseCampaignRepository implements CampaignRepository {
     private void updateScenarioReferences(Long campaignId, List<String> scenarioId) {
         clearAllAssociationToScenario(campaignId);
         final AtomicInteger index = new AtomicInteger(0);
-        scenarioId.forEach(id -> uiNamedParameterJdbcTemplate
-            .update("INSERT INTO CAMPAIGN_SCENARIOS(CAMPAIGN_ID, SCENARIO_ID, INDEX) VALUES (:campaignId, :scenarioId, :index)"
-                , map(Pair.of("campaignId", campaignId)
-                    , Pair.of("scenarioId", id)
-                    , Pair.of("index", index.incrementAndGet())
-                )
-            ));
+        Map<String, ?>[] scenarioReferences = scenarioId.stream()
+            .map(id -> map(Pair.of("campaignId", campaignId)
+                , Pair.of("scenarioId", id)
+                , Pair.of("index", index.incrementAndGet())
+            ))
+            .toArray(Map[]::new);
+        uiNamedParameterJdbcTemplate.batchUpdate("INSERT INTO CAMPAIGN_SCENARIOS(CAMPAIGN_ID, SCENARIO_ID, INDEX) VALUES (:campaignId, :scenarioId, :index)", scenarioReferences);
+    }
+
+    private Map<Long, List<String>> findScenariosIdsByCampaign(String sql, Map<String, ?> parameters) {
+        Map<Long, List<String>> scenariosIds = new HashMap<>();
+        uiNamedParameterJdbcTemplate.query(sql, parameters, rs -> {
+            scenariosIds.computeIfAbsent(rs.getLong("CAMPAIGN_ID"), id -> new ArrayList<>()).add(rs.getString("SCENARIO_ID"));
+        });
+        return scenariosIds;
+    }
+
+    private static Campaign withScenariosAndParameters(Campaign campaign, List<String> scenariosIds, Map<String, String> parameters) {
+        return new Campaign(
+            campaign.id,
+            campaign.title,
+            campaign.description,
+            scenariosIds,
+            parameters,
+            campaign.executionEnvironment(),
+            campaign.parallelRun,
+            campaign.retryAuto,
+            campaign.externalDatasetId,
+            campaign.tags
+        );
     }
 
     private boolean isCampaignExists(Long campaignId) {
@@ -2,14 +2,13 @@ package com.chutneytesting.design.infra.storage.globalvar;
 
 import static com.chutneytesting.ServerConfiguration.CONFIGURATION_FOLDER_SPRING_VALUE;
 import static com.chutneytesting.tools.file.FileUtils.initFolder;
+import static java.util.Collections.unmodifiableMap;
 
-import com.chutneytesting.design.domain.globalvar.GlobalvarRepository;
-import com.chutneytesting.tools.ZipUtils;
-import com.chutneytesting.tools.file.FileUtils;
 import com.chutneytesting.design.domain.globalvar.GlobalVarNotFoundException;
 import com.chutneytesting.design.domain.globalvar.GlobalvarRepository;
 import com.chutneytesting.tools.ZipUtils;
 import com.chutneytesting.tools.file.FileUtils;
+import com.chutneytesting.tools.file.WatchedDirectoryCache;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,6 +29,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.zip.ZipOutputStream;
@@ -37,12 +37,18 @@ import org.hjson.JsonValue;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Global variables files are parsed and flattened once, and kept in memory until one of them changes.<br>
+ * Flat map is invalidated on save and delete, and by a directory watcher for edits made outside of this repository.
+ */
 @Component
-public class FileGlobalVarRepository implements GlobalvarRepository {
+public class FileGlobalVarRepository implements GlobalvarRepository, AutoCloseable {
 
     private static final String FILE_EXTENSION = ".hjson";
 
     static final Path ROOT_DIRECTORY_NAME = Paths.get("global_var");
+    // Every file of the folder is read, whatever its extension, into a single flat map
+    private static final String FLAT_MAP = "flatMap";
 
     private final Path storeFolderPath;
 
@@ -51,9 +57,12 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
         .enable(SerializationFeature.INDENT_OUTPUT)
         .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
 
+    private final WatchedDirectoryCache<String, Map<String, String>> flatMap;
+
     FileGlobalVarRepository(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath) throws UncheckedIOException {
-        this.storeFolderPath = Paths.get(storeFolderPath).resolve(ROOT_DIRECTORY_NAME);
+        this.storeFolderPath = Paths.get(storeFolderPath).resolve(ROOT_DIRECTORY_NAME).toAbsolutePath();
         initFolder(this.storeFolderPath);
+        this.flatMap = new WatchedDirectoryCache<>(this.storeFolderPath, "global-vars-watcher", changed -> Optional.of(FLAT_MAP));
     }
 
     @Override
@@ -86,6 +95,8 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             Files.write(filePath, hjsonContent.getBytes());
         } catch (IOException e) {
             throw new UnsupportedOperationException("Cannot save " + filePath.toUri().toString(), e);
+        } finally {
+            flatMap.invalidate(FLAT_MAP);
         }
     }
 
@@ -108,11 +119,17 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             throw new GlobalVarNotFoundException(fileName);
         } catch (IOException e) {
             throw new UnsupportedOperationException("Cannot delete " + filePath.toUri().toString(), e);
+        } finally {
+            flatMap.invalidate(FLAT_MAP);
         }
     }
 
     @Override
     public Map<String, String> getFlatMap() {
+        return flatMap.get(FLAT_MAP, key -> unmodifiableMap(readFlatMap()));
+    }
+
+    private Map<String, String> readFlatMap() {
         final Map<String, String> map = new HashMap<>();
 
         Map<Path, String> fileContents = get();
@@ -149,6 +166,11 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
         }
     }
 
+    @Override
+    public void close() {
+        flatMap.close();
+    }
+
     private void addKeys(String currentPath, JsonNode jsonNode, Map<String, String> accumulator) {
         if (jsonNode.isObject()) {
             ObjectNode objectNode = (ObjectNode) jsonNode;
@@ -5,6 +5,7 @@ import com.chutneytesting.design.domain.scenario.TestCaseMetadata;
 import com.chutneytesting.design.infra.storage.scenario.jdbc.TestCaseData;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public interface DelegateScenarioRepository {
 
@@ -23,5 +24,19 @@ public interface DelegateScenarioRepository {
 
     Optional<Integer> lastVersion(String scenarioId);
 
-    List<TestCaseMetadata> search(String textFilter);
+    default List<TestCaseMetadata> search(String textFilter) {
+        return search(textFilter, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return matching scenarios, best ranked first, from offset and no more than limit
+     */
+    default List<TestCaseMetadata> search(String textFilter, int offset, int limit) {
+        return rankedSearch(textFilter, offset, limit).stream().map(match -> match.metadata).collect(Collectors.toList());
+    }
+
+    /**
+     * @return matching scenarios with their score, best ranked first, from offset and no more than limit
+     */
+    List<TestCaseSearchIndex.Match> rankedSearch(String textFilter, int offset, int limit);
 }
@@ -15,6 +15,7 @@ import com.chutneytesting.design.infra.storage.scenario.jdbc.TestCaseData;
 import com.chutneytesting.design.infra.storage.scenario.jdbc.TestCaseDataMapper;
 import com.chutneytesting.documentation.infra.ExamplesRepository;
 import com.orientechnologies.orient.core.id.ORecordId;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -124,12 +125,28 @@ public class TestCaseRepositoryAggregator implements TestCaseRepository {
 
     @Override
     public List<TestCaseMetadata> search(String textFilter) {
-        List<TestCaseMetadata> testCases = repositories()
+        return search(textFilter, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Each repository is only asked for its scenarios up to offset + limit, its best ranked ones.
+     * Their matches are merged by score before paging, composable scenarios coming last.
+     */
+    @Override
+    public List<TestCaseMetadata> search(String textFilter, int offset, int limit) {
+        int repositoryLimit = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        List<TestCaseSearchIndex.Match> matches = repositories()
             .parallel()
-            .flatMap(r -> searchAllRepositoryStream(r, textFilter))
+            .flatMap(r -> searchAllRepositoryStream(r, textFilter, repositoryLimit))
             .collect(Collectors.toList());
+        // Stable sort, so that matches of equal score keep their repository order
+        matches.sort(Comparator.comparingDouble((TestCaseSearchIndex.Match match) -> match.score).reversed());
+        List<TestCaseMetadata> testCases = matches.stream().map(match -> match.metadata).collect(Collectors.toList());
         testCases.addAll(searchComposableTestCase(textFilter));
-        return testCases;
+        return testCases.stream()
+            .skip(offset)
+            .limit(limit)
+            .collect(Collectors.toList());
     }
 
     private Stream<? extends TestCaseMetadata> findAllRepositoryStream(DelegateScenarioRepository repository) {
@@ -141,9 +158,9 @@ public class TestCaseRepositoryAggregator implements TestCaseRepository {
         }
     }
 
-    private Stream<? extends TestCaseMetadata> searchAllRepositoryStream(DelegateScenarioRepository repository, String textFilter) {
+    private Stream<TestCaseSearchIndex.Match> searchAllRepositoryStream(DelegateScenarioRepository repository, String textFilter, int limit) {
         try {
-            return repository.search(textFilter).stream();
+            return repository.rankedSearch(textFilter, 0, limit).stream();
         } catch (RuntimeException e) {
             LOGGER.warn("Could not aggregate scenarios from repository : " + repository.alias(), e);
             return Stream.empty();
@@ -0,0 +1,231 @@
+package com.chutneytesting.design.infra.storage.scenario;
+
+import static java.util.Collections.emptyList;
+
+import com.chutneytesting.design.domain.scenario.TestCaseMetadata;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * In memory inverted index over scenarios title, tags, description and content.<br>
+ * Every query word must prefix a token of a scenario for it to match.
+ * Matches are ranked by occurrences of query words, weighted by field and word rarity.
+ */
+public class TestCaseSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int TITLE_WEIGHT = 4;
+    private static final int TAGS_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> postings = new TreeMap<>();
+    // Scenarios are referenced in postings by their ordinal, ordinals of removed ones are reused
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<IndexedTestCase> testCases = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    public void index(TestCaseMetadata metadata, String content) {
+        Map<String, Integer> weightedTokens = weightedTokens(metadata, content);
+        lock.writeLock().lock();
+        try {
+            removeTestCase(metadata.id());
+            int ordinal = nextOrdinal(new IndexedTestCase(metadata, weightedTokens.keySet()));
+            ordinals.put(metadata.id(), ordinal);
+            weightedTokens.forEach((token, weight) ->
+                postings.computeIfAbsent(token, t -> new Postings()).add(ordinal, weight)
+            );
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String testCaseId) {
+        lock.writeLock().lock();
+        try {
+            removeTestCase(testCaseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<TestCaseMetadata> search(String text) {
+        return search(text, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return matching scenarios, best ranked first
+     */
+    public List<TestCaseMetadata> search(String text, int offset, int limit) {
+        return rankedSearch(text, offset, limit).stream().map(match -> match.metadata).collect(Collectors.toList());
+    }
+
+    /**
+     * @return matching scenarios with their score, best ranked first
+     */
+    public List<Match> rankedSearch(String text, int offset, int limit) {
+        List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(tokenize(text)));
+        if (queryTokens.isEmpty()) {
+            return emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            double[] scores = new double[testCases.size()];
+            int[] matchedTokens = new int[testCases.size()];
+            for (int i = 0; i < queryTokens.size(); i++) {
+                String queryToken = queryTokens.get(i);
+                for (Postings tokenPostings : postings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).values()) {
+                    double idf = Math.log(1 + (double) ordinals.size() / tokenPostings.size);
+                    for (int p = 0; p < tokenPostings.size; p++) {
+                        int ordinal = tokenPostings.ordinals[p];
+                        if (matchedTokens[ordinal] >= i) {
+                            matchedTokens[ordinal] = i + 1;
+                            scores[ordinal] += tokenPostings.weights[p] * idf;
+                        }
+                    }
+                }
+            }
+
+            int allTokens = queryTokens.size();
+            return IntStream.range(0, matchedTokens.length)
+                .filter(ordinal -> matchedTokens[ordinal] == allTokens)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(ordinal -> scores[ordinal]).reversed().thenComparing(ordinal -> testCases.get(ordinal).metadata.id()))
+                .skip(offset)
+                .limit(limit)
+                .map(ordinal -> new Match(testCases.get(ordinal).metadata, scores[ordinal]))
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int nextOrdinal(IndexedTestCase testCase) {
+        Integer ordinal = freeOrdinals.poll();
+        if (ordinal == null) {
+            testCases.add(testCase);
+            return testCases.size() - 1;
+        }
+        testCases.set(ordinal, testCase);
+        return ordinal;
+    }
+
+    private void removeTestCase(String testCaseId) {
+        Integer ordinal = ordinals.remove(testCaseId);
+        if (ordinal != null) {
+            testCases.get(ordinal).tokens.forEach(token -> {
+                Postings tokenPostings = postings.get(token);
+                tokenPostings.remove(ordinal);
+                if (tokenPostings.size == 0) {
+                    postings.remove(token);
+                }
+            });
+            testCases.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        }
+    }
+
+    private static Map<String, Integer> weightedTokens(TestCaseMetadata metadata, String content) {
+        Map<String, Integer> weightedTokens = new HashMap<>();
+        addTokens(weightedTokens, metadata.title(), TITLE_WEIGHT);
+        Optional.ofNullable(metadata.tags()).ifPresent(tags -> tags.forEach(tag -> addTokens(weightedTokens, tag, TAGS_WEIGHT)));
+        addTokens(weightedTokens, metadata.description(), DESCRIPTION_WEIGHT);
+        addTokens(weightedTokens, content, CONTENT_WEIGHT);
+        return weightedTokens;
+    }
+
+    private static void addTokens(Map<String, Integer> weightedTokens, String text, int weight) {
+        tokenize(text).forEach(token -> weightedTokens.merge(token, weight, Integer::sum));
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null) {
+            return emptyList();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+            .filter(token -> !token.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * A scenario matching a search, scores of different indexes are compared to merge their matches.
+     */
+    public static class Match {
+        public final TestCaseMetadata metadata;
+        public final double score;
+
+        public Match(TestCaseMetadata metadata, double score) {
+            this.metadata = metadata;
+            this.score = score;
+        }
+    }
+
+    private static class IndexedTestCase {
+        private final TestCaseMetadata metadata;
+        private final Set<String> tokens;
+
+        private IndexedTestCase(TestCaseMetadata metadata, Set<String> tokens) {
+            this.metadata = metadata;
+            this.tokens = tokens;
+        }
+    }
+
+    /**
+     * Scenarios ordinals containing a token, with their weight for this token.
+     */
+    private static class Postings {
+        private int[] ordinals = new int[4];
+        private int[] weights = new int[4];
+        private int size = 0;
+
+        private void add(int ordinal, int weight) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ordinals[size] = ordinal;
+            weights[size] = weight;
+            size++;
+        }
+
+        private void remove(int ordinal) {
+            for (int p = 0; p < size; p++) {
+                if (ordinals[p] == ordinal) {
+                    size--;
+                    ordinals[p] = ordinals[size];
+                    weights[p] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -8,13 +8,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.ListBranchCommand.ListMode;
 import org.eclipse.jgit.api.MergeCommand.FastForwardMode;
 import org.eclipse.jgit.api.TransportConfigCallback;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
 import org.eclipse.jgit.transport.JschConfigSessionFactory;
 import org.eclipse.jgit.transport.OpenSshConfig.Host;
@@ -33,9 +39,13 @@ public class GitClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GitClient.class);
 
+    // Opened once by git directory, refs are read again from disk on each resolution
+    private final Map<File, Repository> repositories = new ConcurrentHashMap<>();
+
     public void loadRepository(String repoUrl, String repoName) {
         final File directory = getGitDirectory(repoName).toFile();
         if (!isValidGitRoot(directory.getPath())) {
+            forgetRepository(directory);
             cloneRepository(repoUrl, repoName);
         }
 
@@ -46,32 +56,57 @@ public class GitClient {
         }
     }
 
-    public void removeCommitPushFile(String repoName, String commitMessage, String fileName) {
+    /**
+     * @return id of the commit checked out in repository, empty if there is none
+     */
+    public Optional<ObjectId> headCommitId(String repoName) {
+        final File directory = getGitDirectory(repoName).toFile();
+        if (!isValidGitRoot(directory.getPath())) {
+            forgetRepository(directory);
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(repository(directory).resolve(Constants.HEAD));
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Cannot resolve HEAD of repository " + repoName + ". " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the commit made
+     */
+    public Optional<RevCommit> removeCommitPushFile(String repoName, String commitMessage, String fileName) {
         Consumer<Git> consumer = git -> Try.exec(() -> git.rm().addFilepattern(fileName).call());
 
-        doThenCommitAndPush(repoName, commitMessage, consumer);
+        return doThenCommitAndPush(repoName, commitMessage, consumer);
     }
 
-    public void addCommitPushFile(String repoName, String commitMessage) {
+    /**
+     * @return the commit made
+     */
+    public Optional<RevCommit> addCommitPushFile(String repoName, String commitMessage) {
         Consumer<Git> consumer = git -> Try.exec(() -> git.add().addFilepattern(".").call());
 
-        doThenCommitAndPush(repoName, commitMessage, consumer);
+        return doThenCommitAndPush(repoName, commitMessage, consumer);
     }
 
-    private void doThenCommitAndPush(String repoName, String commitMessage, Consumer<Git> stageFile) {
+    private Optional<RevCommit> doThenCommitAndPush(String repoName, String commitMessage, Consumer<Git> stageFile) {
         try {
             final Git git = getGit(getGitDirectory(repoName).toFile());
 
             stageFile.accept(git);
 
             // and then commit the changes.
-            git.commit().setSign(false).setMessage(commitMessage).call();
+            RevCommit commit = git.commit().setSign(false).setMessage(commitMessage).call();
 
             // push if remote branch
             if (git.branchList().setListMode(ListMode.REMOTE).call().size() > 0) {
                 updateRepository(git, repoName);
                 git.push().setTransportConfigCallback(getTransportConfigCallback(repoName)).setRemote("origin").call();
             }
+            return Optional.of(commit);
         } catch (IOException | GitAPIException e) {
             throw new RuntimeException("Cannot commit: <" + commitMessage + "> to repo: " + repoName, e);
         }
@@ -102,8 +137,7 @@ public class GitClient {
 
     private Git getGit(File directory) throws IOException {
         try {
-            final Repository repository = new FileRepositoryBuilder().findGitDir(directory).build();
-            return new Git(repository);
+            return new Git(repository(directory));
         }
         catch (IllegalArgumentException e) {
             LOGGER.info("Cannnot find git repository at " + directory + ". I will try to create it for you.");
@@ -114,12 +148,41 @@ public class GitClient {
 
     private Git initLocalRepository(File directory) {
         try {
-            return Git.init().setDirectory(directory).call();
+            Git git = Git.init().setDirectory(directory).call();
+            forgetRepository(directory);
+            repositories.put(directory, git.getRepository());
+            return git;
         } catch (GitAPIException e) {
             throw new RuntimeException("Cannot create git repository at path : " + directory);
         }
     }
 
+    /**
+     * @throws IllegalArgumentException when no git repository is found from given directory
+     */
+    private Repository repository(File directory) throws IOException {
+        Repository repository = repositories.get(directory);
+        if (repository == null) {
+            Repository opened = new FileRepositoryBuilder().findGitDir(directory).build();
+            repository = repositories.putIfAbsent(directory, opened);
+            if (repository == null) {
+                return opened;
+            }
+            opened.close();
+        }
+        return repository;
+    }
+
+    /**
+     * Close the repository opened for given directory, if its git directory was removed.
+     */
+    private void forgetRepository(File directory) {
+        Repository repository = repositories.remove(directory);
+        if (repository != null) {
+            repository.close();
+        }
+    }
+
     private boolean isValidGitRoot(String path) {
         final File gitRoot = new File(path);
         if (!gitRoot.isDirectory()) {
@@ -1,5 +1,7 @@
 package com.chutneytesting.design.infra.storage.scenario.git;
 
+import java.util.Objects;
+
 public class GitRepository {
 
     public final Long id;
@@ -22,6 +24,22 @@ public class GitRepository {
         this.repositoryName = repositoryName;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GitRepository that = (GitRepository) o;
+        return Objects.equals(id, that.id) &&
+            Objects.equals(url, that.url) &&
+            Objects.equals(testSubFolder, that.testSubFolder) &&
+            Objects.equals(repositoryName, that.repositoryName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, url, testSubFolder, repositoryName);
+    }
+
     @Override
     public String toString() {
         return "GitRepository{" +
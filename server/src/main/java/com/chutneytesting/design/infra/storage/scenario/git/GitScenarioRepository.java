@@ -6,10 +6,10 @@ import static java.util.Optional.empty;
 import com.chutneytesting.design.domain.scenario.TestCaseMetadata;
 import com.chutneytesting.design.domain.scenario.TestCaseMetadataImpl;
 import com.chutneytesting.design.infra.storage.scenario.DelegateScenarioRepository;
+import com.chutneytesting.design.infra.storage.scenario.TestCaseSearchIndex;
 import com.chutneytesting.design.infra.storage.scenario.git.json.versionned.JsonMapper;
 import com.chutneytesting.design.infra.storage.scenario.jdbc.TestCaseData;
 import com.chutneytesting.tools.IoUtils;
-import com.chutneytesting.tools.Streams;
 import com.chutneytesting.tools.ThrowingRunnable;
 import java.io.FileReader;
 import java.io.IOException;
@@ -19,18 +19,25 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class GitScenarioRepository implements DelegateScenarioRepository {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GitScenarioRepository.class);
+    // Listing and searching pull remote changes at most once per interval
+    private static final Duration LOAD_INTERVAL = Duration.ofSeconds(30);
 
     private final GitRepository gitRepository;
 
@@ -38,6 +45,13 @@ public class GitScenarioRepository implements DelegateScenarioRepository {
     private final GitClient gitClient;
     private final JsonMapper<TestCaseData> jsonMapper;
 
+    // Scenario files by id, rebuilt when checked out commit changes
+    private volatile Map<String, ScenarioFile> scenarioFiles;
+    private Optional<ObjectId> indexedCommitId = Optional.empty();
+    private volatile Instant lastLoad;
+    // Built on first search from scenario files, then kept up to date by save and remove until checked out commit changes
+    private volatile TestCaseSearchIndex searchIndex;
+
     public GitScenarioRepository(GitRepository gitRepository,
                                  GitClient gitClient,
                                  JsonMapper<TestCaseData> jsonMapper) {
@@ -46,7 +60,7 @@ public class GitScenarioRepository implements DelegateScenarioRepository {
         this.gitClient = gitClient;
         this.jsonMapper = jsonMapper;
         this.localPath = gitClient.getGitDirectory(gitRepository.repositoryName).resolve(gitRepository.testSubFolder);
-        gitClient.loadRepository(gitRepository.url, gitRepository.repositoryName);
+        loadRepository();
     }
 
     @Override
@@ -58,10 +72,12 @@ public class GitScenarioRepository implements DelegateScenarioRepository {
     public String save(TestCaseData testCaseData) {
         return unsafe("Cannot save scenario", () -> {
             Path toWrite = prepareFile(testCaseData);
-            Files.write(toWrite, jsonMapper.write(testCaseData).getBytes());
+            String content = jsonMapper.write(testCaseData);
+            Files.write(toWrite, content.getBytes());
+            indexFile(testCaseData.id, toWrite, content);
 
             final String commitMessage = "Auto commit/push. File committed: /" + testCaseData.title;
-            gitClient.addCommitPushFile(gitRepository.repositoryName, commitMessage);
+            gitClient.addCommitPushFile(gitRepository.repositoryName, commitMessage).ifPresent(this::recordOwnCommit);
 
             return String.valueOf(testCaseData.title.hashCode());
         });
@@ -99,13 +115,10 @@ public class GitScenarioRepository implements DelegateScenarioRepository {
     @Override
     public List<TestCaseMetadata> findAll() {
         return unsafe("Cannot browse " + localPath, () -> {
-            gitClient.loadRepository(gitRepository.url, gitRepository.repositoryName);
-            try (Stream<Path> paths = Files.walk(localPath)) {
-                return paths
-                    .filter(path -> path.toFile().isFile() && !IoUtils.isHidden(path, localPath))
-                    .map(path -> ScenarioMetadataMapper.mapFile(path, alias()))
-                    .collect(Collectors.toList());
-            }
+            loadRepositoryIfOutdated();
+            return refreshScenarioFiles().values().stream()
+                .map(scenarioFile -> scenarioFile.metadata)
+                .collect(Collectors.toList());
         });
     }
 
@@ -115,7 +128,13 @@ public class GitScenarioRepository implements DelegateScenarioRepository {
             final Optional<Path> path = findFile(scenarioId);
             if (path.isPresent()) {
                 Files.delete(path.get());
-                gitClient.removeCommitPushFile(gitRepository.repositoryName, "Delete file" + path.get(), path.get().toFile().getName());
+                refreshScenarioFiles().remove(scenarioId);
+                TestCaseSearchIndex index = searchIndex;
+                if (index != null) {
+                    index.remove(scenarioId);
+                }
+                gitClient.removeCommitPushFile(gitRepository.repositoryName, "Delete file" + path.get(), path.get().toFile().getName())
+                    .ifPresent(this::recordOwnCommit);
             }
         });
     }
@@ -126,29 +145,122 @@ public class GitScenarioRepository implements DelegateScenarioRepository {
     }
 
     @Override
-    public List<TestCaseMetadata> search(String textFilter) {
-        return findAll();
+    public List<TestCaseSearchIndex.Match> rankedSearch(String textFilter, int offset, int limit) {
+        if (textFilter.isEmpty()) {
+            return findAll().stream().skip(offset).limit(limit).map(metadata -> new TestCaseSearchIndex.Match(metadata, 0)).collect(Collectors.toList());
+        }
+        return unsafe("Cannot search " + localPath, () -> {
+            loadRepositoryIfOutdated();
+            return searchIndex().rankedSearch(textFilter, offset, limit);
+        });
     }
 
     /**
      * @return path found if the filename hashcode equals to the scenarioId
      */
     private Optional<Path> findFile(String scenarioId) {
-        try {
-            try (Stream<Path> stream = Files.walk(localPath)) {
-                return stream
-                    .filter(path -> path.toFile().isFile() && String.valueOf(path.toFile().getName().hashCode()).equals(scenarioId))
-                    .collect(Streams.collectUniqueResult());
-            }
+        return Optional.ofNullable(refreshScenarioFiles().get(scenarioId)).map(scenarioFile -> scenarioFile.path);
+    }
+
+    private void loadRepository() {
+        gitClient.loadRepository(gitRepository.url, gitRepository.repositoryName);
+        lastLoad = Instant.now();
+    }
+
+    private void loadRepositoryIfOutdated() {
+        if (lastLoad.plus(LOAD_INTERVAL).isBefore(Instant.now())) {
+            loadRepository();
+        }
+    }
+
+    /**
+     * Walk repository files only if checked out commit changed since last walk, or is unknown.<br>
+     * Resolving HEAD is cheap compared to the walk, so it is done on every lookup: files are never stale after a pull.
+     */
+    private synchronized Map<String, ScenarioFile> refreshScenarioFiles() {
+        Optional<ObjectId> headCommitId = gitClient.headCommitId(gitRepository.repositoryName);
+        if (scenarioFiles != null && headCommitId.isPresent() && headCommitId.equals(indexedCommitId)) {
+            return scenarioFiles;
+        }
+
+        Map<String, ScenarioFile> files = new ConcurrentHashMap<>();
+        try (Stream<Path> paths = Files.walk(localPath)) {
+            paths
+                .filter(path -> path.toFile().isFile() && !IoUtils.isHidden(path, localPath))
+                .map(this::scenarioFile)
+                .forEach(scenarioFile -> {
+                    ScenarioFile duplicate = files.putIfAbsent(scenarioFile.metadata.id(), scenarioFile);
+                    if (duplicate != null) {
+                        LOGGER.warn("Ignore " + scenarioFile.path + ", scenario file " + duplicate.path + " has the same name");
+                    }
+                });
         } catch (IOException e) {
-            throw new RuntimeException("Cannot find file", e);
+            throw new RuntimeException("Cannot browse " + localPath, e);
         }
+        scenarioFiles = files;
+        indexedCommitId = headCommitId;
+        searchIndex = null;
+        return files;
+    }
+
+    /**
+     * Own commits only record changes already applied to scenario files and search index, so they do not trigger a walk.<br>
+     * A commit not made on the indexed one, or followed by other changes of HEAD, is not recorded: next lookup walks files again.
+     */
+    private synchronized void recordOwnCommit(RevCommit commit) {
+        Optional<ObjectId> parentCommitId = commit.getParentCount() == 1 ? Optional.of(commit.getParent(0).copy()) : Optional.empty();
+        Optional<ObjectId> commitId = Optional.of(commit.copy());
+        if (scenarioFiles != null && parentCommitId.equals(indexedCommitId) && commitId.equals(gitClient.headCommitId(gitRepository.repositoryName))) {
+            indexedCommitId = commitId;
+        }
+    }
+
+    private synchronized TestCaseSearchIndex searchIndex() throws IOException {
+        Map<String, ScenarioFile> files = refreshScenarioFiles();
+        if (searchIndex == null) {
+            TestCaseSearchIndex index = new TestCaseSearchIndex();
+            for (ScenarioFile scenarioFile : files.values()) {
+                index.index(scenarioFile.metadata, new String(Files.readAllBytes(scenarioFile.path)));
+            }
+            searchIndex = index;
+        }
+        return searchIndex;
+    }
+
+    private void indexFile(String previousId, Path file, String content) {
+        Map<String, ScenarioFile> files = refreshScenarioFiles();
+        ScenarioFile scenarioFile = scenarioFile(file);
+        TestCaseSearchIndex index = searchIndex;
+        if (previousId != null) {
+            files.remove(previousId);
+            if (index != null) {
+                index.remove(previousId);
+            }
+        }
+        files.put(scenarioFile.metadata.id(), scenarioFile);
+        if (index != null) {
+            index.index(scenarioFile.metadata, content);
+        }
+    }
+
+    private ScenarioFile scenarioFile(Path path) {
+        return new ScenarioFile(path, ScenarioMetadataMapper.mapFile(path, alias()));
     }
 
     private boolean shouldMoveFile(String title, String oldFileName) {
         return !oldFileName.equals(title);
     }
 
+    private static class ScenarioFile {
+        private final Path path;
+        private final TestCaseMetadata metadata;
+
+        private ScenarioFile(Path path, TestCaseMetadata metadata) {
+            this.path = path;
+            this.metadata = metadata;
+        }
+    }
+
     private static class TestCaseDataMapper {
         static TestCaseData mapFile(Path path) {
             try {
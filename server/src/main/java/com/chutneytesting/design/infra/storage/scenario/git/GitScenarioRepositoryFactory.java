@@ -4,6 +4,9 @@ import com.chutneytesting.admin.infra.storage.JsonFilesGitRepository;
 import com.chutneytesting.design.infra.storage.scenario.DelegateScenarioRepository;
 import com.chutneytesting.design.infra.storage.scenario.jdbc.TestCaseData;
 import com.chutneytesting.design.infra.storage.scenario.git.json.versionned.JsonMapper;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import org.springframework.stereotype.Service;
 
@@ -13,6 +16,8 @@ public class GitScenarioRepositoryFactory {
     private final GitClient gitClient;
     private final JsonMapper<TestCaseData> jsonMapper;
     private final JsonFilesGitRepository jsonFilesGitRepository;
+    // Kept between calls so each repository is loaded once and keeps its scenario files index
+    private final Map<GitRepository, DelegateScenarioRepository> repositories = new ConcurrentHashMap<>();
 
     public GitScenarioRepositoryFactory(GitClient gitClient, JsonMapper<TestCaseData> jsonMapper, JsonFilesGitRepository jsonFilesGitRepository) {
         this.gitClient = gitClient;
@@ -21,9 +26,11 @@ public class GitScenarioRepositoryFactory {
     }
 
     public Stream<DelegateScenarioRepository> listGitRepo() {
-        return jsonFilesGitRepository.listGitRepository()
+        Set<GitRepository> gitRepositories = jsonFilesGitRepository.listGitRepository();
+        repositories.keySet().retainAll(gitRepositories);
+        return gitRepositories
             .stream()
-            .map(this::create);
+            .map(repo -> repositories.computeIfAbsent(repo, this::create));
     }
 
     private DelegateScenarioRepository create(GitRepository repo) {
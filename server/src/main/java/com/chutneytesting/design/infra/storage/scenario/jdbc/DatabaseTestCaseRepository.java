@@ -9,6 +9,7 @@ import com.chutneytesting.design.domain.scenario.ScenarioNotFoundException;
 import com.chutneytesting.design.domain.scenario.TestCaseMetadata;
 import com.chutneytesting.design.domain.scenario.TestCaseMetadataImpl;
 import com.chutneytesting.design.infra.storage.scenario.DelegateScenarioRepository;
+import com.chutneytesting.design.infra.storage.scenario.TestCaseSearchIndex;
 import com.chutneytesting.security.domain.User;
 import com.chutneytesting.tools.Try;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -19,14 +20,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import org.apache.commons.lang.StringEscapeUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -36,11 +36,16 @@ import org.springframework.stereotype.Repository;
 public class DatabaseTestCaseRepository implements DelegateScenarioRepository {
 
     private static final ScenarioMetadataRowMapper SCENARIO_INDEX_ROW_MAPPER = new ScenarioMetadataRowMapper();
+    private static final String SEARCH_INDEX_QUERY = "SELECT ID, TITLE, DESCRIPTION, TAGS, CREATION_DATE, USER_ID, UPDATE_DATE, VERSION, CONTENT FROM SCENARIO WHERE ACTIVATED is TRUE";
     private final ScenarioRowMapper scenario_row_mapper;
 
     private final NamedParameterJdbcTemplate uiNamedParameterJdbcTemplate;
     private final ObjectMapper mapper;
 
+    // Built on first search, then kept up to date by save and remove
+    private final TestCaseSearchIndex searchIndex = new TestCaseSearchIndex();
+    private volatile boolean searchIndexBuilt = false;
+
     public DatabaseTestCaseRepository(NamedParameterJdbcTemplate uiNamedParameterJdbcTemplate,
                                       @Qualifier("persistenceObjectMapper") ObjectMapper objectMapper) {
 
@@ -56,10 +61,9 @@ public class DatabaseTestCaseRepository implements DelegateScenarioRepository {
 
     @Override
     public String save(TestCaseData scenario) {
-        if (isNewScenario(scenario)) {
-            return doSave(scenario);
-        }
-        return doUpdate(scenario);
+        String scenarioId = isNewScenario(scenario) ? doSave(scenario) : doUpdate(scenario);
+        refreshSearchIndex(scenarioId);
+        return scenarioId;
     }
 
     @Override
@@ -82,6 +86,7 @@ public class DatabaseTestCaseRepository implements DelegateScenarioRepository {
         uiNamedParameterJdbcTemplate.update("DELETE FROM CAMPAIGN_EXECUTION_HISTORY WHERE SCENARIO_ID = :id", buildIdParameterMap(scenarioId));
         uiNamedParameterJdbcTemplate.update("DELETE FROM CAMPAIGN_SCENARIOS WHERE SCENARIO_ID = :id", buildIdParameterMap(scenarioId));
         uiNamedParameterJdbcTemplate.update("UPDATE SCENARIO SET ACTIVATED = FALSE WHERE ID = :id", buildIdParameterMap(scenarioId));
+        searchIndex.remove(scenarioId);
     }
 
     @Override
@@ -94,20 +99,40 @@ public class DatabaseTestCaseRepository implements DelegateScenarioRepository {
     }
 
     @Override
-    public List<TestCaseMetadata> search(String textFilter) {
-        if(!textFilter.isEmpty()) {
-            String[] words =  StringEscapeUtils.escapeSql(textFilter).split("\\s");
-            String sqlSearch = Arrays.stream(words).map(w -> " CONTENT LIKE '%" + w + "%' ").collect(Collectors.joining(" AND "));
-            return uiNamedParameterJdbcTemplate.query(
-                "SELECT ID, TITLE, DESCRIPTION, TAGS, CREATION_DATE, USER_ID, UPDATE_DATE, VERSION " +
-                    "FROM SCENARIO " +
-                    "WHERE ACTIVATED is TRUE " +
-                    "AND " + sqlSearch, emptyMap(), SCENARIO_INDEX_ROW_MAPPER);
-        } else {
-            return findAll();
+    public List<TestCaseSearchIndex.Match> rankedSearch(String textFilter, int offset, int limit) {
+        if (textFilter.isEmpty()) {
+            return findAll().stream().skip(offset).limit(limit).map(metadata -> new TestCaseSearchIndex.Match(metadata, 0)).collect(Collectors.toList());
+        }
+        buildSearchIndex();
+        return searchIndex.rankedSearch(textFilter, offset, limit);
+    }
+
+    private void buildSearchIndex() {
+        if (!searchIndexBuilt) {
+            synchronized (searchIndex) {
+                if (!searchIndexBuilt) {
+                    uiNamedParameterJdbcTemplate.query(SEARCH_INDEX_QUERY, emptyMap(), (RowCallbackHandler) this::indexScenario);
+                    searchIndexBuilt = true;
+                }
+            }
         }
     }
 
+    /**
+     * Checked under the lock building the index, so that a scenario saved while the index is built is not missed.
+     */
+    private void refreshSearchIndex(String scenarioId) {
+        synchronized (searchIndex) {
+            if (searchIndexBuilt) {
+                uiNamedParameterJdbcTemplate.query(SEARCH_INDEX_QUERY + " AND ID = :id", buildIdParameterMap(scenarioId), (RowCallbackHandler) this::indexScenario);
+            }
+        }
+    }
+
+    private void indexScenario(ResultSet rs) throws SQLException {
+        searchIndex.index(SCENARIO_INDEX_ROW_MAPPER.mapRow(rs, rs.getRow()), rs.getString("CONTENT"));
+    }
+
     private boolean isNewScenario(TestCaseData scenario) {
         return scenario.id == null || uiNamedParameterJdbcTemplate.queryForObject("SELECT COUNT(ID) FROM SCENARIO WHERE ID = :id", buildIdParameterMap(scenario.id), int.class) == 0;
     }
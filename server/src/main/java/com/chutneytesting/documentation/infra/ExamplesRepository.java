@@ -5,6 +5,7 @@ import static com.chutneytesting.ServerConfiguration.EXAMPLES_ACTIVE_SPRING_VALU
 import com.chutneytesting.design.domain.scenario.TestCaseMetadata;
 import com.chutneytesting.design.domain.scenario.TestCaseMetadataImpl;
 import com.chutneytesting.design.infra.storage.scenario.DelegateScenarioRepository;
+import com.chutneytesting.design.infra.storage.scenario.TestCaseSearchIndex;
 import com.chutneytesting.design.infra.storage.scenario.jdbc.TestCaseData;
 import com.chutneytesting.tools.Streams;
 import java.time.Instant;
@@ -23,6 +24,7 @@ public class ExamplesRepository implements DelegateScenarioRepository {
     private static final Instant START_TIME = Instant.MIN;
 
     private final Map<String, String> examples; // fileName, Content
+    private final TestCaseSearchIndex searchIndex = new TestCaseSearchIndex();
     private boolean isActive;
     private final String ORIGIN = "examples";
 
@@ -30,6 +32,7 @@ public class ExamplesRepository implements DelegateScenarioRepository {
                               @Qualifier("embeddedExamples") Map<String, String> examples) {
         this.isActive = isActive;
         this.examples = examples;
+        examples.entrySet().forEach(entry -> searchIndex.index(mapToMetadata(entry), entry.getValue()));
     }
 
     @Override
@@ -75,8 +78,11 @@ public class ExamplesRepository implements DelegateScenarioRepository {
     }
 
     @Override
-    public List<TestCaseMetadata> search(String textFilter) {
-        return findAll();
+    public List<TestCaseSearchIndex.Match> rankedSearch(String textFilter, int offset, int limit) {
+        if (!isActive || textFilter.isEmpty()) {
+            return findAll().stream().skip(offset).limit(limit).map(metadata -> new TestCaseSearchIndex.Match(metadata, 0)).collect(Collectors.toList());
+        }
+        return searchIndex.rankedSearch(textFilter, offset, limit);
     }
 
     // TODO - remove duplication & do it only once on startup in DocumentationConfiguration
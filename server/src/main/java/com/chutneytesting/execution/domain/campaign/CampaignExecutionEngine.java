@@ -1,6 +1,5 @@
 package com.chutneytesting.execution.domain.campaign;
 
-import static java.util.Collections.singleton;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import com.chutneytesting.design.domain.campaign.Campaign;
@@ -24,19 +23,14 @@ import com.chutneytesting.execution.domain.scenario.ScenarioExecutionEngine;
 import com.chutneytesting.execution.domain.scenario.composed.ExecutableComposedTestCase;
 import com.chutneytesting.instrument.domain.ChutneyMetrics;
 import com.chutneytesting.tools.Try;
-import com.google.common.collect.Lists;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -50,7 +44,8 @@ public class CampaignExecutionEngine {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Campaign.class);
 
-    private final ExecutorService executor;
+    private final CampaignExecutionScheduler scheduler;
+    private final int campaignParallelism;
     private final CampaignRepository campaignRepository;
     private final ScenarioExecutionEngine scenarioExecutionEngine;
     private final ExecutionHistoryRepository executionHistoryRepository;
@@ -69,7 +64,9 @@ public class CampaignExecutionEngine {
                                    DataSetHistoryRepository dataSetHistoryRepository,
                                    JiraXrayPlugin jiraXrayPlugin,
                                    ChutneyMetrics metrics,
-                                   ExecutorService executorService) {
+                                   ExecutorService executorService,
+                                   int executorThreads,
+                                   int campaignParallelism) {
         this.campaignRepository = campaignRepository;
         this.scenarioExecutionEngine = scenarioExecutionEngine;
         this.executionHistoryRepository = executionHistoryRepository;
@@ -77,7 +74,8 @@ public class CampaignExecutionEngine {
         this.dataSetHistoryRepository = dataSetHistoryRepository;
         this.jiraXrayPlugin = jiraXrayPlugin;
         this.metrics = metrics;
-        this.executor = executorService;
+        this.scheduler = new CampaignExecutionScheduler(executorService, executorThreads);
+        this.campaignParallelism = campaignParallelism;
     }
 
     public List<CampaignExecutionReport> executeByName(String campaignName, String userId) {
@@ -163,36 +161,49 @@ public class CampaignExecutionEngine {
 
     private CampaignExecutionReport execute(Campaign campaign, CampaignExecutionReport campaignExecutionReport, List<String> scenariosToExecute) {
         LOGGER.trace("Execute campaign {} : {}", campaign.id, campaign.title);
-        List<TestCase> testCases = scenariosToExecute.stream()
-            .map(testCaseRepository::findById)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
-
-        campaignExecutionReport.initExecution(testCases, campaign.executionEnvironment(), campaignExecutionReport.userId);
+        campaignExecutionReport.initPendingExecutions(scenariosToExecute, scenarioTitles(scenariosToExecute), campaign.executionEnvironment(), campaignExecutionReport.userId);
         try {
-            if (campaign.parallelRun) {
-                Collection<Callable<Object>> toExecute = Lists.newArrayList();
-                for (TestCase t : testCases) {
-                    toExecute.add(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecutionReport).accept(t)));
-                }
-                executor.invokeAll(toExecute);
-            } else {
-                for (TestCase t : testCases) {
-                    executor.invokeAll(singleton(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecutionReport).accept(t))));
-                }
-            }
+            // Test cases are loaded one at a time, when there is room for their execution
+            int parallelism = campaign.parallelRun ? campaignParallelism : 1;
+            scheduler.execute(scenariosToExecute.iterator(), parallelism, executeScenarioInCampaign(campaign, campaignExecutionReport));
         } catch (InterruptedException e) {
             LOGGER.error("Error ", e);
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             LOGGER.error("Unexpected error ", e);
         }
         return campaignExecutionReport;
     }
 
-    private Consumer<TestCase> executeScenarioInCampaign(Campaign campaign, CampaignExecutionReport campaignExecutionReport) {
-        return testCase -> {
+    /**
+     * @return titles of given scenarios, looked up by id in scenarios metadata only
+     */
+    private Map<String, String> scenarioTitles(List<String> scenarioIds) {
+        Map<String, String> titles = new HashMap<>();
+        scenarioIds.forEach(scenarioId -> {
+            try {
+                titles.put(scenarioId, testCaseRepository.findMetadataById(scenarioId).title());
+            } catch (RuntimeException e) {
+                LOGGER.warn("Cannot find title of scenario {}, it will be set when scenario starts", scenarioId, e);
+            }
+        });
+        return titles;
+    }
+
+    private Consumer<String> executeScenarioInCampaign(Campaign campaign, CampaignExecutionReport campaignExecutionReport) {
+        return scenarioId -> {
             // Is stop requested ?
             if (!currentCampaignExecutionsStopRequests.get(campaignExecutionReport.executionId)) {
+                TestCase testCase;
+                try {
+                    testCase = testCaseRepository.findById(scenarioId);
+                } catch (ScenarioNotFoundException | ScenarioNotParsableException se) {
+                    LOGGER.error("Scenario error for scenario {} for campaign {}", scenarioId, campaign.id, se);
+                    return;
+                }
+                if (testCase == null) {
+                    return;
+                }
                 // Init scenario execution in campaign report
                 campaignExecutionReport.startScenarioExecution(testCase, campaign.executionEnvironment(), campaignExecutionReport.userId);
                 // Execute scenario
@@ -0,0 +1,96 @@
+package com.chutneytesting.execution.domain.campaign;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Share campaigns executor between running campaigns.<br>
+ * A campaign has at most its parallelism tasks submitted, and no more than its share of the executor threads,
+ * i.e. threads divided by running campaigns, so a large campaign cannot starve others.
+ * Next tasks are only pulled when previous ones are done, or when the share grows because another campaign ended.
+ */
+class CampaignExecutionScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CampaignExecutionScheduler.class);
+
+    private final ExecutorService executor;
+    private final int threads;
+    // Windows of running campaigns
+    private final Set<Window> windows = ConcurrentHashMap.newKeySet();
+
+    CampaignExecutionScheduler(ExecutorService executor, int threads) {
+        this.executor = executor;
+        this.threads = threads;
+    }
+
+    /**
+     * Run a campaign tasks and wait for all of them to be done.
+     */
+    <T> void execute(Iterator<T> items, int parallelism, Consumer<T> task) throws InterruptedException {
+        Window window = new Window();
+        windows.add(window);
+        try {
+            while (items.hasNext()) {
+                window.acquire(parallelism);
+                T item = items.next();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            task.accept(item);
+                        } catch (RuntimeException e) {
+                            LOGGER.error("Campaign task failed", e);
+                        } finally {
+                            window.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    window.release();
+                    throw e;
+                }
+            }
+            window.awaitEmpty();
+        } finally {
+            windows.remove(window);
+            windows.forEach(Window::shareChanged);
+        }
+    }
+
+    private int fairShare() {
+        return Math.max(1, threads / Math.max(1, windows.size()));
+    }
+
+    /**
+     * Tasks of one campaign submitted and not done yet.
+     */
+    private class Window {
+        private int inFlight = 0;
+
+        private synchronized void acquire(int parallelism) throws InterruptedException {
+            while (inFlight >= Math.min(parallelism, fairShare())) {
+                wait();
+            }
+            inFlight++;
+        }
+
+        private synchronized void release() {
+            inFlight--;
+            notifyAll();
+        }
+
+        private synchronized void shareChanged() {
+            notifyAll();
+        }
+
+        private synchronized void awaitEmpty() throws InterruptedException {
+            while (inFlight > 0) {
+                wait();
+            }
+        }
+    }
+}
@@ -2,8 +2,6 @@ package com.chutneytesting.execution.domain.compiler;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.chutneytesting.design.domain.globalvar.GlobalvarRepository;
@@ -18,9 +16,11 @@ import com.chutneytesting.execution.domain.scenario.composed.StepImplementation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.text.StringEscapeUtils;
 import org.slf4j.Logger;
@@ -33,6 +33,9 @@ public class ComposedTestCaseParametersResolutionPreProcessor implements TestCas
     private final GlobalvarRepository globalvarRepository;
     private final ObjectMapper objectMapper;
 
+    // Resolved from the last flat map read, which stays the same instance as long as global variables do not change
+    private volatile ResolvedGlobalVariables resolvedGlobalVariables = new ResolvedGlobalVariables(null, emptyMap());
+
     ComposedTestCaseParametersResolutionPreProcessor(GlobalvarRepository globalvarRepository, ObjectMapper objectMapper) {
         this.globalvarRepository = globalvarRepository;
         this.objectMapper = objectMapper;
@@ -162,17 +165,33 @@ public class ComposedTestCaseParametersResolutionPreProcessor implements TestCas
 
     private Map<String, String> initGlobalVariables(GlobalvarRepository globalvarRepository) {
         Map<String, String> flatMap = globalvarRepository.getFlatMap();
-        Map<String, String> collect = resolveMapValues(flatMap);
-        while (!collect.equals(flatMap)) {
-            flatMap = collect;
-            collect = resolveMapValues(flatMap);
+        ResolvedGlobalVariables cached = resolvedGlobalVariables;
+        if (cached.flatMap != flatMap) {
+            cached = new ResolvedGlobalVariables(flatMap, resolveGlobalVariables(flatMap));
+            resolvedGlobalVariables = cached;
         }
-        return collect;
+        return new HashMap<>(cached.resolved);
+    }
+
+    /**
+     * Resolve global variables referring to other ones, each one once, following their dependencies.<br>
+     * References part of a cycle are left as is.
+     */
+    private Map<String, String> resolveGlobalVariables(Map<String, String> flatMap) {
+        Map<String, String> resolved = new HashMap<>(flatMap.size());
+        Set<String> resolving = new HashSet<>();
+        flatMap.keySet().forEach(key -> resolveGlobalVariable(key, flatMap, resolved, resolving));
+        return resolved;
     }
 
-    private Map<String, String> resolveMapValues(Map<String, String> map) {
-        return map.entrySet().stream()
-            .collect(toMap(Map.Entry::getKey, e -> replaceParams(map, e.getValue(), identity())));
+    private String resolveGlobalVariable(String key, Map<String, String> flatMap, Map<String, String> resolved, Set<String> resolving) {
+        String value = resolved.get(key);
+        if (value == null && flatMap.containsKey(key) && resolving.add(key)) {
+            value = ParameterTemplate.of(flatMap.get(key)).render(reference -> resolveGlobalVariable(reference, flatMap, resolved, resolving));
+            resolving.remove(key);
+            resolved.put(key, value);
+        }
+        return value;
     }
 
     private void makeEnvironmentNameAsGlobalVariable(Map<String, String> globalVariable, String environment) {
@@ -181,4 +200,13 @@ public class ComposedTestCaseParametersResolutionPreProcessor implements TestCas
         }
     }
 
+    private static class ResolvedGlobalVariables {
+        private final Map<String, String> flatMap;
+        private final Map<String, String> resolved;
+
+        private ResolvedGlobalVariables(Map<String, String> flatMap, Map<String, String> resolved) {
+            this.flatMap = flatMap;
+            this.resolved = resolved;
+        }
+    }
 }
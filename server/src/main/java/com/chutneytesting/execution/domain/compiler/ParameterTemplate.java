@@ -0,0 +1,93 @@
+package com.chutneytesting.execution.domain.compiler;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * String with <b>**key**</b> parameters markers, parsed once.<br>
+ * Rendering scans the string a single time, looking each marker up, so that its cost does not depend on the number of known parameters.
+ * Markers whose key is unknown are left as is.
+ */
+final class ParameterTemplate {
+
+    private static final String MARKER = "**";
+    // Bound on cached texts total length, as step implementations sizes vary a lot
+    private static final long MAX_CACHED_CHARS = 1_000_000;
+
+    // Same step implementations are found many times in composed scenarios
+    private static final Cache<String, ParameterTemplate> CACHE = CacheBuilder.newBuilder()
+        .maximumWeight(MAX_CACHED_CHARS)
+        .weigher((String text, ParameterTemplate template) -> text.length())
+        .build();
+
+    private final String text;
+    // Start of each marker occurrence, overlapping ones included, so that ***key** still matches key
+    private final int[] markers;
+
+    private ParameterTemplate(String text, int[] markers) {
+        this.text = text;
+        this.markers = markers;
+    }
+
+    static ParameterTemplate of(String text) {
+        int firstMarker = text.indexOf(MARKER);
+        if (firstMarker < 0) {
+            return new ParameterTemplate(text, new int[0]);
+        }
+        ParameterTemplate template = CACHE.getIfPresent(text);
+        if (template == null) {
+            // Parsed outside of cache locks, a text parsed twice concurrently only costs a second parse
+            template = parse(text, firstMarker);
+            CACHE.put(text, template);
+        }
+        return template;
+    }
+
+    private static ParameterTemplate parse(String text, int firstMarker) {
+        int[] markers = new int[8];
+        int count = 0;
+        for (int i = firstMarker; i >= 0; i = text.indexOf(MARKER, i + 1)) {
+            if (count == markers.length) {
+                markers = Arrays.copyOf(markers, count * 2);
+            }
+            markers[count++] = i;
+        }
+        return new ParameterTemplate(text, Arrays.copyOf(markers, count));
+    }
+
+    /**
+     * @param values gives the value of a key, null when the key is unknown
+     */
+    String render(Function<String, String> values) {
+        if (markers.length < 2) {
+            return text;
+        }
+        StringBuilder rendered = new StringBuilder(text.length());
+        int copiedUntil = 0;
+        int opening = 0;
+        while (opening < markers.length) {
+            int closing = opening + 1;
+            while (closing < markers.length && markers[closing] < markers[opening] + MARKER.length()) {
+                closing++;
+            }
+            if (closing == markers.length) {
+                break;
+            }
+
+            String value = values.apply(text.substring(markers[opening] + MARKER.length(), markers[closing]));
+            if (value == null) {
+                opening++;
+            } else {
+                rendered.append(text, copiedUntil, markers[opening]).append(value);
+                copiedUntil = markers[closing] + MARKER.length();
+                opening = closing + 1;
+                while (opening < markers.length && markers[opening] < copiedUntil) {
+                    opening++;
+                }
+            }
+        }
+        return rendered.append(text, copiedUntil, text.length()).toString();
+    }
+}
@@ -17,21 +17,35 @@ public interface TestCasePreProcessor<T extends TestCase> {
     }
 
     default String replaceParams(String parameterizedString, Map<String, String> globalDataSet, Map<String, String> dataSet) {
-        String concreteString = replaceParams(dataSet, parameterizedString, Function.identity());
-        return replaceParams(globalDataSet, concreteString, Function.identity());
+        return replaceParams(parameterizedString, globalDataSet, dataSet, Function.identity());
     }
 
+    /**
+     * Replace <b>**key**</b> markers with dataSet values first, then globalDataSet ones.<br>
+     * Global variables referenced by dataSet values are replaced too.
+     */
     default String replaceParams(String parameterizedString, Map<String, String> globalDataSet, Map<String, String> dataSet, Function<String, String> escapeValueFunction) {
-        String concreteString = replaceParams(dataSet, parameterizedString, escapeValueFunction);
-        return replaceParams(globalDataSet, concreteString, escapeValueFunction);
+        if (parameterizedString == null) {
+            return null;
+        }
+        return ParameterTemplate.of(parameterizedString).render(key -> {
+            String value = dataSet.get(key);
+            if (value != null) {
+                return replaceParams(globalDataSet, escapeValueFunction.apply(value), escapeValueFunction);
+            }
+            value = globalDataSet.get(key);
+            return value == null ? null : escapeValueFunction.apply(value);
+        });
     }
 
     default String replaceParams(Map<String, String> dataSet, String concreteString, Function<String, String> escapeValueFunction) {
-        String stringReplaced = concreteString;
-        for (Map.Entry<String, String> entry : dataSet.entrySet()) {
-            stringReplaced = stringReplaced.replace("**" + entry.getKey() + "**", escapeValueFunction.apply(entry.getValue()));
+        if (concreteString == null) {
+            return null;
         }
-        return stringReplaced;
+        return ParameterTemplate.of(concreteString).render(key -> {
+            String value = dataSet.get(key);
+            return value == null ? null : escapeValueFunction.apply(value);
+        });
     }
 
 }
@@ -2,6 +2,8 @@ package com.chutneytesting.execution.domain.history;
 
 import com.chutneytesting.execution.domain.report.ServerReportStatus;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Repository storing execution executionHistory by scenario.
@@ -30,6 +32,16 @@ public interface ExecutionHistoryRepository {
      */
     void update(String scenarioId, ExecutionHistory.Execution updatedExecution);
 
+    /**
+     * Update a running {@link ExecutionHistory.Execution} without rewriting its whole report.<br>
+     * The report is stored as fragments, one per step without its sub-steps, the root one holding the whole report fields.
+     * Fragments are reassembled by {@link #getExecution(String, Long)} and compacted by next {@link #update(String, ExecutionHistory.Execution)}.
+     *
+     * @param changedReportFragments report fragments by step path (sub-step indexes from the root step, empty for the root one), only those changed since last call
+     * @param replacedStepsPaths paths of steps whose sub-steps have been replaced since last call, fragments previously stored below them are discarded
+     */
+    void updateRunning(String scenarioId, ExecutionHistory.Execution runningExecution, Map<List<Integer>, String> changedReportFragments, Set<List<Integer>> replacedStepsPaths);
+
     int setAllRunningExecutionsToKO();
 
     List<ExecutionHistory.ExecutionSummary> getExecutionsWithStatus(ServerReportStatus status);
@@ -0,0 +1,29 @@
+package com.chutneytesting.execution.domain.report;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+/**
+ * Change of one step of an execution report, as published by the engine while executing.<br>
+ * {@link #path} holds the sub-step indexes leading from the root step to the changed step (empty for the root step itself).<br>
+ * {@link #spine} holds the reports of every step along this path, root first and changed step last.
+ * Reports without sub-steps keep the sub-steps of the report the delta is applied to.
+ */
+public class StepExecutionReportCoreDelta {
+
+    public final List<Integer> path;
+    public final List<StepExecutionReportCore> spine;
+
+    public StepExecutionReportCoreDelta(List<Integer> path, List<StepExecutionReportCore> spine) {
+        if (spine.size() != path.size() + 1) {
+            throw new IllegalArgumentException("Delta spine must contain one report per path element plus the root one");
+        }
+        this.path = unmodifiableList(path);
+        this.spine = unmodifiableList(spine);
+    }
+
+    public static StepExecutionReportCoreDelta snapshot(StepExecutionReportCore rootReport) {
+        return new StepExecutionReportCoreDelta(List.of(), List.of(rootReport));
+    }
+}
@@ -0,0 +1,155 @@
+package com.chutneytesting.execution.domain.report;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Execution report patched in place by {@link StepExecutionReportCoreDelta deltas}.<br>
+ * Applying a delta only touches the steps along its path.
+ * Immutable reports are built on demand, reusing the ones of steps left unchanged since the previous {@link #snapshot()}.
+ * Changed steps are also tracked, so that only them have to be stored, see {@link #takeChanges()}.
+ */
+public class StepExecutionReportCoreTree {
+
+    private Node root;
+    private final Map<List<Integer>, Node> changedSteps = new LinkedHashMap<>();
+    private final Set<List<Integer>> replacedSubSteps = new LinkedHashSet<>();
+
+    public synchronized void apply(StepExecutionReportCoreDelta delta) {
+        if (root == null) {
+            root = new Node();
+        }
+        Node node = root;
+        List<Integer> path = emptyList();
+        patch(node, path, delta.spine.get(0));
+        for (int depth = 0; depth < delta.path.size(); depth++) {
+            int index = delta.path.get(depth);
+            if (index >= node.steps.size()) {
+                node.steps.add(new Node());
+                index = node.steps.size() - 1;
+            }
+            node = node.steps.get(index);
+            path = subPath(path, index);
+            patch(node, path, delta.spine.get(depth + 1));
+        }
+    }
+
+    /**
+     * @return the current report, null if no delta has been applied yet
+     */
+    public synchronized StepExecutionReportCore snapshot() {
+        return root == null ? null : root.build();
+    }
+
+    /**
+     * @return steps changed since previous call, without their sub-steps
+     */
+    public synchronized Changes takeChanges() {
+        Map<List<Integer>, StepExecutionReportCore> steps = new LinkedHashMap<>();
+        changedSteps.forEach((path, node) -> steps.put(path, node.shallow()));
+        Changes changes = new Changes(steps, new LinkedHashSet<>(replacedSubSteps));
+        changedSteps.clear();
+        replacedSubSteps.clear();
+        return changes;
+    }
+
+    /**
+     * Consider the whole report changed, as when changes taken could not be stored.
+     */
+    public synchronized void markAllChanged() {
+        if (root != null) {
+            changedSteps.clear();
+            replacedSubSteps.add(emptyList());
+            markChanged(root, emptyList());
+        }
+    }
+
+    private void markChanged(Node node, List<Integer> path) {
+        changedSteps.put(path, node);
+        for (int i = 0; i < node.steps.size(); i++) {
+            markChanged(node.steps.get(i), subPath(path, i));
+        }
+    }
+
+    private void patch(Node node, List<Integer> path, StepExecutionReportCore patch) {
+        node.report = patch;
+        node.built = null;
+        changedSteps.put(path, node);
+        if (patch.steps != null && !patch.steps.isEmpty()) {
+            if (!node.steps.isEmpty()) {
+                replacedSubSteps.add(path);
+                changedSteps.keySet().removeIf(changedPath -> changedPath.size() > path.size() && changedPath.subList(0, path.size()).equals(path));
+                node.steps.clear();
+            }
+            for (int i = 0; i < patch.steps.size(); i++) {
+                Node subStep = new Node();
+                node.steps.add(subStep);
+                patch(subStep, subPath(path, i), patch.steps.get(i));
+            }
+        }
+    }
+
+    private static List<Integer> subPath(List<Integer> path, int index) {
+        List<Integer> subPath = new ArrayList<>(path.size() + 1);
+        subPath.addAll(path);
+        subPath.add(index);
+        return subPath;
+    }
+
+    public static class Changes {
+        /**
+         * Changed steps without their sub-steps, by path of sub-step indexes from the root step (empty for the root step itself)
+         */
+        public final Map<List<Integer>, StepExecutionReportCore> changedSteps;
+        /**
+         * Paths of steps whose sub-steps have been replaced as a whole, previously taken sub-steps are obsolete
+         */
+        public final Set<List<Integer>> replacedSubSteps;
+
+        private Changes(Map<List<Integer>, StepExecutionReportCore> changedSteps, Set<List<Integer>> replacedSubSteps) {
+            this.changedSteps = unmodifiableMap(changedSteps);
+            this.replacedSubSteps = unmodifiableSet(replacedSubSteps);
+        }
+    }
+
+    private static class Node {
+        private StepExecutionReportCore report;
+        private final List<Node> steps = new ArrayList<>();
+        // Null when this step or one of its sub-steps changed since last built
+        private StepExecutionReportCore built;
+
+        private StepExecutionReportCore build() {
+            if (built == null) {
+                if (steps.isEmpty()) {
+                    built = report;
+                } else {
+                    List<StepExecutionReportCore> subSteps = new ArrayList<>(steps.size());
+                    for (Node step : steps) {
+                        subSteps.add(step.build());
+                    }
+                    built = new StepExecutionReportCoreBuilder().from(report)
+                        .setSteps(subSteps)
+                        .createStepExecutionReport();
+                }
+            }
+            return built;
+        }
+
+        private StepExecutionReportCore shallow() {
+            if (report.steps == null || report.steps.isEmpty()) {
+                return report;
+            }
+            return new StepExecutionReportCoreBuilder().from(report)
+                .setSteps(emptyList())
+                .createStepExecutionReport();
+        }
+    }
+}
@@ -15,6 +15,8 @@ import com.chutneytesting.execution.domain.history.ImmutableExecutionHistory;
 import com.chutneytesting.execution.domain.report.ScenarioExecutionReport;
 import com.chutneytesting.execution.domain.report.ServerReportStatus;
 import com.chutneytesting.execution.domain.report.StepExecutionReportCore;
+import com.chutneytesting.execution.domain.report.StepExecutionReportCoreDelta;
+import com.chutneytesting.execution.domain.report.StepExecutionReportCoreTree;
 import com.chutneytesting.execution.domain.state.ExecutionStateRepository;
 import com.chutneytesting.instrument.domain.ChutneyMetrics;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -25,6 +27,7 @@ import io.reactivex.Completable;
 import io.reactivex.Observable;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -96,7 +99,7 @@ public class ScenarioExecutionEngineAsync {
         // Initialize execution history
         ExecutionHistory.Execution storedExecution = storeInitialReport(executionRequestProcessed);
         // Start engine execution
-        Pair<Observable<StepExecutionReportCore>, Long> followResult = callEngineExecution(executionRequestProcessed, storedExecution);
+        Pair<Observable<StepExecutionReportCoreDelta>, Long> followResult = callEngineExecution(executionRequestProcessed, storedExecution);
         // Build execution observable
         Observable<ScenarioExecutionReport> executionObservable = buildScenarioExecutionReportObservable(executionRequestProcessed, storedExecution.executionId(), followResult);
         // Store execution Observable to permit further subscriptions
@@ -109,8 +112,8 @@ public class ScenarioExecutionEngineAsync {
         return storedExecution.executionId();
     }
 
-    private Pair<Observable<StepExecutionReportCore>, Long> callEngineExecution(ExecutionRequest executionRequest, ExecutionHistory.Execution storedExecution) {
-        Pair<Observable<StepExecutionReportCore>, Long> followResult;
+    private Pair<Observable<StepExecutionReportCoreDelta>, Long> callEngineExecution(ExecutionRequest executionRequest, ExecutionHistory.Execution storedExecution) {
+        Pair<Observable<StepExecutionReportCoreDelta>, Long> followResult;
         try {
             followResult = executionEngine.executeAndFollow(executionRequest);
         } catch (Exception e) {
@@ -121,9 +124,14 @@ public class ScenarioExecutionEngineAsync {
         return followResult;
     }
 
-    Observable<ScenarioExecutionReport> buildScenarioExecutionReportObservable(ExecutionRequest executionRequest, Long executionId, Pair<Observable<StepExecutionReportCore>, Long> engineExecution) {
-        // Observe in background
-        Observable<StepExecutionReportCore> replayer = engineExecution.getLeft().observeOn(io());
+    Observable<ScenarioExecutionReport> buildScenarioExecutionReportObservable(ExecutionRequest executionRequest, Long executionId, Pair<Observable<StepExecutionReportCoreDelta>, Long> engineExecution) {
+        // Observe in background, applying engine deltas in place
+        StepExecutionReportCoreTree reportTree = new StepExecutionReportCoreTree();
+        Observable<StepExecutionReportCoreTree> replayer = engineExecution.getLeft().observeOn(io())
+            .map(delta -> {
+                reportTree.apply(delta);
+                return reportTree;
+            });
         // Debounce configuration
         if (debounceMilliSeconds > 0) {
             replayer = replayer.debounce(debounceMilliSeconds, TimeUnit.MILLISECONDS);
@@ -131,13 +139,13 @@ public class ScenarioExecutionEngineAsync {
         return replayer
             .doOnSubscribe(disposable -> notifyExecutionStart(executionId, executionRequest.testCase))
 
-            // Create report
-            .map(report -> {
+            // Create report, only once debounced
+            .map(tree -> {
                 LOGGER.trace("Map report for execution {}", executionId);
-                return new ScenarioExecutionReport(executionId, executionRequest.testCase.metadata().title(), executionRequest.environment, executionRequest.userId, report);
+                return new ScenarioExecutionReport(executionId, executionRequest.testCase.metadata().title(), executionRequest.environment, executionRequest.userId, tree.snapshot());
             })
 
-            .doOnNext(report -> updateHistory(executionId, executionRequest, report))
+            .doOnNext(report -> updateHistory(executionId, executionRequest, report, reportTree))
 
             .doOnTerminate(() -> notifyExecutionEnd(executionId, executionRequest.testCase))
             .doOnTerminate(() -> sendMetrics(executionId, executionRequest.testCase))
@@ -220,14 +228,14 @@ public class ScenarioExecutionEngineAsync {
      *
      * @param scenarioReport report to summarize
      */
-    private DetachedExecution summarize(ScenarioExecutionReport scenarioReport, String environment, String userId) {
+    private DetachedExecution summarize(ScenarioExecutionReport scenarioReport, String serializedReport, String environment, String userId) {
         return ImmutableExecutionHistory.DetachedExecution.builder()
             .time(scenarioReport.report.startDate.atZone(ZoneId.systemDefault()).toLocalDateTime())
             .duration(scenarioReport.report.duration)
             .status(scenarioReport.report.status)
             .info(joinAndTruncateMessages(searchInfo(scenarioReport.report)))
             .error(joinAndTruncateMessages(searchErrors(scenarioReport.report)))
-            .report(serialize(scenarioReport)) // TODO - type me and move serialization to infra
+            .report(serializedReport) // TODO - type me and move serialization to infra
             .testCaseTitle(scenarioReport.scenarioName)
             .environment(environment)
             .user(userId)
@@ -243,6 +251,21 @@ public class ScenarioExecutionEngineAsync {
         }
     }
 
+    /**
+     * Serialize changed steps as report fragments, see {@link ExecutionHistoryRepository#updateRunning}.
+     */
+    private Map<List<Integer>, String> serializeFragments(ScenarioExecutionReport scenarioReport, StepExecutionReportCoreTree.Changes changes) throws JsonProcessingException {
+        Map<List<Integer>, String> fragments = new HashMap<>();
+        for (Map.Entry<List<Integer>, StepExecutionReportCore> changedStep : changes.changedSteps.entrySet()) {
+            if (changedStep.getKey().isEmpty()) {
+                fragments.put(changedStep.getKey(), objectMapper.writeValueAsString(new ScenarioExecutionReport(scenarioReport.executionId, scenarioReport.scenarioName, scenarioReport.environment, scenarioReport.user, changedStep.getValue())));
+            } else {
+                fragments.put(changedStep.getKey(), objectMapper.writeValueAsString(changedStep.getValue()));
+            }
+        }
+        return fragments;
+    }
+
     private Optional<String> joinAndTruncateMessages(Iterable<String> messages) {
         return Optional.of(Ascii.truncate(Joiner.on(", ").join(messages), 50, "...")).filter(s -> !s.isEmpty());
     }
@@ -275,15 +298,31 @@ public class ScenarioExecutionEngineAsync {
         }
     }
 
-    private void updateHistory(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report) {
+    /**
+     * While running, only steps changed since last update are stored, as report fragments.<br>
+     * Other reports, including the last one, are stored whole.
+     */
+    private void updateHistory(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report, StepExecutionReportCoreTree reportTree) {
         LOGGER.trace("Update history for execution {}", executionId);
+        StepExecutionReportCoreTree.Changes changes = reportTree.takeChanges();
         try {
-            executionHistoryRepository.update(executionRequest.testCase.id(), summarize(report, executionRequest.environment, executionRequest.userId).attach(executionId));
+            String scenarioId = executionRequest.testCase.id();
+            if (isRunning(report.report.status)) {
+                executionHistoryRepository.updateRunning(scenarioId, summarize(report, "", executionRequest.environment, executionRequest.userId).attach(executionId), serializeFragments(report, changes), changes.replacedSubSteps);
+            } else {
+                executionHistoryRepository.update(scenarioId, summarize(report, serialize(report), executionRequest.environment, executionRequest.userId).attach(executionId));
+            }
         } catch (Exception e) {
             LOGGER.error("Update history for execution {} failed", executionId, e);
+            // Stored fragments may now be partial
+            reportTree.markAllChanged();
         }
     }
 
+    private static boolean isRunning(ServerReportStatus status) {
+        return status == ServerReportStatus.RUNNING || status == ServerReportStatus.PAUSED;
+    }
+
     private void notifyExecutionEnd(long executionId, TestCase testCase) {
         LOGGER.trace("Notify end for execution {}", executionId);
         executionStateRepository.notifyExecutionEnd(testCase.id());
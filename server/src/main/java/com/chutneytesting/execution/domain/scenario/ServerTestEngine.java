@@ -2,6 +2,7 @@ package com.chutneytesting.execution.domain.scenario;
 
 import com.chutneytesting.execution.domain.ExecutionRequest;
 import com.chutneytesting.execution.domain.report.StepExecutionReportCore;
+import com.chutneytesting.execution.domain.report.StepExecutionReportCoreDelta;
 import io.reactivex.Observable;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -9,7 +10,10 @@ public interface ServerTestEngine {
 
     StepExecutionReportCore execute(ExecutionRequest executionRequest);
 
-    Pair<Observable<StepExecutionReportCore>, Long> executeAndFollow(ExecutionRequest executionRequest);
+    /**
+     * @return changes of the execution report, beginning with a snapshot, and the execution id
+     */
+    Pair<Observable<StepExecutionReportCoreDelta>, Long> executeAndFollow(ExecutionRequest executionRequest);
 
     void stop(Long executionHash);
 
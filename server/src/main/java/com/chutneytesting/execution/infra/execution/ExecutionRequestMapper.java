@@ -8,8 +8,6 @@ import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.chutneytesting.agent.domain.explore.CurrentNetworkDescription;
-import com.chutneytesting.agent.domain.network.Agent;
-import com.chutneytesting.agent.domain.network.NetworkDescription;
 import com.chutneytesting.design.domain.scenario.gwt.GwtStep;
 import com.chutneytesting.design.domain.scenario.gwt.GwtTestCase;
 import com.chutneytesting.design.domain.scenario.gwt.Strategy;
@@ -29,7 +27,6 @@ import com.chutneytesting.execution.domain.scenario.composed.ExecutableComposedT
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
 import org.hjson.JsonValue;
 import org.springframework.stereotype.Component;
 
@@ -226,13 +223,8 @@ public class ExecutionRequestMapper {
     }
 
     private List<NamedHostAndPort> getAgents(TargetDto targetDto, String env) {
-        List<NamedHostAndPort> nhaps = emptyList();
-        Optional<NetworkDescription> networkDescription = currentNetworkDescription.findCurrent();
-        if (networkDescription.isPresent() && networkDescription.get().localAgent().isPresent()) {
-            final Agent localAgent = networkDescription.get().localAgent().get();
-            List<Agent> agents = localAgent.findFellowAgentForReaching(targetDto.name, env);
-            nhaps = agents.stream().map(a -> a.agentInfo).collect(toList());
-        }
-        return nhaps;
+        return currentNetworkDescription.findCurrentAgentRoutes()
+            .map(routes -> routes.routeTo(targetDto.name, env).stream().map(a -> a.agentInfo).collect(toList()))
+            .orElse(emptyList());
     }
 }
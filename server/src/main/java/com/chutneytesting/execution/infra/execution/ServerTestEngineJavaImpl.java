@@ -5,6 +5,7 @@ import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
 import com.chutneytesting.engine.api.execution.TestEngine;
 import com.chutneytesting.execution.domain.ExecutionRequest;
 import com.chutneytesting.execution.domain.report.StepExecutionReportCore;
+import com.chutneytesting.execution.domain.report.StepExecutionReportCoreDelta;
 import com.chutneytesting.execution.domain.scenario.ServerTestEngine;
 import io.reactivex.Observable;
 import org.apache.commons.lang3.tuple.Pair;
@@ -28,11 +29,11 @@ public class ServerTestEngineJavaImpl implements ServerTestEngine {
     }
 
     @Override
-    public Pair<Observable<StepExecutionReportCore>, Long> executeAndFollow(ExecutionRequest executionRequest) {
+    public Pair<Observable<StepExecutionReportCoreDelta>, Long> executeAndFollow(ExecutionRequest executionRequest) {
         ExecutionRequestDto executionRequestDto = executionRequestMapper.toDto(executionRequest);
         Long executionId = executionEngine.executeAsync(executionRequestDto);
         return Pair.of(
-            executionEngine.receiveNotification(executionId).map(StepExecutionReportMapperCore::fromDto),
+            executionEngine.receiveNotificationDeltas(executionId).map(StepExecutionReportMapperCore::fromDto),
             executionId
         );
     }
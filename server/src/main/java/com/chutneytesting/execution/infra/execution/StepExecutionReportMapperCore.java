@@ -3,10 +3,12 @@ package com.chutneytesting.execution.infra.execution;
 import static java.util.Collections.EMPTY_MAP;
 
 import com.chutneytesting.engine.api.execution.StatusDto;
+import com.chutneytesting.engine.api.execution.StepExecutionReportDeltaDto;
 import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
 import com.chutneytesting.execution.domain.report.ServerReportStatus;
 import com.chutneytesting.execution.domain.report.StepExecutionReportCore;
 import com.chutneytesting.execution.domain.report.StepExecutionReportCoreBuilder;
+import com.chutneytesting.execution.domain.report.StepExecutionReportCoreDelta;
 import java.util.stream.Collectors;
 
 class StepExecutionReportMapperCore {
@@ -32,6 +34,13 @@ class StepExecutionReportMapperCore {
             .createStepExecutionReport();
     }
 
+    static StepExecutionReportCoreDelta fromDto(StepExecutionReportDeltaDto deltaDto) {
+        return new StepExecutionReportCoreDelta(
+            deltaDto.path,
+            deltaDto.spine.stream().map(StepExecutionReportMapperCore::fromDto).collect(Collectors.toList())
+        );
+    }
+
     private static class ReportStatusMapper {
         public static ServerReportStatus fromDto(StatusDto status) {
             return ServerReportStatus.valueOf(status.name());
@@ -1,5 +1,7 @@
 package com.chutneytesting.execution.infra.storage;
 
+import static com.chutneytesting.ServerConfiguration.EXECUTION_REPORT_COMPRESSION_SPRING_VALUE;
+
 import com.chutneytesting.execution.domain.history.ExecutionHistory.DetachedExecution;
 import com.chutneytesting.execution.domain.history.ExecutionHistory.Execution;
 import com.chutneytesting.execution.domain.history.ExecutionHistory.ExecutionSummary;
@@ -7,27 +9,51 @@ import com.chutneytesting.execution.domain.history.ExecutionHistoryRepository;
 import com.chutneytesting.execution.domain.history.ImmutableExecutionHistory;
 import com.chutneytesting.execution.domain.history.ReportNotFoundException;
 import com.chutneytesting.execution.domain.report.ServerReportStatus;
+import com.chutneytesting.instrument.domain.ChutneyMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.UncheckedIOException;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 import org.springframework.stereotype.Component;
 
 @Component
 class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
 
     private static final int LIMIT_BLOC_SIZE = 20;
-    private final ExecutionRowMapper executionRowMapper = new ExecutionRowMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutionRowMapper executionRowMapper = new ExecutionRowMapper(this::decode);
     private final ExecutionSummaryRowMapper executionSummaryRowMapper = new ExecutionSummaryRowMapper();
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ReportCodec reportCodec;
+    private final ChutneyMetrics metrics;
+
+    @Autowired
+    DatabaseExecutionHistoryRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                       @Value(EXECUTION_REPORT_COMPRESSION_SPRING_VALUE) boolean compressReports,
+                                       ChutneyMetrics metrics) {
+        this(namedParameterJdbcTemplate, compressReports ? ReportCodec.GZIP : ReportCodec.JSON, metrics);
+    }
 
-    DatabaseExecutionHistoryRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    DatabaseExecutionHistoryRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, ReportCodec reportCodec, ChutneyMetrics metrics) {
         this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.reportCodec = reportCodec;
+        this.metrics = metrics;
     }
 
     @Override
@@ -59,13 +85,17 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
     @Override
     public Execution getExecution(String scenarioId, Long reportId) throws ReportNotFoundException {
         try {
-            return namedParameterJdbcTemplate.queryForObject(
+            Execution execution = namedParameterJdbcTemplate.queryForObject(
                 "SELECT ID, EXECUTION_TIME, DURATION, STATUS, INFORMATION, ERROR, REPORT, TEST_CASE_TITLE, ENVIRONMENT, DATASET_ID, DATASET_VERSION, USER_ID FROM SCENARIO_EXECUTION_HISTORY WHERE ID = :reportId AND SCENARIO_ID = :scenarioId",
                 ImmutableMap.<String, Object>builder()
                     .put("reportId", reportId)
                     .put("scenarioId", scenarioId)
                     .build(),
                 executionRowMapper);
+            if (execution.report().isEmpty()) {
+                return assembleReportFragments(execution);
+            }
+            return execution;
         } catch (EmptyResultDataAccessException e) {
             throw new ReportNotFoundException(scenarioId, reportId);
         }
@@ -84,11 +114,198 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         Map<String, Object> executionParameters = executionParameters(updatedExecution);
         executionParameters.put("id", updatedExecution.executionId());
 
-        return namedParameterJdbcTemplate.update(
+        int updatedEntries = namedParameterJdbcTemplate.update(
             "UPDATE SCENARIO_EXECUTION_HISTORY SET "
                 + "EXECUTION_TIME = :executionTime, DURATION = :duration, STATUS = :status, INFORMATION = :information, ERROR = :error, REPORT = :report "
                 + "WHERE ID = :id",
             executionParameters);
+        namedParameterJdbcTemplate.update(
+            "DELETE FROM SCENARIO_EXECUTION_REPORT_FRAGMENT WHERE EXECUTION_ID = :id",
+            executionParameters);
+        return updatedEntries;
+    }
+
+    @Override
+    public void updateRunning(String scenarioId, Execution runningExecution, Map<List<Integer>, String> changedReportFragments, Set<List<Integer>> replacedStepsPaths) throws ReportNotFoundException {
+        Map<String, Object> executionParameters = executionParameters(runningExecution);
+        executionParameters.put("id", runningExecution.executionId());
+
+        int updatedEntries = namedParameterJdbcTemplate.update(
+            "UPDATE SCENARIO_EXECUTION_HISTORY SET "
+                + "EXECUTION_TIME = :executionTime, DURATION = :duration, STATUS = :status, INFORMATION = :information, ERROR = :error, REPORT = '' "
+                + "WHERE ID = :id",
+            executionParameters);
+
+        if (updatedEntries == 0) {
+            throw new ReportNotFoundException(scenarioId, runningExecution.executionId());
+        }
+
+        replacedStepsPaths.forEach(path -> deleteReportFragmentsBelow(runningExecution.executionId(), path));
+        changedReportFragments.forEach((path, content) -> storeReportFragment(runningExecution.executionId(), path, content));
+    }
+
+    private void deleteReportFragmentsBelow(long executionId, List<Integer> stepPath) {
+        String path = fragmentPath(stepPath);
+        namedParameterJdbcTemplate.update(
+            "DELETE FROM SCENARIO_EXECUTION_REPORT_FRAGMENT WHERE EXECUTION_ID = :executionId AND STEP_PATH LIKE :pathPrefix AND STEP_PATH <> :path",
+            ImmutableMap.<String, Object>builder()
+                .put("executionId", executionId)
+                .put("pathPrefix", path + "%")
+                .put("path", path)
+                .build());
+    }
+
+    private void storeReportFragment(long executionId, List<Integer> stepPath, String content) {
+        Map<String, Object> fragmentParameters = ImmutableMap.<String, Object>builder()
+            .put("executionId", executionId)
+            .put("path", fragmentPath(stepPath))
+            .put("content", encode(content))
+            .build();
+
+        int updatedEntries = namedParameterJdbcTemplate.update(
+            "UPDATE SCENARIO_EXECUTION_REPORT_FRAGMENT SET CONTENT = :content WHERE EXECUTION_ID = :executionId AND STEP_PATH = :path",
+            fragmentParameters);
+        if (updatedEntries == 0) {
+            namedParameterJdbcTemplate.update(
+                "INSERT INTO SCENARIO_EXECUTION_REPORT_FRAGMENT (EXECUTION_ID, STEP_PATH, CONTENT) VALUES (:executionId, :path, :content)",
+                fragmentParameters);
+        }
+    }
+
+    /**
+     * Rebuild report of a running execution, inserting each step fragment in its parent one.
+     */
+    private Execution assembleReportFragments(Execution execution) {
+        List<Pair<List<Integer>, String>> fragments = namedParameterJdbcTemplate.query(
+            "SELECT STEP_PATH, CONTENT FROM SCENARIO_EXECUTION_REPORT_FRAGMENT WHERE EXECUTION_ID = :executionId",
+            ImmutableMap.<String, Object>builder().put("executionId", execution.executionId()).build(),
+            (rs, rowNum) -> Pair.of(stepPath(rs.getString("STEP_PATH")), rs.getString("CONTENT")));
+        if (fragments.isEmpty()) {
+            return execution;
+        }
+        // Parents before their sub-steps, sub-steps in order
+        fragments.sort((f1, f2) -> comparePaths(f1.getLeft(), f2.getLeft()));
+        if (!fragments.get(0).getLeft().isEmpty()) {
+            return execution;
+        }
+
+        try {
+            ObjectNode report = (ObjectNode) objectMapper.readTree(decode(fragments.get(0).getRight()));
+            Map<List<Integer>, ArrayNode> stepsByPath = new HashMap<>();
+            stepsByPath.put(fragments.get(0).getLeft(), ((ObjectNode) report.get("report")).putArray("steps"));
+            for (Pair<List<Integer>, String> fragment : fragments.subList(1, fragments.size())) {
+                List<Integer> path = fragment.getLeft();
+                ArrayNode parentSteps = stepsByPath.get(path.subList(0, path.size() - 1));
+                if (parentSteps != null) {
+                    ObjectNode step = (ObjectNode) objectMapper.readTree(decode(fragment.getRight()));
+                    stepsByPath.put(path, step.putArray("steps"));
+                    parentSteps.add(step);
+                }
+            }
+            return ImmutableExecutionHistory.Execution.copyOf(execution).withReport(objectMapper.writeValueAsString(report));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Cannot assemble report of execution " + execution.executionId(), e);
+        }
+    }
+
+    private String encode(String report) {
+        long start = System.nanoTime();
+        String encodedReport = reportCodec.encode(report);
+        metrics.onReportEncoded(reportCodec.name(), encodedReport.length(), System.nanoTime() - start);
+        return encodedReport;
+    }
+
+    private String decode(String storedReport) {
+        if (storedReport == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        String report = ReportCodec.decode(storedReport);
+        metrics.onReportDecoded(ReportCodec.of(storedReport).name(), storedReport.length(), System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * @return path of sub-step indexes as stored, ex. / for the root step and /0/2/ for the third sub-step of the first one
+     */
+    private static String fragmentPath(List<Integer> stepPath) {
+        StringBuilder path = new StringBuilder("/");
+        stepPath.forEach(index -> path.append(index).append('/'));
+        return path.toString();
+    }
+
+    private static List<Integer> stepPath(String fragmentPath) {
+        List<Integer> stepPath = new ArrayList<>();
+        for (String index : StringUtils.split(fragmentPath, '/')) {
+            stepPath.add(Integer.valueOf(index));
+        }
+        return stepPath;
+    }
+
+    private static int comparePaths(List<Integer> path1, List<Integer> path2) {
+        for (int i = 0; i < Math.min(path1.size(), path2.size()); i++) {
+            int comparison = Integer.compare(path1.get(i), path2.get(i));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(path1.size(), path2.size());
+    }
+
+    /**
+     * Encode with configured codec the reports of terminated executions stored as plain JSON.
+     *
+     * @param afterId only reports of executions with a greater id are encoded, so that each batch resumes where the previous one stopped
+     * @return encoded batch, counting less than batchSize reports when no more reports are to be encoded
+     */
+    EncodedReports encodeLegacyReports(long afterId, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, got: " + batchSize);
+        }
+        if (reportCodec == ReportCodec.JSON) {
+            return EncodedReports.NONE;
+        }
+        List<Map<String, Object>> legacyReports = namedParameterJdbcTemplate.query(
+            "SELECT ID, REPORT FROM SCENARIO_EXECUTION_HISTORY WHERE ID > :afterId AND REPORT LIKE '{%' AND STATUS NOT IN ('RUNNING', 'PAUSED') ORDER BY ID LIMIT :batchSize",
+            ImmutableMap.<String, Object>builder().put("afterId", afterId).put("batchSize", batchSize).build(),
+            (rs, rowNum) -> {
+                String report = rs.getString("REPORT");
+                return ImmutableMap.<String, Object>builder()
+                    .put("id", rs.getLong("ID"))
+                    .put("jsonReport", report)
+                    .put("report", encode(report))
+                    .build();
+            });
+        if (legacyReports.isEmpty()) {
+            return EncodedReports.NONE;
+        }
+        namedParameterJdbcTemplate.batchUpdate(
+            "UPDATE SCENARIO_EXECUTION_HISTORY SET REPORT = :report WHERE ID = :id",
+            SqlParameterSourceUtils.createBatch(legacyReports));
+
+        long jsonLength = 0;
+        long encodedLength = 0;
+        for (Map<String, Object> legacyReport : legacyReports) {
+            jsonLength += ((String) legacyReport.get("jsonReport")).length();
+            encodedLength += ((String) legacyReport.get("report")).length();
+        }
+        return new EncodedReports(legacyReports.size(), (long) legacyReports.get(legacyReports.size() - 1).get("id"), jsonLength, encodedLength);
+    }
+
+    static class EncodedReports {
+        static final EncodedReports NONE = new EncodedReports(0, -1, 0, 0);
+
+        final int count;
+        final long lastId;
+        final long jsonLength;
+        final long encodedLength;
+
+        EncodedReports(int count, long lastId, long jsonLength, long encodedLength) {
+            this.count = count;
+            this.lastId = lastId;
+            this.jsonLength = jsonLength;
+            this.encodedLength = encodedLength;
+        }
     }
 
     @Override
@@ -138,7 +355,7 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         executionParameters.put("status", execution.status().name());
         executionParameters.put("information", execution.info().map(info -> StringUtils.substring(info, 0, 512)).orElse(null));
         executionParameters.put("error", execution.error().map(error -> StringUtils.substring(error, 0, 512)).orElse(null));
-        executionParameters.put("report", execution.report());
+        executionParameters.put("report", encode(execution.report()));
         executionParameters.put("title", execution.testCaseTitle());
         executionParameters.put("environment", execution.environment());
         executionParameters.put("datasetId", execution.datasetId().orElse(null));
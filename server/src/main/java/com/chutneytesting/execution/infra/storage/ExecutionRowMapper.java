@@ -8,9 +8,20 @@ import java.sql.SQLException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import org.springframework.jdbc.core.RowMapper;
 
 public class ExecutionRowMapper implements RowMapper<Execution> {
+
+    private final UnaryOperator<String> reportDecoder;
+
+    /**
+     * @param reportDecoder decodes stored reports, see {@link ReportCodec#decode(String)}
+     */
+    public ExecutionRowMapper(UnaryOperator<String> reportDecoder) {
+        this.reportDecoder = reportDecoder;
+    }
+
     @Override
     public Execution mapRow(ResultSet rs, int rowNum) throws SQLException {
         return ImmutableExecutionHistory.Execution.builder()
@@ -20,7 +31,7 @@ public class ExecutionRowMapper implements RowMapper<Execution> {
             .status(ServerReportStatus.valueOf(rs.getString("STATUS")))
             .info(Optional.ofNullable(rs.getString("INFORMATION")))
             .error(Optional.ofNullable(rs.getString("ERROR")))
-            .report(rs.getString("REPORT"))
+            .report(reportDecoder.apply(rs.getString("REPORT")))
             .testCaseTitle(rs.getString("TEST_CASE_TITLE"))
             .environment(rs.getString("ENVIRONMENT"))
             .user(rs.getString("USER_ID"))
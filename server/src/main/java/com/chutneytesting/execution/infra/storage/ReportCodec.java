@@ -0,0 +1,92 @@
+package com.chutneytesting.execution.infra.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding of reports stored in SCENARIO_EXECUTION_HISTORY.REPORT.<br>
+ * Encoded reports are prefixed so rows of any codec can be read whatever the configured one.
+ */
+enum ReportCodec {
+
+    /**
+     * Plain JSON, as written before codecs.
+     */
+    JSON("") {
+        @Override
+        String encode(String report) {
+            return report;
+        }
+
+        @Override
+        String decodeContent(String content) {
+            return content;
+        }
+    },
+
+    /**
+     * GZIP compressed JSON, in Base64 to fit the text column.
+     */
+    GZIP("gz:") {
+        @Override
+        String encode(String report) {
+            if (report.isEmpty()) {
+                return report;
+            }
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(report.length() / 8);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(report.getBytes(UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return prefix + Base64.getEncoder().encodeToString(compressed.toByteArray());
+        }
+
+        @Override
+        String decodeContent(String content) {
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(content)))) {
+                return new String(gzip.readAllBytes(), UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    final String prefix;
+
+    ReportCodec(String prefix) {
+        this.prefix = prefix;
+    }
+
+    abstract String encode(String report);
+
+    abstract String decodeContent(String content);
+
+    /**
+     * @param storedReport report encoded with any codec, or legacy JSON
+     */
+    static String decode(String storedReport) {
+        if (storedReport != null && storedReport.startsWith(GZIP.prefix)) {
+            return GZIP.decodeContent(storedReport.substring(GZIP.prefix.length()));
+        }
+        return storedReport;
+    }
+
+    /**
+     * @param storedReport report encoded with any codec, or legacy JSON
+     * @return codec given report was encoded with
+     */
+    static ReportCodec of(String storedReport) {
+        if (storedReport != null && storedReport.startsWith(GZIP.prefix)) {
+            return GZIP;
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,59 @@
+package com.chutneytesting.execution.infra.storage;
+
+import static com.chutneytesting.ServerConfiguration.EXECUTION_REPORT_COMPRESSION_BATCH_SPRING_VALUE;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encode, a batch at a time, reports stored before compression was enabled.<br>
+ * Stops working once all of them are encoded.
+ */
+@Component
+class ReportCompressionMigration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportCompressionMigration.class);
+
+    private final DatabaseExecutionHistoryRepository executionHistoryRepository;
+    private final int batchSize;
+    private volatile boolean done = false;
+    private long lastEncodedId = 0;
+    private long encodedReports = 0;
+    private long jsonLength = 0;
+    private long encodedLength = 0;
+
+    ReportCompressionMigration(DatabaseExecutionHistoryRepository executionHistoryRepository,
+                               @Value(EXECUTION_REPORT_COMPRESSION_BATCH_SPRING_VALUE) int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Reports compression migration batch size must be positive, got: " + batchSize);
+        }
+        this.executionHistoryRepository = executionHistoryRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelay = 60000, fixedDelay = 10000)
+    public void encodeLegacyReports() {
+        if (done) {
+            return;
+        }
+        try {
+            DatabaseExecutionHistoryRepository.EncodedReports batch = executionHistoryRepository.encodeLegacyReports(lastEncodedId, batchSize);
+            if (batch.count > 0) {
+                lastEncodedId = batch.lastId;
+                encodedReports += batch.count;
+                jsonLength += batch.jsonLength;
+                encodedLength += batch.encodedLength;
+                LOGGER.debug("{} legacy reports encoded, from {} to {} characters", batch.count, batch.jsonLength, batch.encodedLength);
+            }
+            done = batch.count < batchSize;
+            if (done) {
+                LOGGER.info("Legacy reports encoding done, {} reports encoded from {} to {} characters", encodedReports, jsonLength, encodedLength);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Legacy reports encoding failed", e);
+        }
+    }
+}
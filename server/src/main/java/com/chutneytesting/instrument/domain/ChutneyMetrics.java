@@ -10,4 +10,21 @@ public interface ChutneyMetrics {
     void onScenarioExecutionEnded(TestCase testCase, ExecutionHistory.Execution execution);
 
     void onCampaignExecutionEnded(Campaign campaign, CampaignExecutionReport campaignExecutionReport);
+
+    /**
+     * @param success false when exploration failed or was cancelled at exploration timeout
+     */
+    void onAgentExplorationEnded(String agentName, boolean success, long duration);
+
+    /**
+     * @param codec         codec of the stored report
+     * @param encodedLength length of the stored report
+     */
+    void onReportEncoded(String codec, long encodedLength, long durationNanos);
+
+    /**
+     * @param codec         codec of the stored report
+     * @param encodedLength length of the stored report
+     */
+    void onReportDecoded(String codec, long encodedLength, long durationNanos);
 }
@@ -67,6 +67,23 @@ class MicrometerMetrics implements ChutneyMetrics {
         updateMetrics(scenarioCountByStatus, cachedMetrics);
     }
 
+    @Override
+    public void onAgentExplorationEnded(String agentName, boolean success, long duration) {
+        final Timer agentExplorationTimer = this.meterRegistry.timer("agent_exploration_timer", asList(of("agentName", agentName), of("status", success ? "SUCCESS" : "FAILURE")));
+        agentExplorationTimer.record(duration, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onReportEncoded(String codec, long encodedLength, long durationNanos) {
+        this.meterRegistry.summary("report_encoded_length", singleton(of("codec", codec))).record(encodedLength);
+        this.meterRegistry.timer("report_encode_timer", singleton(of("codec", codec))).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onReportDecoded(String codec, long encodedLength, long durationNanos) {
+        this.meterRegistry.timer("report_decode_timer", singleton(of("codec", codec))).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
     private void updateMetrics(Map<ServerReportStatus, Long> scenarioCountByStatus, Map<ServerReportStatus, AtomicLong> cachedMetrics) {
         cachedMetrics.entrySet().stream().forEach(e -> {
             final Long valueInCache = scenarioCountByStatus.get(e.getKey());
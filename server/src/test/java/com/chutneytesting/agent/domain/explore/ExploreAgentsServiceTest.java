@@ -1,12 +1,17 @@
 package com.chutneytesting.agent.domain.explore;
 
+import static com.chutneytesting.tools.WaitUtils.awaitDuring;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,7 +24,12 @@ import com.chutneytesting.agent.domain.configure.NetworkConfiguration;
 import com.chutneytesting.agent.domain.network.NetworkDescription;
 import com.chutneytesting.engine.domain.delegation.ConnectionChecker;
 import com.chutneytesting.engine.domain.delegation.NamedHostAndPort;
+import com.chutneytesting.instrument.domain.ChutneyMetrics;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
@@ -33,6 +43,8 @@ public class ExploreAgentsServiceTest {
     private AgentClient agentClient = mock(AgentClient.class);
     private LocalServerIdentifier localServerIdentifier = mock(LocalServerIdentifier.class);
     private ConnectionChecker connectionChecker = mock(ConnectionChecker.class);
+    private ChutneyMetrics metrics = mock(ChutneyMetrics.class);
+    private ExecutorService explorationExecutor = Executors.newFixedThreadPool(4);
 
 
     @BeforeEach
@@ -41,7 +53,15 @@ public class ExploreAgentsServiceTest {
             explorations,
             agentClient,
             connectionChecker,
-            localServerIdentifier);
+            localServerIdentifier,
+            metrics,
+            explorationExecutor,
+            500);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        explorationExecutor.shutdownNow();
     }
 
     @Test
@@ -134,6 +154,84 @@ public class ExploreAgentsServiceTest {
             .containsExactlyInAnyOrder("A->s1", "B->s2");
     }
 
+    @Test
+    public void explore_checks_targets_sharing_host_and_port_once() {
+        when(explorations.changeStateToIfPossible(any(), any())).thenReturn(true);
+        when(localServerIdentifier.getLocalName(any())).thenReturn("A");
+        when(connectionChecker.canConnectTo(any())).thenReturn(true);
+
+        NetworkConfiguration configuration = AgentNetworkTestUtils.createNetworkConfiguration(
+            "A=self:1",
+            "e1|s1=reachable:1", "e1|s2=reachable:1", "e1|s3=reachable:2"
+        );
+
+        ExploreResult links = sut.explore(configuration);
+
+        assertThat(links.targetLinks())
+            .extracting(link -> link.source().name() + "->" + link.destination().name)
+            .containsExactlyInAnyOrder("A->s1", "A->s2", "A->s3");
+        verify(connectionChecker, times(2)).canConnectTo(any());
+    }
+
+    @Test
+    public void explore_keeps_results_received_before_timeout() {
+        when(explorations.changeStateToIfPossible(any(), any())).thenReturn(true);
+        when(localServerIdentifier.getLocalName(any())).thenReturn("A");
+        when(agentClient.explore(eq("A"), ArgumentMatchers.eq(AgentNetworkTestUtils.createAgentInfo("B=reachable:1").get()), any()))
+            .thenReturn(AgentNetworkTestUtils.createExploreResult("A->B"));
+        when(agentClient.explore(eq("A"), ArgumentMatchers.eq(AgentNetworkTestUtils.createAgentInfo("C=slow:1").get()), any()))
+            .thenAnswer(invocation -> {
+                awaitDuring(2, SECONDS);
+                return AgentNetworkTestUtils.createExploreResult("A->C");
+            });
+        when(connectionChecker.canConnectTo(any())).thenReturn(true);
+
+        NetworkConfiguration configuration = AgentNetworkTestUtils.createNetworkConfiguration(
+            "A=self:1", "B=reachable:1", "C=slow:1",
+            "e1|s1=reachable:1"
+        );
+
+        long start = System.currentTimeMillis();
+        ExploreResult links = sut.explore(configuration);
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+        assertThat(links.agentLinks())
+            .extracting(link -> link.source().name() + "->" + link.destination().name())
+            .containsExactly("A->B");
+        assertThat(links.targetLinks())
+            .extracting(link -> link.source().name() + "->" + link.destination().name)
+            .containsExactly("A->s1");
+    }
+
+    @Test
+    public void explore_cancels_explorations_pending_at_timeout() throws InterruptedException {
+        when(explorations.changeStateToIfPossible(any(), any())).thenReturn(true);
+        when(localServerIdentifier.getLocalName(any())).thenReturn("A");
+        when(agentClient.explore(eq("A"), ArgumentMatchers.eq(AgentNetworkTestUtils.createAgentInfo("B=reachable:1").get()), any()))
+            .thenReturn(AgentNetworkTestUtils.createExploreResult("A->B"));
+        CountDownLatch slowExplorationInterrupted = new CountDownLatch(1);
+        when(agentClient.explore(eq("A"), ArgumentMatchers.eq(AgentNetworkTestUtils.createAgentInfo("C=slow:1").get()), any()))
+            .thenAnswer(invocation -> {
+                try {
+                    SECONDS.sleep(10);
+                } catch (InterruptedException e) {
+                    slowExplorationInterrupted.countDown();
+                    throw new IllegalStateException(e);
+                }
+                return AgentNetworkTestUtils.createExploreResult("A->C");
+            });
+
+        NetworkConfiguration configuration = AgentNetworkTestUtils.createNetworkConfiguration(
+            "A=self:1", "B=reachable:1", "C=slow:1"
+        );
+
+        sut.explore(configuration);
+
+        assertThat(slowExplorationInterrupted.await(1, SECONDS)).isTrue();
+        verify(metrics).onAgentExplorationEnded(eq("B"), eq(true), anyLong());
+        verify(metrics, timeout(1000)).onAgentExplorationEnded(eq("C"), eq(false), anyLong());
+    }
+
     @Test
     public void wrapup_should_change_state_and_call_client_for_each_host() {
         NetworkDescription networkDescription = mock(NetworkDescription.class, RETURNS_DEEP_STUBS);
@@ -41,7 +41,7 @@ public class AgentTest {
         Agent sourceAgent = agentGraph.getBy(AgentId.of("A")).get();
 
         // When + then
-        assertThat(sourceAgent.findFellowAgentForReaching("unreachable", "env")).isEmpty();
+        assertThat(AgentRoutes.from(sourceAgent).routeTo("unreachable", "env")).isEmpty();
     }
 
     @Test
@@ -71,7 +71,7 @@ public class AgentTest {
         Agent sourceAgent = agentGraph.getBy(AgentId.of("A")).get();
 
         // When
-        List<Agent> actual = sourceAgent.findFellowAgentForReaching("reachable", "env");
+        List<Agent> actual = AgentRoutes.from(sourceAgent).routeTo("reachable", "env");
 
         // Then
         assertThat(actual).isEmpty();
@@ -105,7 +105,7 @@ public class AgentTest {
         Agent sourceAgent = agentGraph.getBy(AgentId.of("A")).get();
 
         // When
-        List<Agent> actual = sourceAgent.findFellowAgentForReaching("reachable", "env");
+        List<Agent> actual = AgentRoutes.from(sourceAgent).routeTo("reachable", "env");
 
         // Then
         Agent expectedAgent = new Agent(new NamedHostAndPort("B", "agentB", 9350));
@@ -145,7 +145,7 @@ public class AgentTest {
         Agent sourceAgent = agentGraph.getBy(AgentId.of("A")).get();
 
         // When
-        List<Agent> actual = sourceAgent.findFellowAgentForReaching("reachable", "env");
+        List<Agent> actual = AgentRoutes.from(sourceAgent).routeTo("reachable", "env");
 
         // Then
         assertThat(actual).isEmpty();
@@ -180,7 +180,7 @@ public class AgentTest {
         Agent sourceAgent = agentGraph.getBy(AgentId.of("A")).get();
 
         // When
-        List<Agent> actual = sourceAgent.findFellowAgentForReaching("reachable", "env");
+        List<Agent> actual = AgentRoutes.from(sourceAgent).routeTo("reachable", "env");
 
         // Then
         Agent expectedAgent1 = new Agent(new NamedHostAndPort("B", "agentB", 9350));
@@ -188,6 +188,48 @@ public class AgentTest {
         assertThat(actual).containsExactly(expectedAgent1, expectedAgent2);
     }
 
+    @Test
+    public void should_return_shortest_route_to_join_the_target() throws Exception {
+        // Given
+        NetworkConfiguration networkConfiguration = AgentNetworkTestUtils.createNetworkConfiguration(
+            "A=agent:9350", "B=agentB:9350", "C=agentC:9350", "D=agentD:9350",
+            "envA|reachable=url:80"
+        );
+
+        // Route : A -> B -> C -> reachable
+        //          \             /
+        //           ---> D -----
+        ExploreResult exploreResult = ImmutableExploreResult.of(
+            // Agent -> Agent links
+            ImmutableExploreResult.Links.of(
+                Arrays.asList(
+                    ImmutableExploreResult.Link.of(AgentId.of("A"), AgentId.of("B")),
+                    ImmutableExploreResult.Link.of(AgentId.of("B"), AgentId.of("C")),
+                    ImmutableExploreResult.Link.of(AgentId.of("A"), AgentId.of("D"))
+                )
+            ),
+            // Agent -> Target links
+            ImmutableExploreResult.Links.of(
+                Arrays.asList(
+                    ImmutableExploreResult.Link.of(AgentId.of("C"), TargetId.of("reachable", "env")),
+                    ImmutableExploreResult.Link.of(AgentId.of("D"), TargetId.of("reachable", "env"))
+                )
+            ));
+
+        AgentGraph agentGraph = AgentGraph.of(exploreResult, networkConfiguration);
+
+        Agent sourceAgent = agentGraph.getBy(AgentId.of("A")).get();
+
+        // When
+        AgentRoutes routes = AgentRoutes.from(sourceAgent);
+
+        // Then
+        Agent expectedAgent = new Agent(new NamedHostAndPort("D", "agentD", 9350));
+        assertThat(routes.routeTo("reachable", "env")).containsExactly(expectedAgent);
+        assertThat(routes.routeTo("unknown", "env")).isEmpty();
+        assertThat(AgentRoutes.from(sourceAgent).routeTo("reachable", "env")).containsExactly(expectedAgent);
+    }
+
     @Test
     public void should_return_empty_when_no_routes_found_and_all_agents_were_scanned_avoiding_infinite_loops() throws Exception {
 
@@ -217,7 +259,7 @@ public class AgentTest {
         Agent sourceAgent = agentGraph.getBy(AgentId.of("A")).get();
 
         // When + then
-        assertThat(sourceAgent.findFellowAgentForReaching("unreachable", "env")).isEmpty();
+        assertThat(AgentRoutes.from(sourceAgent).routeTo("unreachable", "env")).isEmpty();
     }
 
     @Test
@@ -253,6 +295,6 @@ public class AgentTest {
         Agent sourceAgent = agentGraph.getBy(AgentId.of("A")).get();
 
         // When + then
-        assertThat(sourceAgent.findFellowAgentForReaching("unreachable", "env")).isEmpty();
+        assertThat(AgentRoutes.from(sourceAgent).routeTo("unreachable", "env")).isEmpty();
     }
 }
@@ -1,19 +1,28 @@
 package com.chutneytesting.agent.infra.storage;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.chutneytesting.agent.domain.configure.ImmutableNetworkConfiguration;
 import com.chutneytesting.agent.domain.configure.LocalServerIdentifier;
 import com.chutneytesting.agent.domain.configure.NetworkConfiguration;
 import com.chutneytesting.agent.domain.network.Agent;
 import com.chutneytesting.agent.domain.network.AgentGraph;
 import com.chutneytesting.agent.domain.network.ImmutableNetworkDescription;
 import com.chutneytesting.agent.domain.network.NetworkDescription;
+import com.chutneytesting.environment.domain.Environment;
 import com.chutneytesting.environment.domain.EnvironmentRepository;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
 public class JsonFileCurrentNetworkDescriptionTest {
 
@@ -45,8 +54,28 @@ public class JsonFileCurrentNetworkDescriptionTest {
             localServerIdentifier);
     }
 
+    @Test
+    public void should_resolve_environments_on_each_lookup() {
+        Environment environment = Environment.builder().withName("ENV").build();
+        when(environmentRepository.getEnvironments()).thenReturn(Collections.emptyList()).thenReturn(List.of(environment));
+
+        assertThat(underTest.findCurrent().get().configuration().environmentConfiguration().environments()).isEmpty();
+        assertThat(underTest.findCurrent().get().configuration().environmentConfiguration().environments()).containsExactly(environment);
+        assertThat(underTest.findCurrent().get().localAgent()).contains(originalLocalAgent);
+    }
+
+    @Test
+    public void should_keep_agent_routes_of_current_description() {
+        assertThat(underTest.findCurrentAgentRoutes().get()).isSameAs(underTest.findCurrentAgentRoutes().get());
+        verify(environmentRepository, never()).getEnvironments();
+    }
+
     private NetworkDescription createNetworkDescription() {
-        NetworkConfiguration networkConfiguration = mock(NetworkConfiguration.class);
+        NetworkConfiguration networkConfiguration = ImmutableNetworkConfiguration.builder()
+            .creationDate(Instant.now())
+            .agentNetworkConfiguration(ImmutableNetworkConfiguration.AgentNetworkConfiguration.of(Collections.emptySet()))
+            .environmentConfiguration(ImmutableNetworkConfiguration.EnvironmentConfiguration.of(Collections.emptySet()))
+            .build();
         AgentGraph agentGraph = mock(AgentGraph.class);
         return ImmutableNetworkDescription.builder().configuration(networkConfiguration).agentGraph(agentGraph).build();
     }
@@ -83,6 +83,35 @@ public class DatabaseCampaignRepositoryTest extends AbstractLocalDatabaseTest {
         assertThat(selected.get(0).scenarioIds).containsExactly("3", "4");
     }
 
+    @Test
+    public void should_find_all_campaigns_with_their_scenarios() {
+        Campaign first = sut.createOrUpdate(new Campaign(null, "first", "lol", newArrayList("3", "1", "2"), emptyMap(), "env", false, false, null, null));
+        Campaign second = sut.createOrUpdate(new Campaign(null, "second", "lol", newArrayList("5"), emptyMap(), "env", false, false, null, null));
+        Campaign empty = sut.createOrUpdate(new Campaign(null, "empty", "lol", newArrayList(), emptyMap(), "env", false, false, null, null));
+
+        List<Campaign> campaigns = sut.findAll();
+
+        assertThat(campaigns).extracting(c -> c.id).containsExactly(first.id, second.id, empty.id);
+        assertThat(campaigns).extracting(c -> c.scenarioIds).containsExactly(newArrayList("3", "1", "2"), newArrayList("5"), newArrayList());
+    }
+
+    @Test
+    public void should_find_campaigns_by_name_with_their_scenarios_and_parameters() {
+        HashMap<String, String> dataSet = new HashMap<>();
+        dataSet.put("param1", "val1");
+        Campaign withParameters = sut.createOrUpdate(new Campaign(null, "name 1", "lol", newArrayList("2", "1"), dataSet, "env", false, false, null, null));
+        Campaign withoutParameters = sut.createOrUpdate(new Campaign(null, "name 2", "lol", newArrayList("3"), emptyMap(), "env", false, false, null, null));
+        sut.createOrUpdate(new Campaign(null, "other", "lol", newArrayList("4"), dataSet, "env", false, false, null, null));
+
+        List<Campaign> campaigns = sut.findByName("name%");
+
+        assertThat(campaigns).extracting(c -> c.id).containsExactly(withParameters.id, withoutParameters.id);
+        assertThat(campaigns.get(0).scenarioIds).containsExactly("2", "1");
+        assertThat(campaigns.get(0).executionParameters).containsExactlyEntriesOf(dataSet);
+        assertThat(campaigns.get(1).scenarioIds).containsExactly("3");
+        assertThat(campaigns.get(1).executionParameters).isEmpty();
+    }
+
     @Test
     public void should_create_a_campaign_without_executions() {
         // Given
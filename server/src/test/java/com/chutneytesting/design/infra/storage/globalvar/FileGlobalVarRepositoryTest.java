@@ -1,8 +1,10 @@
 package com.chutneytesting.design.infra.storage.globalvar;
 
 import static com.chutneytesting.design.infra.storage.globalvar.FileGlobalVarRepository.ROOT_DIRECTORY_NAME;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.awaitility.Awaitility.await;
 
 import com.chutneytesting.tools.ThrowingConsumer;
 import java.io.IOException;
@@ -26,6 +28,9 @@ public class FileGlobalVarRepositoryTest {
 
     @AfterEach
     public void tearDown() throws IOException {
+        if (sut != null) {
+            sut.close();
+        }
         Files.walk(Paths.get(STORE_PATH + "/global_var"))
             .filter(Files::isRegularFile)
             .forEach(ThrowingConsumer.toUnchecked(Files::delete));
@@ -180,4 +185,32 @@ public class FileGlobalVarRepositoryTest {
             ROOT_DIRECTORY_NAME.resolve("another_file.hjson").toString()
         );
     }
+
+    @Test
+    public void flat_map_is_built_once_until_a_file_is_saved_or_deleted() {
+        sut = new FileGlobalVarRepository(STORE_PATH);
+        sut.saveFile(FILE_NAME, "{key: value}");
+
+        Map<String, String> flatMap = sut.getFlatMap();
+        assertThat(sut.getFlatMap()).isSameAs(flatMap);
+
+        sut.saveFile("another_file", "{otherKey: otherValue}");
+        assertThat(sut.getFlatMap()).containsOnly(entry("key", "value"), entry("otherKey", "otherValue"));
+
+        sut.deleteFile("another_file");
+        assertThat(sut.getFlatMap()).containsOnly(entry("key", "value"));
+    }
+
+    @Test
+    public void file_edited_outside_of_repository_is_read_again() throws IOException {
+        sut = new FileGlobalVarRepository(STORE_PATH);
+        sut.saveFile(FILE_NAME, "{key: value}");
+        assertThat(sut.getFlatMap()).containsOnly(entry("key", "value"));
+
+        Files.write(Paths.get(STORE_PATH).resolve(ROOT_DIRECTORY_NAME).resolve(FILE_NAME + ".hjson"), "{key: edited by hand}".getBytes());
+
+        await().atMost(15, SECONDS).untilAsserted(() ->
+            assertThat(sut.getFlatMap()).containsOnly(entry("key", "edited by hand"))
+        );
+    }
 }
@@ -156,6 +156,30 @@ public class TestCaseRepositoryAggregatorTest {
         assertThat(allScenario).hasSize(3);
     }
 
+    @Test
+    public void should_merge_repos_search_matches_by_score_before_paging() {
+        // Given
+        DatabaseTestCaseRepository repo1 = mock(DatabaseTestCaseRepository.class);
+        DelegateScenarioRepository repo2 = mock(DelegateScenarioRepository.class);
+
+        when(gitScenarioRepositoryFactory.listGitRepo()).thenReturn(Stream.of(repo2));
+
+        when(repo1.rankedSearch("payment", 0, 2)).thenReturn(asList(match("1", 3.0), match("2", 1.0)));
+        when(repo2.rankedSearch("payment", 0, 2)).thenReturn(asList(match("3", 2.0), match("4", 0.5)));
+
+        TestCaseRepositoryAggregator sut = new TestCaseRepositoryAggregator(repo1, gitScenarioRepositoryFactory, examples, composableTestCaseRepository);
+
+        // When
+        final List<TestCaseMetadata> secondPage = sut.search("payment", 1, 1);
+
+        // Then
+        assertThat(secondPage).extracting(TestCaseMetadata::id).containsExactly("3");
+    }
+
+    private TestCaseSearchIndex.Match match(String id, double score) {
+        return new TestCaseSearchIndex.Match(TestCaseMetadataImpl.builder().withId(id).build(), score);
+    }
+
     private GwtTestCase defaultScenarioWithRepoSource(String repositorySource) {
         return GwtTestCase.builder()
             .withMetadata(TestCaseMetadataImpl.builder()
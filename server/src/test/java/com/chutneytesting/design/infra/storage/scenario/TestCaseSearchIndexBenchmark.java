@@ -0,0 +1,83 @@
+package com.chutneytesting.design.infra.storage.scenario;
+
+import com.chutneytesting.design.domain.scenario.TestCaseMetadata;
+import com.chutneytesting.design.domain.scenario.TestCaseMetadataImpl;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measure {@link TestCaseSearchIndex} search and update latency on 20k scenarios of 300 words each.
+ * <p>
+ * Run with main method from test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestCaseSearchIndexBenchmark {
+
+    private static final String[] WORDS = {"http", "post", "get", "user", "order", "payment", "stock", "kafka", "sql", "assert", "json", "xml", "status", "body", "header"};
+    private static final int SCENARIOS = 20000;
+
+    @Param({"payment42", "http json status", "pay"})
+    public String query;
+
+    private final Random random = new Random(42);
+    private TestCaseSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new TestCaseSearchIndex();
+        for (int i = 0; i < SCENARIOS; i++) {
+            indexScenario(i);
+        }
+    }
+
+    @Benchmark
+    public List<TestCaseMetadata> search() {
+        return index.search(query, 0, 20);
+    }
+
+    @Benchmark
+    public TestCaseSearchIndex update() {
+        indexScenario(random.nextInt(SCENARIOS));
+        return index;
+    }
+
+    private void indexScenario(int i) {
+        StringBuilder content = new StringBuilder();
+        for (int w = 0; w < 300; w++) {
+            content.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(500)).append(' ');
+        }
+        index.index(TestCaseMetadataImpl.builder()
+            .withId(String.valueOf(i))
+            .withTitle("scenario " + i + " " + WORDS[i % WORDS.length])
+            .withCreationDate(Instant.now())
+            .build(), content.toString());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(TestCaseSearchIndexBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,77 @@
+package com.chutneytesting.design.infra.storage.scenario;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.design.domain.scenario.TestCaseMetadata;
+import com.chutneytesting.design.domain.scenario.TestCaseMetadataImpl;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class TestCaseSearchIndexTest {
+
+    private final TestCaseSearchIndex sut = new TestCaseSearchIndex();
+
+    @Test
+    public void should_match_every_query_word_as_prefix_in_any_field() {
+        sut.index(metadata("1", "Create user", "", emptyList()), "{ \"type\": \"http-post\" }");
+        sut.index(metadata("2", "Delete user", "Remove an account", singletonList("smoke")), "{ \"type\": \"http-delete\" }");
+
+        assertThat(ids(sut.search("user"))).containsExactlyInAnyOrder("1", "2");
+        assertThat(ids(sut.search("USER http-del"))).containsExactly("2");
+        assertThat(ids(sut.search("smo acc"))).containsExactly("2");
+        assertThat(ids(sut.search("user sql"))).isEmpty();
+        assertThat(sut.search("  ")).isEmpty();
+    }
+
+    @Test
+    public void should_rank_title_matches_before_content_matches() {
+        sut.index(metadata("1", "Check payment", "", emptyList()), "{ \"type\": \"http-get\" }");
+        sut.index(metadata("2", "Check order", "", emptyList()), "{ \"uri\": \"/payment\" }");
+        sut.index(metadata("3", "Check stock", "", emptyList()), "{ \"uri\": \"/stock\" }");
+
+        assertThat(ids(sut.search("payment"))).containsExactly("1", "2");
+    }
+
+    @Test
+    public void should_paginate_ranked_results() {
+        for (int i = 0; i < 10; i++) {
+            sut.index(metadata(String.valueOf(i), "scenario " + i, "", emptyList()), "");
+        }
+
+        assertThat(ids(sut.search("scenario", 0, 4))).containsExactly("0", "1", "2", "3");
+        assertThat(ids(sut.search("scenario", 8, 4))).containsExactly("8", "9");
+    }
+
+    @Test
+    public void should_update_and_remove_indexed_scenarios() {
+        sut.index(metadata("1", "old title", "", emptyList()), "");
+        sut.index(metadata("1", "new title", "", emptyList()), "");
+
+        assertThat(sut.search("old")).isEmpty();
+        assertThat(ids(sut.search("new"))).containsExactly("1");
+        assertThat(sut.size()).isEqualTo(1);
+
+        sut.remove("1");
+
+        assertThat(sut.search("title")).isEmpty();
+        assertThat(sut.size()).isZero();
+    }
+
+    private static List<String> ids(List<TestCaseMetadata> testCases) {
+        return testCases.stream().map(TestCaseMetadata::id).collect(Collectors.toList());
+    }
+
+    private static TestCaseMetadata metadata(String id, String title, String description, List<String> tags) {
+        return TestCaseMetadataImpl.builder()
+            .withId(id)
+            .withTitle(title)
+            .withDescription(description)
+            .withTags(tags)
+            .withCreationDate(Instant.now())
+            .build();
+    }
+}
@@ -3,9 +3,12 @@ package com.chutneytesting.design.infra.storage.scenario.git;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.same;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.chutneytesting.design.domain.scenario.TestCaseMetadata;
@@ -21,10 +24,15 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class GitTestCaseRepositoryTest {
 
@@ -36,6 +44,7 @@ public class GitTestCaseRepositoryTest {
     String scenario1Id = String.valueOf("testFile1.json".hashCode());
     String scenario2Id = String.valueOf("testFile2.json".hashCode());
     private JsonMapper<TestCaseData> jsonMapper;
+    private GitClient gitClient;
 
     @BeforeEach
     public void setUp() throws Exception {
@@ -152,6 +161,67 @@ public class GitTestCaseRepositoryTest {
         assertThat(all).extracting(TestCaseMetadata::creationDate).isNotEqualTo(Instant.MIN);
     }
 
+    @Test
+    public void should_browse_files_again_only_when_checked_out_commit_changes() throws Exception {
+        GitScenarioRepository gitScenarioRepository = createTestGitRepository();
+        when(gitClient.headCommitId("test")).thenReturn(Optional.of(ObjectId.fromString("1111111111111111111111111111111111111111")));
+        assertThat(gitScenarioRepository.findAll()).hasSize(2);
+
+        Files.createFile(testPath.resolve("testFile3.json"));
+
+        assertThat(gitScenarioRepository.findAll()).hasSize(2);
+        assertThat(gitScenarioRepository.findById(String.valueOf("testFile3.json".hashCode()))).isEmpty();
+
+        when(gitClient.headCommitId("test")).thenReturn(Optional.of(ObjectId.fromString("2222222222222222222222222222222222222222")));
+        when(jsonMapper.read(any(), any())).thenReturn(TestCaseData.builder().withContentVersion("GIT").withId("0").build());
+
+        assertThat(gitScenarioRepository.findById(String.valueOf("testFile3.json".hashCode()))).isPresent();
+        assertThat(gitScenarioRepository.findAll()).hasSize(3);
+    }
+
+    @Test
+    public void should_not_browse_files_again_after_own_commit(@TempDir Path gitDirectory) throws Exception {
+        GitScenarioRepository gitScenarioRepository = createTestGitRepository();
+        try (Git git = Git.init().setDirectory(gitDirectory.toFile()).call()) {
+            RevCommit indexedCommit = git.commit().setSign(false).setMessage("indexed").call();
+            RevCommit ownCommit = git.commit().setSign(false).setMessage("own").call();
+            AtomicReference<Optional<ObjectId>> head = new AtomicReference<>(Optional.of(indexedCommit.copy()));
+            when(gitClient.headCommitId("test")).thenAnswer(invocation -> head.get());
+            when(gitClient.addCommitPushFile(eq("test"), any())).thenAnswer(invocation -> {
+                head.set(Optional.of(ownCommit.copy()));
+                return Optional.of(ownCommit);
+            });
+            assertThat(gitScenarioRepository.findAll()).hasSize(2);
+
+            TestCaseData scenario = TestCaseData.builder()
+                .withContentVersion("GIT")
+                .withId("0")
+                .withTitle("testFile3.json")
+                .withDescription("")
+                .withTags(Collections.emptyList())
+                .withExecutionParameters(Collections.emptyMap())
+                .withRawScenario("content")
+                .build();
+            when(jsonMapper.write(same(scenario))).thenReturn(scenario.rawScenario);
+            gitScenarioRepository.save(scenario);
+            Files.createFile(testPath.resolve("testFile4.json"));
+
+            assertThat(gitScenarioRepository.findAll()).extracting(TestCaseMetadata::title)
+                .containsExactlyInAnyOrder("testFile1.json", "testFile2.json", "testFile3.json");
+        }
+    }
+
+    @Test
+    public void should_not_pull_repository_on_each_listing() {
+        GitScenarioRepository gitScenarioRepository = createTestGitRepository();
+
+        gitScenarioRepository.findAll();
+        gitScenarioRepository.findAll();
+        gitScenarioRepository.search("test");
+
+        verify(gitClient, times(1)).loadRepository(any(), eq("test"));
+    }
+
     @Test
     public void should_delete_scenario() throws Exception {
         GitScenarioRepository gitScenarioRepository = createTestGitRepository();
@@ -184,8 +254,9 @@ public class GitTestCaseRepositoryTest {
     @SuppressWarnings("unchecked")
     private GitScenarioRepository createTestGitRepository() {
         GitRepository conf = new GitRepository(1L, "", testDirectory, "test");
-        GitClient gitClient = mock(GitClient.class, RETURNS_DEEP_STUBS);
+        gitClient = mock(GitClient.class, RETURNS_DEEP_STUBS);
         when(gitClient.getGitDirectory(any())).thenReturn(Paths.get(System.getProperty("user.home")));
+        when(gitClient.headCommitId(any())).thenReturn(Optional.empty());
         jsonMapper = mock(JsonMapper.class);
         return new GitScenarioRepository(conf, gitClient, jsonMapper);
     }
@@ -301,4 +301,51 @@ public class DatabaseTestCaseRepositoryTest extends AbstractLocalDatabaseTest {
         // Then
         assertThat(raw2).hasSize(0);
     }
+
+    @Test
+    public void should_keep_search_up_to_date_on_save_and_remove() {
+        // Given
+        String scenarioID = repository.save(TEST_CASE_DATA_BUILDER.build());
+        assertThat(repository.search("scenario")).extracting(TestCaseMetadata::id).containsExactly(scenarioID);
+
+        // When
+        repository.save(TestCaseData.builder()
+            .withContentVersion("v1.0")
+            .withId(scenarioID)
+            .withTitle("updated title")
+            .withCreationDate(Instant.now().truncatedTo(MILLIS))
+            .withDescription("")
+            .withTags(Collections.singletonList("smoke"))
+            .withExecutionParameters(Collections.emptyMap())
+            .withRawScenario("raw updated 'content'")
+            .withVersion(1)
+            .build());
+        String otherScenarioID = repository.save(TEST_CASE_DATA_BUILDER.build());
+
+        // Then
+        assertThat(repository.search("updat smoke")).extracting(TestCaseMetadata::id).containsExactly(scenarioID);
+        assertThat(repository.search("scenario")).extracting(TestCaseMetadata::id).containsExactly(otherScenarioID);
+
+        // When
+        repository.removeById(scenarioID);
+
+        // Then
+        assertThat(repository.search("content")).extracting(TestCaseMetadata::id).containsExactly(otherScenarioID);
+    }
+
+    @Test
+    public void should_page_search_results() {
+        // Given
+        String firstID = repository.save(TEST_CASE_DATA_BUILDER.build());
+        String secondID = repository.save(TEST_CASE_DATA_BUILDER.build());
+
+        // When
+        List<TestCaseMetadata> firstPage = repository.search("content", 0, 1);
+        List<TestCaseMetadata> secondPage = repository.search("content", 1, 1);
+
+        // Then
+        assertThat(firstPage).hasSize(1);
+        assertThat(secondPage).hasSize(1);
+        assertThat(List.of(firstPage.get(0).id(), secondPage.get(0).id())).containsExactlyInAnyOrder(firstID, secondID);
+    }
 }
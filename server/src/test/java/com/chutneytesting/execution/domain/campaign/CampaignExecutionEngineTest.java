@@ -86,7 +86,7 @@ public class CampaignExecutionEngineTest {
 
     @BeforeEach
     public void setUp() {
-        sut = new CampaignExecutionEngine(campaignRepository, scenarioExecutionEngine, executionHistoryRepository, testCaseRepository, dataSetHistoryRepository, jiraXrayPlugin, metrics, executorService);
+        sut = new CampaignExecutionEngine(campaignRepository, scenarioExecutionEngine, executionHistoryRepository, testCaseRepository, dataSetHistoryRepository, jiraXrayPlugin, metrics, executorService, 2, 2);
     }
 
     @Test
@@ -163,6 +163,7 @@ public class CampaignExecutionEngineTest {
 
         when(testCaseRepository.findById(firstTestCase.id())).thenReturn(firstTestCase);
         when(testCaseRepository.findById(secondTestCase.id())).thenReturn(secondTestCase);
+        when(testCaseRepository.findMetadataById(secondTestCase.id())).thenReturn(TestCaseMetadataImpl.builder().withId(secondTestCase.id()).withTitle("second scenario").build());
 
         when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).then((Answer<ScenarioExecutionReport>) invocationOnMock -> {
             awaitDuring(1, SECONDS);
@@ -193,6 +194,7 @@ public class CampaignExecutionEngineTest {
         assertThat(campaignExecutionReport.get().scenarioExecutionReports()).hasSize(2);
         assertThat(campaignExecutionReport.get().scenarioExecutionReports().get(0).execution.executionId()).isEqualTo(firstScenarioExecutionId);
         assertThat(campaignExecutionReport.get().scenarioExecutionReports().get(1).execution.executionId()).isEqualTo(-1L);
+        assertThat(campaignExecutionReport.get().scenarioExecutionReports().get(1).scenarioName).isEqualTo("second scenario");
     }
 
     @Test
@@ -0,0 +1,89 @@
+package com.chutneytesting.execution.domain.campaign;
+
+import static com.chutneytesting.tools.WaitUtils.awaitDuring;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class CampaignExecutionSchedulerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final CampaignExecutionScheduler sut = new CampaignExecutionScheduler(executor, 4);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_not_run_more_tasks_than_campaign_parallelism() throws InterruptedException {
+        Concurrency concurrency = new Concurrency();
+
+        sut.execute(IntStream.range(0, 20).iterator(), 2, i -> concurrency.run());
+
+        assertThat(concurrency.done.get()).isEqualTo(20);
+        assertThat(concurrency.max.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_pull_tasks_only_when_there_is_room_for_them() throws InterruptedException {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<Integer> items = IntStream.range(0, 10).peek(i -> pulled.incrementAndGet()).iterator();
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                sut.execute(items, 3, i -> awaitDuring(200, MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        awaitDuring(100, MILLISECONDS);
+
+        assertThat(pulled.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void should_share_threads_between_running_campaigns() throws InterruptedException {
+        Concurrency firstCampaign = new Concurrency();
+        Concurrency secondCampaign = new Concurrency();
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> execute(firstCampaign, 40));
+        awaitDuring(20, MILLISECONDS);
+        execute(secondCampaign, 6);
+        first.join();
+
+        assertThat(firstCampaign.max.get()).isEqualTo(4);
+        assertThat(secondCampaign.max.get()).isEqualTo(2);
+        assertThat(secondCampaign.done.get()).isEqualTo(6);
+        assertThat(firstCampaign.done.get()).isEqualTo(40);
+    }
+
+    private void execute(Concurrency concurrency, int tasks) {
+        try {
+            sut.execute(IntStream.range(0, tasks).iterator(), 10, i -> concurrency.run());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Concurrency {
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+        private final AtomicInteger done = new AtomicInteger();
+
+        private void run() {
+            max.accumulateAndGet(running.incrementAndGet(), Math::max);
+            awaitDuring(50, MILLISECONDS);
+            running.decrementAndGet();
+            done.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.chutneytesting.execution.domain.compiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ParameterTemplateTest {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    @Test
+    public void should_replace_known_markers() {
+        values.put("host", "localhost");
+        values.put("port", "8080");
+
+        assertThat(render("http://**host**:**port**/**path**")).isEqualTo("http://localhost:8080/**path**");
+        assertThat(render("no marker")).isEqualTo("no marker");
+        assertThat(render("")).isEqualTo("");
+    }
+
+    @Test
+    public void should_find_markers_among_stars() {
+        values.put("key", "value");
+
+        assertThat(render("***key**")).isEqualTo("*value");
+        assertThat(render("** unknown **key**")).isEqualTo("** unknown value");
+        assertThat(render("**key****key**")).isEqualTo("valuevalue");
+        assertThat(render("**key**key**")).isEqualTo("valuekey**");
+    }
+
+    @Test
+    public void should_not_replace_markers_found_in_values() {
+        values.put("a", "**b**");
+        values.put("b", "value");
+
+        assertThat(render("**a** **b**")).isEqualTo("**b** value");
+    }
+
+    @Test
+    public void should_reuse_parsed_templates() {
+        String text = "cached **template**";
+
+        assertThat(ParameterTemplate.of(text)).isSameAs(ParameterTemplate.of(new String(text)));
+    }
+
+    private String render(String text) {
+        return ParameterTemplate.of(text).render(values::get);
+    }
+}
@@ -0,0 +1,123 @@
+package com.chutneytesting.execution.domain.report;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class StepExecutionReportCoreTreeTest {
+
+    private final StepExecutionReportCoreTree sut = new StepExecutionReportCoreTree();
+
+    @Test
+    public void should_have_no_report_before_first_delta() {
+        assertThat(sut.snapshot()).isNull();
+    }
+
+    @Test
+    public void should_use_snapshot_report_when_nothing_to_patch() {
+        StepExecutionReportCore snapshot = report("root", ServerReportStatus.RUNNING, List.of(report("step", ServerReportStatus.NOT_EXECUTED, emptyList())));
+
+        sut.apply(StepExecutionReportCoreDelta.snapshot(snapshot));
+
+        assertThat(sut.snapshot()).usingRecursiveComparison().isEqualTo(snapshot);
+    }
+
+    @Test
+    public void should_patch_changed_step_and_ancestors_only() {
+        sut.apply(StepExecutionReportCoreDelta.snapshot(report("root", ServerReportStatus.RUNNING, List.of(
+            report("parent", ServerReportStatus.RUNNING, List.of(
+                report("step 1.1", ServerReportStatus.RUNNING, emptyList()),
+                report("step 1.2", ServerReportStatus.NOT_EXECUTED, emptyList())
+            )),
+            report("step 2", ServerReportStatus.NOT_EXECUTED, emptyList())
+        ))));
+        StepExecutionReportCore previous = sut.snapshot();
+
+        sut.apply(new StepExecutionReportCoreDelta(List.of(0, 0), List.of(
+            report("root", ServerReportStatus.PAUSED, emptyList()),
+            report("parent", ServerReportStatus.PAUSED, emptyList()),
+            report("step 1.1", ServerReportStatus.PAUSED, emptyList())
+        )));
+        StepExecutionReportCore result = sut.snapshot();
+
+        assertThat(result.status).isEqualTo(ServerReportStatus.PAUSED);
+        assertThat(result.steps).hasSize(2);
+        assertThat(result.steps.get(0).status).isEqualTo(ServerReportStatus.PAUSED);
+        assertThat(result.steps.get(0).steps).extracting(s -> s.status).containsExactly(ServerReportStatus.PAUSED, ServerReportStatus.NOT_EXECUTED);
+        assertThat(result.steps.get(0).steps.get(1)).isSameAs(previous.steps.get(0).steps.get(1));
+        assertThat(result.steps.get(1)).isSameAs(previous.steps.get(1));
+        assertThat(previous.steps.get(0).steps.get(0).status).isEqualTo(ServerReportStatus.RUNNING);
+    }
+
+    @Test
+    public void should_reuse_snapshot_until_next_delta() {
+        sut.apply(StepExecutionReportCoreDelta.snapshot(report("root", ServerReportStatus.RUNNING, List.of(report("step", ServerReportStatus.RUNNING, emptyList())))));
+
+        assertThat(sut.snapshot()).isSameAs(sut.snapshot());
+    }
+
+    @Test
+    public void should_append_new_step() {
+        sut.apply(StepExecutionReportCoreDelta.snapshot(report("root", ServerReportStatus.RUNNING, List.of(report("step", ServerReportStatus.SUCCESS, emptyList())))));
+
+        sut.apply(new StepExecutionReportCoreDelta(List.of(1), List.of(
+            report("root", ServerReportStatus.RUNNING, emptyList()),
+            report("TearDown", ServerReportStatus.RUNNING, List.of(report("finally", ServerReportStatus.NOT_EXECUTED, emptyList())))
+        )));
+        StepExecutionReportCore result = sut.snapshot();
+
+        assertThat(result.steps).extracting(s -> s.name).containsExactly("step", "TearDown");
+        assertThat(result.steps.get(1).steps).extracting(s -> s.name).containsExactly("finally");
+    }
+
+    @Test
+    public void should_take_changed_steps_without_their_sub_steps() {
+        sut.apply(StepExecutionReportCoreDelta.snapshot(report("root", ServerReportStatus.RUNNING, List.of(
+            report("parent", ServerReportStatus.RUNNING, List.of(report("step 1.1", ServerReportStatus.RUNNING, emptyList()))),
+            report("step 2", ServerReportStatus.NOT_EXECUTED, emptyList())
+        ))));
+        assertThat(sut.takeChanges().changedSteps).containsOnlyKeys(List.of(), List.of(0), List.of(0, 0), List.of(1));
+
+        sut.apply(new StepExecutionReportCoreDelta(List.of(0, 0), List.of(
+            report("root", ServerReportStatus.RUNNING, emptyList()),
+            report("parent", ServerReportStatus.RUNNING, emptyList()),
+            report("step 1.1", ServerReportStatus.SUCCESS, emptyList())
+        )));
+        StepExecutionReportCoreTree.Changes changes = sut.takeChanges();
+
+        assertThat(changes.changedSteps).containsOnlyKeys(List.of(), List.of(0), List.of(0, 0));
+        assertThat(changes.changedSteps.get(List.of(0, 0)).status).isEqualTo(ServerReportStatus.SUCCESS);
+        assertThat(changes.changedSteps.values()).allMatch(step -> step.steps.isEmpty());
+        assertThat(changes.replacedSubSteps).isEmpty();
+        assertThat(sut.takeChanges().changedSteps).isEmpty();
+    }
+
+    @Test
+    public void should_track_replaced_sub_steps() {
+        sut.apply(StepExecutionReportCoreDelta.snapshot(report("root", ServerReportStatus.RUNNING, List.of(
+            report("iterations", ServerReportStatus.RUNNING, List.of(report("template", ServerReportStatus.NOT_EXECUTED, emptyList())))
+        ))));
+        sut.takeChanges();
+
+        sut.apply(new StepExecutionReportCoreDelta(List.of(0), List.of(
+            report("root", ServerReportStatus.RUNNING, emptyList()),
+            report("iterations", ServerReportStatus.RUNNING, List.of(
+                report("iteration 1", ServerReportStatus.RUNNING, emptyList()),
+                report("iteration 2", ServerReportStatus.NOT_EXECUTED, emptyList())))
+        )));
+        StepExecutionReportCoreTree.Changes changes = sut.takeChanges();
+
+        assertThat(changes.replacedSubSteps).containsExactly(List.of(0));
+        assertThat(changes.changedSteps).containsOnlyKeys(List.of(), List.of(0), List.of(0, 0), List.of(0, 1));
+    }
+
+    private StepExecutionReportCore report(String name, ServerReportStatus status, List<StepExecutionReportCore> steps) {
+        return new StepExecutionReportCoreBuilder()
+            .setName(name)
+            .setStatus(status)
+            .setSteps(steps)
+            .createStepExecutionReport();
+    }
+}
@@ -1,7 +1,9 @@
 package com.chutneytesting.execution.domain.scenario;
 
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
@@ -22,6 +24,7 @@ import com.chutneytesting.execution.domain.report.ScenarioExecutionReport;
 import com.chutneytesting.execution.domain.report.ServerReportStatus;
 import com.chutneytesting.execution.domain.report.StepExecutionReportCore;
 import com.chutneytesting.execution.domain.report.StepExecutionReportCoreBuilder;
+import com.chutneytesting.execution.domain.report.StepExecutionReportCoreDelta;
 import com.chutneytesting.execution.domain.state.ExecutionStateRepository;
 import com.chutneytesting.instrument.domain.ChutneyMetrics;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -34,6 +37,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
@@ -124,7 +128,7 @@ public class ScenarioExecutionEngineAsyncTest {
         final Long executionId = 4L;
 
         stubHistoryExecution(scenarioId, executionId);
-        final Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(executionId, 100);
+        final Triple<Pair<Observable<StepExecutionReportCoreDelta>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(executionId, 100);
         RxJavaPlugins.setIoSchedulerHandler(scheduler -> engineStub.getRight());
 
         final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
@@ -153,15 +157,16 @@ public class ScenarioExecutionEngineAsyncTest {
 
         engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // Reach second emission
         assertTestObserverStateAndValues(testObserver, executionId, engineStub.getMiddle(), 2);
-        verify(executionHistoryRepository, times(2)).update(eq(scenarioId), any());
+        verify(executionHistoryRepository).updateRunning(eq(scenarioId), any(), argThat(fragments -> fragments.keySet().equals(Set.of(List.of(), List.of(0)))), eq(Set.of()));
 
         engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // Reach third emission
         assertTestObserverStateAndValues(testObserver, executionId, engineStub.getMiddle(), 3);
-        verify(executionHistoryRepository, times(3)).update(eq(scenarioId), any());
+        verify(executionHistoryRepository).updateRunning(eq(scenarioId), any(), argThat(fragments -> fragments.keySet().equals(Set.of(List.of(), List.of(1)))), eq(Set.of()));
 
         engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // Reach last emission
         assertTestObserverStateAndValues(testObserver, true, executionId, engineStub.getMiddle(), 4);
-        verify(executionHistoryRepository, times(4)).update(eq(scenarioId), any());
+        verify(executionHistoryRepository, times(2)).update(eq(scenarioId), any());
+        verify(executionHistoryRepository, times(2)).updateRunning(eq(scenarioId), any(), any(), any());
 
         testObserver.assertTerminated();
         verify(executionStateRepository).notifyExecutionEnd(scenarioId);
@@ -181,7 +186,7 @@ public class ScenarioExecutionEngineAsyncTest {
         when(testCasePreProcessors.apply(any())).thenReturn(testCase);
 
         stubHistoryExecution(scenarioId, executionId);
-        Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(executionId, 100);
+        Triple<Pair<Observable<StepExecutionReportCoreDelta>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(executionId, 100);
         RxJavaPlugins.setIoSchedulerHandler(scheduler -> engineStub.getRight());
         final List<StepExecutionReportCore> reportsList = engineStub.getMiddle();
 
@@ -263,7 +268,7 @@ public class ScenarioExecutionEngineAsyncTest {
             .createStepExecutionReport();
     }
 
-    private Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> stubEngineExecution(long executionId, long delay) {
+    private Triple<Pair<Observable<StepExecutionReportCoreDelta>, Long>, List<StepExecutionReportCore>, TestScheduler> stubEngineExecution(long executionId, long delay) {
         final List<String> stepNames = Arrays.asList("name", "sub 1", "sub 2");
         Instant startDate = Instant.now();
         final List<StepExecutionReportCore> reportsList = Arrays.asList(
@@ -277,19 +282,30 @@ public class ScenarioExecutionEngineAsyncTest {
                     stepExecution(stepNames.get(2), ServerReportStatus.NOT_EXECUTED, executionId, null, startDate)), startDate),
             stepExecution(stepNames.get(0), ServerReportStatus.RUNNING, executionId,
                 Arrays.asList(
-                    stepExecution(stepNames.get(1), ServerReportStatus.SUCCESS, executionId, null, startDate),
+                    stepExecution(stepNames.get(1), ServerReportStatus.RUNNING, executionId, null, startDate),
                     stepExecution(stepNames.get(2), ServerReportStatus.RUNNING, executionId, null, startDate)), startDate),
             stepExecution(stepNames.get(0), ServerReportStatus.SUCCESS, executionId,
                 Arrays.asList(
                     stepExecution(stepNames.get(1), ServerReportStatus.SUCCESS, executionId, null, startDate),
                     stepExecution(stepNames.get(2), ServerReportStatus.SUCCESS, executionId, null, startDate)), startDate));
 
-        Observable<StepExecutionReportCore> observable = Observable.fromIterable(reportsList);
+        // Whole report first and last, only changed steps in between
+        final List<StepExecutionReportCoreDelta> deltas = Arrays.asList(
+            StepExecutionReportCoreDelta.snapshot(reportsList.get(0)),
+            new StepExecutionReportCoreDelta(List.of(0), List.of(
+                stepExecution(stepNames.get(0), ServerReportStatus.RUNNING, executionId, emptyList(), startDate),
+                reportsList.get(1).steps.get(0))),
+            new StepExecutionReportCoreDelta(List.of(1), List.of(
+                stepExecution(stepNames.get(0), ServerReportStatus.RUNNING, executionId, emptyList(), startDate),
+                reportsList.get(2).steps.get(1))),
+            StepExecutionReportCoreDelta.snapshot(reportsList.get(3)));
+
+        Observable<StepExecutionReportCoreDelta> observable = Observable.fromIterable(deltas);
         TestScheduler testScheduler = null;
         if (delay > 0) {
             testScheduler = new TestScheduler();
             TestScheduler finalTestScheduler = testScheduler;
-            observable = observable.concatMap(stepExecutionReportCore -> Observable.just(stepExecutionReportCore)
+            observable = observable.concatMap(delta -> Observable.just(delta)
                 .delay(delay, TimeUnit.MILLISECONDS, finalTestScheduler));
         }
 
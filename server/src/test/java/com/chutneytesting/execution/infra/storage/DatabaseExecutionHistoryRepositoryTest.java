@@ -4,6 +4,12 @@ import static com.chutneytesting.tools.WaitUtils.awaitDuring;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.chutneytesting.execution.domain.history.ExecutionHistory.DetachedExecution;
 import com.chutneytesting.execution.domain.history.ExecutionHistory.Execution;
@@ -12,19 +18,23 @@ import com.chutneytesting.execution.domain.history.ExecutionHistoryRepository;
 import com.chutneytesting.execution.domain.history.ImmutableExecutionHistory;
 import com.chutneytesting.execution.domain.history.ReportNotFoundException;
 import com.chutneytesting.execution.domain.report.ServerReportStatus;
+import com.chutneytesting.instrument.domain.ChutneyMetrics;
 import com.chutneytesting.tests.AbstractLocalDatabaseTest;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 public class DatabaseExecutionHistoryRepositoryTest extends AbstractLocalDatabaseTest {
 
+    private final ChutneyMetrics metrics = mock(ChutneyMetrics.class);
     private final ExecutionHistoryRepository executionHistoryRepository;
 
     public DatabaseExecutionHistoryRepositoryTest() {
-        this.executionHistoryRepository = new DatabaseExecutionHistoryRepository(namedParameterJdbcTemplate);
+        this.executionHistoryRepository = new DatabaseExecutionHistoryRepository(namedParameterJdbcTemplate, ReportCodec.JSON, metrics);
     }
 
     @Test
@@ -180,6 +190,130 @@ public class DatabaseExecutionHistoryRepositoryTest extends AbstractLocalDatabas
             .withMessage("Unable to find report " + executionCreated.executionId() + " of scenario 12345");
     }
 
+    @Test
+    public void running_execution_report_is_assembled_from_fragments() {
+        Execution execution = executionHistoryRepository.store("1", buildDetachedExecution(ServerReportStatus.RUNNING, "exec", ""));
+        Map<List<Integer>, String> fragments = new HashMap<>();
+        fragments.put(List.of(), "{\"executionId\":1,\"report\":{\"name\":\"root\",\"steps\":[]}}");
+        fragments.put(List.of(0), "{\"name\":\"step 1\",\"status\":\"RUNNING\",\"steps\":[]}");
+        fragments.put(List.of(0, 0), "{\"name\":\"step 1.1\",\"status\":\"RUNNING\"}");
+        fragments.put(List.of(0, 1), "{\"name\":\"step 1.2\",\"status\":\"NOT_EXECUTED\"}");
+        fragments.put(List.of(1), "{\"name\":\"step 2\",\"status\":\"NOT_EXECUTED\"}");
+        executionHistoryRepository.updateRunning("1", ImmutableExecutionHistory.Execution.copyOf(execution).withReport(""), fragments, Set.of());
+
+        executionHistoryRepository.updateRunning("1", ImmutableExecutionHistory.Execution.copyOf(execution).withReport(""), Map.of(List.of(0, 0), "{\"name\":\"step 1.1\",\"status\":\"SUCCESS\"}"), Set.of());
+
+        assertThat(executionHistoryRepository.getExecution("1", execution.executionId()).report())
+            .isEqualTo("{\"executionId\":1,\"report\":{\"name\":\"root\",\"steps\":["
+                + "{\"name\":\"step 1\",\"status\":\"RUNNING\",\"steps\":[{\"name\":\"step 1.1\",\"status\":\"SUCCESS\",\"steps\":[]},{\"name\":\"step 1.2\",\"status\":\"NOT_EXECUTED\",\"steps\":[]}]},"
+                + "{\"name\":\"step 2\",\"status\":\"NOT_EXECUTED\",\"steps\":[]}]}}");
+    }
+
+    @Test
+    public void replaced_sub_steps_fragments_are_discarded() {
+        Execution execution = executionHistoryRepository.store("1", buildDetachedExecution(ServerReportStatus.RUNNING, "exec", ""));
+        Map<List<Integer>, String> fragments = new HashMap<>();
+        fragments.put(List.of(), "{\"report\":{\"name\":\"root\"}}");
+        fragments.put(List.of(0), "{\"name\":\"iterations\"}");
+        fragments.put(List.of(0, 0), "{\"name\":\"template\"}");
+        fragments.put(List.of(0, 0, 0), "{\"name\":\"template step\"}");
+        fragments.put(List.of(0, 1), "{\"name\":\"other template\"}");
+        executionHistoryRepository.updateRunning("1", ImmutableExecutionHistory.Execution.copyOf(execution).withReport(""), fragments, Set.of());
+
+        executionHistoryRepository.updateRunning("1", ImmutableExecutionHistory.Execution.copyOf(execution).withReport(""), Map.of(List.of(0, 0), "{\"name\":\"iteration 1\"}"), Set.of(List.of(0)));
+
+        assertThat(executionHistoryRepository.getExecution("1", execution.executionId()).report())
+            .isEqualTo("{\"report\":{\"name\":\"root\",\"steps\":[{\"name\":\"iterations\",\"steps\":[{\"name\":\"iteration 1\",\"steps\":[]}]}]}}");
+    }
+
+    @Test
+    public void running_execution_report_fragments_are_encoded() {
+        DatabaseExecutionHistoryRepository compressingRepository = new DatabaseExecutionHistoryRepository(namedParameterJdbcTemplate, ReportCodec.GZIP, metrics);
+        Execution execution = compressingRepository.store("1", buildDetachedExecution(ServerReportStatus.RUNNING, "exec", ""));
+        compressingRepository.updateRunning("1", ImmutableExecutionHistory.Execution.copyOf(execution).withReport(""), Map.of(List.of(), "{\"report\":{\"name\":\"root\"}}"), Set.of());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT CONTENT FROM SCENARIO_EXECUTION_REPORT_FRAGMENT WHERE EXECUTION_ID = ?", String.class, execution.executionId()))
+            .startsWith("gz:");
+        assertThat(compressingRepository.getExecution("1", execution.executionId()).report())
+            .isEqualTo("{\"report\":{\"name\":\"root\",\"steps\":[]}}");
+    }
+
+    @Test
+    public void update_execution_compacts_report_fragments() {
+        Execution execution = executionHistoryRepository.store("1", buildDetachedExecution(ServerReportStatus.RUNNING, "exec", ""));
+        executionHistoryRepository.updateRunning("1", ImmutableExecutionHistory.Execution.copyOf(execution).withReport(""), Map.of(List.of(), "{\"report\":{}}"), Set.of());
+
+        executionHistoryRepository.update("1", buildDetachedExecution(ServerReportStatus.SUCCESS, "updated", "").attach(execution.executionId()));
+
+        assertThat(executionHistoryRepository.getExecution("1", execution.executionId()).report()).isEqualTo("report content");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SCENARIO_EXECUTION_REPORT_FRAGMENT", Long.class)).isZero();
+    }
+
+    @Test
+    public void report_fragments_are_deleted_with_their_execution() {
+        Execution execution = executionHistoryRepository.store("1", buildDetachedExecution(ServerReportStatus.RUNNING, "exec", ""));
+        executionHistoryRepository.updateRunning("1", ImmutableExecutionHistory.Execution.copyOf(execution).withReport(""), Map.of(List.of(), "{\"report\":{}}"), Set.of());
+
+        jdbcTemplate.update("DELETE FROM SCENARIO_EXECUTION_HISTORY WHERE ID = ?", execution.executionId());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM SCENARIO_EXECUTION_REPORT_FRAGMENT", Long.class)).isZero();
+    }
+
+    @Test
+    public void compressed_and_legacy_reports_are_both_readable() {
+        DatabaseExecutionHistoryRepository compressingRepository = new DatabaseExecutionHistoryRepository(namedParameterJdbcTemplate, ReportCodec.GZIP, metrics);
+        Execution legacyExecution = executionHistoryRepository.store("1", buildDetachedExecution(ServerReportStatus.SUCCESS, "legacy", ""));
+        Execution compressedExecution = compressingRepository.store("1", buildDetachedExecution(ServerReportStatus.SUCCESS, "compressed", ""));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT REPORT FROM SCENARIO_EXECUTION_HISTORY WHERE ID = ?", String.class, compressedExecution.executionId()))
+            .startsWith("gz:");
+        assertThat(compressingRepository.getExecution("1", legacyExecution.executionId()).report()).isEqualTo("report content");
+        assertThat(executionHistoryRepository.getExecution("1", compressedExecution.executionId()).report()).isEqualTo("report content");
+    }
+
+    @Test
+    public void report_encoding_and_decoding_are_measured_by_codec() {
+        DatabaseExecutionHistoryRepository compressingRepository = new DatabaseExecutionHistoryRepository(namedParameterJdbcTemplate, ReportCodec.GZIP, metrics);
+        Execution execution = compressingRepository.store("1", buildDetachedExecution(ServerReportStatus.SUCCESS, "compressed", ""));
+        compressingRepository.getExecution("1", execution.executionId());
+
+        verify(metrics, atLeastOnce()).onReportEncoded(eq("GZIP"), longThat(length -> length > 0), anyLong());
+        verify(metrics, atLeastOnce()).onReportDecoded(eq("GZIP"), longThat(length -> length > 0), anyLong());
+    }
+
+    @Test
+    public void legacy_reports_are_not_encoded_with_non_positive_batch_size() {
+        DatabaseExecutionHistoryRepository compressingRepository = new DatabaseExecutionHistoryRepository(namedParameterJdbcTemplate, ReportCodec.GZIP, metrics);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> compressingRepository.encodeLegacyReports(0, 0));
+    }
+
+    @Test
+    public void legacy_reports_of_terminated_executions_are_encoded_by_batch() {
+        Execution terminatedExecution = executionHistoryRepository.store("1", buildDetachedExecution(ServerReportStatus.SUCCESS, "terminated", ""));
+        Execution otherTerminatedExecution = executionHistoryRepository.store("1", buildDetachedExecution(ServerReportStatus.FAILURE, "terminated", ""));
+        Execution runningExecution = executionHistoryRepository.store("1", buildDetachedExecution(ServerReportStatus.RUNNING, "running", ""));
+        jdbcTemplate.update("UPDATE SCENARIO_EXECUTION_HISTORY SET REPORT = '{\"report\":{}}'");
+
+        DatabaseExecutionHistoryRepository compressingRepository = new DatabaseExecutionHistoryRepository(namedParameterJdbcTemplate, ReportCodec.GZIP, metrics);
+        DatabaseExecutionHistoryRepository.EncodedReports firstBatch = compressingRepository.encodeLegacyReports(0, 1);
+        assertThat(firstBatch.count).isEqualTo(1);
+        assertThat(firstBatch.lastId).isEqualTo(terminatedExecution.executionId());
+        assertThat(firstBatch.jsonLength).isEqualTo("{\"report\":{}}".length());
+        assertThat(firstBatch.encodedLength).isPositive();
+        DatabaseExecutionHistoryRepository.EncodedReports secondBatch = compressingRepository.encodeLegacyReports(firstBatch.lastId, 10);
+        assertThat(secondBatch.count).isEqualTo(1);
+        assertThat(secondBatch.lastId).isEqualTo(otherTerminatedExecution.executionId());
+        assertThat(compressingRepository.encodeLegacyReports(secondBatch.lastId, 10).count).isZero();
+
+        assertThat(jdbcTemplate.queryForList("SELECT REPORT FROM SCENARIO_EXECUTION_HISTORY WHERE STATUS <> 'RUNNING'", String.class))
+            .allSatisfy(report -> assertThat(report).startsWith("gz:"));
+        assertThat(compressingRepository.getExecution("1", terminatedExecution.executionId()).report()).isEqualTo("{\"report\":{}}");
+        assertThat(compressingRepository.getExecution("1", otherTerminatedExecution.executionId()).report()).isEqualTo("{\"report\":{}}");
+        assertThat(compressingRepository.getExecution("1", runningExecution.executionId()).report()).isEqualTo("{\"report\":{}}");
+    }
+
     @Test
     public void should_truncate_report_info_and_error_on_save_or_update() {
         final String tooLongString = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. Sed non risus. Suspendisse lectus tortor, dignissim sit amet, adipiscing nec, ultricies sed, dolor. Cras elementum ultrices diam. Maecenas ligula massa, varius a, semper congue, euismod non, mi. Proin porttitor, orci nec nonummy molestie, enim est eleifend mi, non fermentum diam nisl sit amet erat. Duis semper. Duis arcu massa, scelerisque vitae, consequat in, pretium a, enim. Pellentesque congue. Ut in risus volutpat libero pharetra tempor. Cras vestibulum bibendum augue. Praesent egestas leo in pede.";
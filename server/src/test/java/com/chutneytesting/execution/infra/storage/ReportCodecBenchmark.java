@@ -0,0 +1,128 @@
+package com.chutneytesting.execution.infra.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.chutneytesting.execution.domain.report.ScenarioExecutionReport;
+import com.chutneytesting.execution.domain.report.ServerReportStatus;
+import com.chutneytesting.execution.domain.report.StepExecutionReportCore;
+import com.chutneytesting.execution.domain.report.StepExecutionReportCoreBuilder;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare {@link ReportCodec} encoding and decoding latency on reports shaped as dataset iterations of http steps.
+ * Stored sizes are printed on setup.
+ * <p>
+ * Run with main method from test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportCodecBenchmark {
+
+    @Param({"JSON", "GZIP"})
+    public String codecName;
+
+    @Param({"10", "1000"})
+    public int steps;
+
+    private ReportCodec codec;
+    private String report;
+    private String storedReport;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        codec = ReportCodec.valueOf(codecName);
+        ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .findAndRegisterModules();
+        report = objectMapper.writeValueAsString(new ScenarioExecutionReport(1L, "scenario", "env", "user", scenarioReport(steps)));
+        storedReport = codec.encode(report);
+        System.out.printf("%n%s report of %d steps : %d bytes stored for %d bytes of JSON%n", codec, steps, storedReport.getBytes(UTF_8).length, report.getBytes(UTF_8).length);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(report);
+    }
+
+    @Benchmark
+    public String decode() {
+        return ReportCodec.decode(storedReport);
+    }
+
+    private static StepExecutionReportCore scenarioReport(int steps) {
+        Instant now = Instant.now();
+        List<StepExecutionReportCore> iterations = new ArrayList<>();
+        for (int i = 0; i < steps; i++) {
+            Map<String, Object> inputs = new LinkedHashMap<>();
+            inputs.put("uri", "/api/v1/resources/" + i);
+            inputs.put("headers", Map.of("Content-Type", "application/json", "Accept", "application/json"));
+            inputs.put("body", "{\"id\": " + i + ", \"name\": \"resource " + i + "\", \"tags\": [\"a\", \"b\", \"c\"]}");
+            Map<String, Object> outputs = new LinkedHashMap<>();
+            outputs.put("status", 200);
+            outputs.put("body", "{\"id\": " + i + ", \"created\": \"" + now + "\", \"state\": \"ACTIVE\"}");
+            iterations.add(new StepExecutionReportCoreBuilder()
+                .setExecutionId(1L)
+                .setName("Call resource " + i)
+                .setDuration(120)
+                .setStartDate(now)
+                .setStatus(ServerReportStatus.SUCCESS)
+                .setInformation(List.of("Validation [http_2xx : ${#status >= 200 and #status < 300}] : OK"))
+                .setErrors(List.of())
+                .setSteps(List.of())
+                .setType("http-post")
+                .setTargetName("API")
+                .setTargetUrl("http://localhost:8080")
+                .setStrategy("")
+                .setEvaluatedInputs(inputs)
+                .setStepOutputs(outputs)
+                .createStepExecutionReport());
+        }
+        return new StepExecutionReportCoreBuilder()
+            .setExecutionId(1L)
+            .setName("scenario")
+            .setDuration(120L * steps)
+            .setStartDate(now)
+            .setStatus(ServerReportStatus.SUCCESS)
+            .setInformation(List.of())
+            .setErrors(List.of())
+            .setSteps(iterations)
+            .setType("")
+            .setStrategy("")
+            .createStepExecutionReport();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ReportCodecBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
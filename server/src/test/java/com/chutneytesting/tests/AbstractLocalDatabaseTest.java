@@ -38,6 +38,7 @@ public abstract class AbstractLocalDatabaseTest {
     @AfterEach
     public void tearDown() {
         jdbcTemplate.execute("DELETE FROM CAMPAIGN_EXECUTION_HISTORY");
+        jdbcTemplate.execute("DELETE FROM SCENARIO_EXECUTION_REPORT_FRAGMENT");
         jdbcTemplate.execute("DELETE FROM SCENARIO_EXECUTION_HISTORY");
         jdbcTemplate.execute("DELETE FROM CAMPAIGN_SCENARIOS");
         jdbcTemplate.execute("DELETE FROM CAMPAIGN_PARAMETER");
@@ -3,15 +3,18 @@ package com.chutneytesting.task.context;
 import static com.chutneytesting.task.spi.validation.TaskValidatorsUtils.durationValidation;
 import static com.chutneytesting.task.spi.validation.Validator.getErrorsFrom;
 
-import com.chutneytesting.task.spi.Task;
+import com.chutneytesting.task.spi.AsyncTask;
 import com.chutneytesting.task.spi.TaskExecutionResult;
 import com.chutneytesting.task.spi.injectable.Input;
 import com.chutneytesting.task.spi.injectable.Logger;
 import com.chutneytesting.task.spi.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
-public class SleepTask implements Task {
+public class SleepTask implements AsyncTask {
 
     private final Logger logger;
     private final String duration;
@@ -27,17 +30,22 @@ public class SleepTask implements Task {
     }
 
     @Override
-    public TaskExecutionResult execute() {
+    public CompletionStage<TaskExecutionResult> executeAsync() {
         logger.info("Start sleeping for " + duration);
-        try {
-            TimeUnit.MILLISECONDS.sleep(Duration.parse(duration).toMilliseconds());
-        } catch (InterruptedException e) {
+        CompletableFuture<TaskExecutionResult> result = new CompletableFuture<>();
+        // Engine cancels the stage when the execution is interrupted
+        result.exceptionally(e -> {
             logger.error("Stop sleeping due to Interruption signal");
-            return TaskExecutionResult.ko();
-        }
-        logger.info("Stop sleeping for " + duration);
-        return TaskExecutionResult.ok();
+            return null;
+        });
+        // Timer completes the stage, no thread is kept sleeping
+        Executor afterDuration = CompletableFuture.delayedExecutor(Duration.parse(duration).toMilliseconds(), TimeUnit.MILLISECONDS);
+        afterDuration.execute(() -> {
+            if (!result.isDone()) {
+                logger.info("Stop sleeping for " + duration);
+                result.complete(TaskExecutionResult.ok());
+            }
+        });
+        return result;
     }
-
-
 }
@@ -0,0 +1,168 @@
+package com.chutneytesting.task.groovy;
+
+import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovySystem;
+import groovy.lang.Script;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.runtime.InvokerHelper;
+
+/**
+ * Compiled groovy scripts, by hash of their source.<br>
+ * Each script is compiled once in its own class loader, which is closed when the script is evicted,
+ * so least recently used scripts over max scripts can be unloaded.
+ * Groovy runtime references to evicted script classes, i.e. their class info and meta class, are removed too.
+ */
+public class GroovyScriptCache {
+
+    public static final String MAX_SCRIPTS_PROPERTY = "chutney.tasks.groovy.cache.maxScripts";
+
+    private final int maxScripts;
+    private final Map<String, CompiledScript> scripts = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong compilations = new AtomicLong();
+    private final AtomicLong compilationNanos = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public GroovyScriptCache() {
+        this(Integer.getInteger(MAX_SCRIPTS_PROPERTY, 256));
+    }
+
+    public GroovyScriptCache(int maxScripts) {
+        this.maxScripts = maxScripts;
+    }
+
+    /**
+     * @return a new instance of the compiled script, bound to given binding
+     */
+    public Script script(String source, Binding binding) throws CompilationFailedException {
+        return InvokerHelper.createScript(scriptClass(source), binding);
+    }
+
+    public Stats stats() {
+        synchronized (scripts) {
+            return new Stats(scripts.size(), hits.get(), compilations.get(), compilationNanos.get(), evictions.get());
+        }
+    }
+
+    private Class<?> scriptClass(String source) {
+        String hash = hash(source);
+        synchronized (scripts) {
+            CompiledScript compiled = scripts.get(hash);
+            if (compiled != null) {
+                hits.incrementAndGet();
+                return compiled.scriptClass;
+            }
+        }
+
+        // Compile out of the lock, scripts may run other groovy tasks
+        CompiledScript compiled = compile(hash, source);
+        synchronized (scripts) {
+            CompiledScript concurrentlyCompiled = scripts.putIfAbsent(hash, compiled);
+            if (concurrentlyCompiled != null) {
+                close(compiled);
+                return concurrentlyCompiled.scriptClass;
+            }
+            evictLeastRecentlyUsedScripts();
+            return compiled.scriptClass;
+        }
+    }
+
+    private CompiledScript compile(String hash, String source) {
+        long start = System.nanoTime();
+        GroovyClassLoader classLoader = new GroovyClassLoader(Thread.currentThread().getContextClassLoader());
+        try {
+            Class<?> scriptClass = classLoader.parseClass(source, "Script" + hash + ".groovy");
+            return new CompiledScript(classLoader, scriptClass);
+        } catch (RuntimeException e) {
+            close(classLoader);
+            throw e;
+        } finally {
+            compilations.incrementAndGet();
+            compilationNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private void evictLeastRecentlyUsedScripts() {
+        Iterator<CompiledScript> lessRecentlyUsedFirst = scripts.values().iterator();
+        while (scripts.size() > maxScripts && lessRecentlyUsedFirst.hasNext()) {
+            close(lessRecentlyUsedFirst.next());
+            lessRecentlyUsedFirst.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static void close(CompiledScript compiled) {
+        InvokerHelper.removeClass(compiled.scriptClass);
+        GroovySystem.getMetaClassRegistry().removeMetaClass(compiled.scriptClass);
+        close(compiled.classLoader);
+    }
+
+    private static void close(GroovyClassLoader classLoader) {
+        try {
+            classLoader.clearCache();
+            classLoader.close();
+        } catch (IOException e) {
+            // Nothing to release then
+        }
+    }
+
+    private static String hash(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CompiledScript {
+        private final GroovyClassLoader classLoader;
+        private final Class<?> scriptClass;
+
+        private CompiledScript(GroovyClassLoader classLoader, Class<?> scriptClass) {
+            this.classLoader = classLoader;
+            this.scriptClass = scriptClass;
+        }
+    }
+
+    public static class Stats {
+        public final int scripts;
+        public final long hits;
+        public final long compilations;
+        public final long compilationNanos;
+        public final long evictions;
+
+        public Stats(int scripts, long hits, long compilations, long compilationNanos, long evictions) {
+            this.scripts = scripts;
+            this.hits = hits;
+            this.compilations = compilations;
+            this.compilationNanos = compilationNanos;
+            this.evictions = evictions;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                "scripts=" + scripts +
+                ", hits=" + hits +
+                ", compilations=" + compilations +
+                ", compilationNanos=" + compilationNanos +
+                ", evictions=" + evictions +
+                '}';
+        }
+    }
+}
@@ -11,16 +11,20 @@ import com.chutneytesting.task.spi.injectable.Input;
 import com.chutneytesting.task.spi.injectable.Logger;
 import com.chutneytesting.task.spi.validation.Validator;
 import groovy.lang.Binding;
-import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.control.CompilationFailedException;
+import org.slf4j.LoggerFactory;
 
 public class GroovyTask implements Task {
 
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(GroovyTask.class);
+    // Shared by all groovy tasks, so a script is compiled once for all its executions
+    private static final GroovyScriptCache SCRIPTS = new GroovyScriptCache();
+
     private final String scriptAsString;
     private final Map<String, Object> parameters;
     private final Logger logger;
@@ -44,8 +48,10 @@ public class GroovyTask implements Task {
     @Override
     public TaskExecutionResult execute() {
         try {
-            Script script = new GroovyShell().parse(scriptAsString);
-            script.setBinding(getBindingFromMap(parameters));
+            Script script = SCRIPTS.script(scriptAsString, getBindingFromMap(parameters));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Groovy scripts cache: {}", scriptCacheStats());
+            }
 
             Map<String, Object> result = (Map<String, Object>) script.run();
 
@@ -59,6 +65,13 @@ public class GroovyTask implements Task {
         }
     }
 
+    /**
+     * @return compiled scripts cache statistics
+     */
+    public static GroovyScriptCache.Stats scriptCacheStats() {
+        return SCRIPTS.stats();
+    }
+
     private Binding getBindingFromMap(Map<String, Object> variables) {
         Binding binding = new Binding();
         variables.forEach((k, v) -> binding.setVariable(k, v));
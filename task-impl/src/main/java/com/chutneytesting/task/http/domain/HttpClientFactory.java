@@ -14,16 +14,35 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
+import org.apache.http.HttpResponse;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContextBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpResponse;
@@ -34,6 +53,39 @@ import org.springframework.web.client.RestTemplate;
 
 public class HttpClientFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientFactory.class);
+
+    public static final String POOL_MAX_PER_ROUTE_PROPERTY = "chutney.http.pool.maxPerRoute";
+    public static final String POOL_MAX_TOTAL_PROPERTY = "chutney.http.pool.maxTotal";
+    public static final String POOL_KEEP_ALIVE_MS_PROPERTY = "chutney.http.pool.keepAliveMs";
+    public static final String POOL_IDLE_EVICTION_MS_PROPERTY = "chutney.http.pool.idleEvictionMs";
+    public static final String POOL_MAX_CLIENTS_PROPERTY = "chutney.http.pool.maxClients";
+
+    private static final int MAX_PER_ROUTE = Integer.getInteger(POOL_MAX_PER_ROUTE_PROPERTY, 20);
+    private static final int MAX_TOTAL = Integer.getInteger(POOL_MAX_TOTAL_PROPERTY, 200);
+    private static final long KEEP_ALIVE_MS = Long.getLong(POOL_KEEP_ALIVE_MS_PROPERTY, 30000);
+    private static final long IDLE_EVICTION_MS = Long.getLong(POOL_IDLE_EVICTION_MS_PROPERTY, 60000);
+    private static final int MAX_CLIENTS = Integer.getInteger(POOL_MAX_CLIENTS_PROPERTY, 256);
+
+    // Shared by all http tasks, so connections and TLS sessions are reused across steps and executions
+    private static final Map<ClientKey, PooledClient> CLIENTS = new LinkedHashMap<>(16, 0.75f, true);
+    // Clients of a same security material share their SSL context, no more contexts than clients are kept
+    private static final Map<SslKey, SSLContext> SSL_CONTEXTS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SslKey, SSLContext> eldest) {
+            return size() > MAX_CLIENTS;
+        }
+    };
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "http-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        EVICTOR.scheduleWithFixedDelay(HttpClientFactory::evictConnections, IDLE_EVICTION_MS, IDLE_EVICTION_MS, TimeUnit.MILLISECONDS);
+    }
+
     /**
      * @return an {@link HttpClient} depending on given {@link Target} able to handle:
      * <ul>
@@ -48,24 +100,126 @@ public class HttpClientFactory {
      * </ul>
      */
     public HttpClient create(Target target, ParameterizedTypeReference<String> responseType, int timeout) {
-        RestTemplate restTemplate = buildRestTemplate(target.properties(), target.security(), timeout);
+        ClientKey key = new ClientKey(target, timeout);
 
-        return (httpMethod, resource, input) -> restTemplate.exchange(target.url() + resource, httpMethod, input, responseType);
+        return (httpMethod, resource, input) -> {
+            PooledClient client = acquire(key, target, timeout);
+            try {
+                return client.restTemplate.exchange(target.url() + resource, httpMethod, input, responseType);
+            } finally {
+                release(client);
+                logPoolStats();
+            }
+        };
     }
 
     public HttpClient create(Target target, Class<String> responseType, int timeout) {
-        RestTemplate restTemplate = buildRestTemplate(target.properties(), target.security(), timeout);
+        ClientKey key = new ClientKey(target, timeout);
 
-        return (httpMethod, resource, input) -> restTemplate.exchange(target.url() + resource, httpMethod, input, responseType);
+        return (httpMethod, resource, input) -> {
+            PooledClient client = acquire(key, target, timeout);
+            try {
+                return client.restTemplate.exchange(target.url() + resource, httpMethod, input, responseType);
+            } finally {
+                release(client);
+                logPoolStats();
+            }
+        };
     }
 
-    private static RestTemplate buildRestTemplate(Map<String, String> properties, SecurityInfo securityInfo, int timeout) {
-        SSLContext sslContext = buildSslContext(properties, securityInfo);
+    /**
+     * @return connection pool statistics of each http client, by target url
+     */
+    public static Map<String, PoolStats> poolStats() {
+        synchronized (CLIENTS) {
+            Map<String, PoolStats> stats = new LinkedHashMap<>();
+            CLIENTS.forEach((key, client) -> stats.merge(key.url, client.connectionManager.getTotalStats(), HttpClientFactory::sum));
+            return stats;
+        }
+    }
+
+    private static void logPoolStats() {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Http clients connection pools: {}", poolStats());
+        }
+    }
+
+    /**
+     * Lease the client of given key for one request, building it outside the lock if needed.
+     */
+    private static PooledClient acquire(ClientKey key, Target target, int timeout) {
+        synchronized (CLIENTS) {
+            PooledClient client = CLIENTS.get(key);
+            if (client != null) {
+                client.leases++;
+                return client;
+            }
+        }
+
+        PooledClient built = buildPooledClient(key.sslKey, target.properties(), target.security(), timeout);
+        synchronized (CLIENTS) {
+            PooledClient client = CLIENTS.putIfAbsent(key, built);
+            if (client == null) {
+                client = built;
+                evictLeastRecentlyUsedClients();
+            } else {
+                built.connectionManager.shutdown();
+            }
+            client.leases++;
+            return client;
+        }
+    }
+
+    private static void release(PooledClient client) {
+        synchronized (CLIENTS) {
+            client.leases--;
+            if (client.evicted && client.leases == 0) {
+                client.connectionManager.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Evicted clients still in use are shut down when released.
+     */
+    private static void evictLeastRecentlyUsedClients() {
+        Iterator<PooledClient> clients = CLIENTS.values().iterator();
+        while (CLIENTS.size() > MAX_CLIENTS && clients.hasNext()) {
+            PooledClient client = clients.next();
+            clients.remove();
+            client.evicted = true;
+            if (client.leases == 0) {
+                client.connectionManager.shutdown();
+            }
+        }
+    }
+
+    private static void evictConnections() {
+        synchronized (CLIENTS) {
+            CLIENTS.values().forEach(client -> {
+                client.connectionManager.closeExpiredConnections();
+                client.connectionManager.closeIdleConnections(IDLE_EVICTION_MS, TimeUnit.MILLISECONDS);
+            });
+        }
+    }
+
+    private static PooledClient buildPooledClient(SslKey sslKey, Map<String, String> properties, SecurityInfo securityInfo, int timeout) {
+        SSLContext sslContext = sslContext(sslKey, properties, securityInfo);
 
         SSLConnectionSocketFactory socketFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+            RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", socketFactory)
+                .build());
+        connectionManager.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        connectionManager.setMaxTotal(MAX_TOTAL);
 
         HttpClientBuilder httpClient = HttpClients.custom()
-            .setSSLSocketFactory(socketFactory);
+            .setConnectionManager(connectionManager)
+            .setKeepAliveStrategy(HttpClientFactory::keepAliveDuration)
+            // Clients are not shared between security configurations, so client certificate connections can be reused
+            .disableConnectionState();
 
         // Proxy
         Optional<String> proxyHost = ofNullable(System.getProperty("http.proxyHost"));
@@ -78,7 +232,31 @@ public class HttpClientFactory {
         RestTemplate restTemplate = new RestTemplate(requestFactory);
         configureBasicAuth(securityInfo, restTemplate);
         removeErrorHandler(restTemplate);
-        return restTemplate;
+        return new PooledClient(restTemplate, connectionManager);
+    }
+
+    private static long keepAliveDuration(HttpResponse response, HttpContext context) {
+        long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        return serverKeepAlive > 0 ? Math.min(serverKeepAlive, KEEP_ALIVE_MS) : KEEP_ALIVE_MS;
+    }
+
+    private static PoolStats sum(PoolStats a, PoolStats b) {
+        return new PoolStats(a.getLeased() + b.getLeased(), a.getPending() + b.getPending(), a.getAvailable() + b.getAvailable(), a.getMax() + b.getMax());
+    }
+
+    private static SSLContext sslContext(SslKey sslKey, Map<String, String> properties, SecurityInfo securityInfo) {
+        synchronized (SSL_CONTEXTS) {
+            SSLContext sslContext = SSL_CONTEXTS.get(sslKey);
+            if (sslContext != null) {
+                return sslContext;
+            }
+        }
+        // Keystores are read outside the lock, a context built twice concurrently is harmless
+        SSLContext sslContext = buildSslContext(properties, securityInfo);
+        synchronized (SSL_CONTEXTS) {
+            SSLContext previous = SSL_CONTEXTS.putIfAbsent(sslKey, sslContext);
+            return previous != null ? previous : sslContext;
+        }
     }
 
     private static SSLContext buildSslContext(Map<String, String> properties, SecurityInfo securityInfo) {
@@ -134,6 +312,82 @@ public class HttpClientFactory {
         );
     }
 
+    private static class PooledClient {
+        private final RestTemplate restTemplate;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        // Guarded by CLIENTS
+        private int leases = 0;
+        private boolean evicted = false;
+
+        private PooledClient(RestTemplate restTemplate, PoolingHttpClientConnectionManager connectionManager) {
+            this.restTemplate = restTemplate;
+            this.connectionManager = connectionManager;
+        }
+    }
+
+    /**
+     * Security material of a target, identifying its SSL context.
+     */
+    private static class SslKey {
+        private final List<Object> values;
+
+        private SslKey(Map<String, String> properties, SecurityInfo securityInfo) {
+            this.values = Arrays.asList(
+                new HashMap<>(properties),
+                securityInfo.trustStore(),
+                securityInfo.trustStorePassword(),
+                securityInfo.keyStore(),
+                securityInfo.keyStorePassword(),
+                securityInfo.keyPassword()
+            );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return values.equals(((SslKey) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+    }
+
+    /**
+     * Everything a client is built from.
+     */
+    private static class ClientKey {
+        private final String url;
+        private final SslKey sslKey;
+        private final Optional<List<String>> credential;
+        private final int timeout;
+
+        private ClientKey(Target target, int timeout) {
+            this.url = target.url();
+            this.sslKey = new SslKey(target.properties(), target.security());
+            this.credential = target.security().credential().map(c -> Arrays.asList(c.username(), c.password()));
+            this.timeout = timeout;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ClientKey that = (ClientKey) o;
+            return timeout == that.timeout &&
+                Objects.equals(url, that.url) &&
+                Objects.equals(sslKey, that.sslKey) &&
+                Objects.equals(credential, that.credential);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, sslKey, credential, timeout);
+        }
+    }
+
     private static class NoOpResponseErrorHandler extends DefaultResponseErrorHandler {
         @Override
         public void handleError(ClientHttpResponse response) {
@@ -11,9 +11,14 @@ import com.chutneytesting.tools.CloseableResource;
 import com.chutneytesting.tools.ThrowingFunction;
 import com.chutneytesting.tools.UncheckedException;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
@@ -33,6 +38,11 @@ public class JmsConnectionFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JmsConnectionFactory.class);
 
+    static final String MAX_CONNECTIONS_PROPERTY = "chutney.tasks.jms.maxConnections";
+    private static final int MAX_CONNECTIONS = Integer.getInteger(MAX_CONNECTIONS_PROPERTY, 50);
+
+    private static final Map<ConnectionKey, SharedConnection> CONNECTIONS = new LinkedHashMap<>(16, 0.75f, true);
+
     public CloseableResource<Consumer> createConsumer(Target target, JmsListenerParameters arguments) {
         ConsumerFactory consumerFactory = new ConsumerFactory(arguments);
         return obtainCloseableResource(target, arguments.destination, consumerFactory::build);
@@ -60,28 +70,30 @@ public class JmsConnectionFactory {
         configureSsl(target, environmentProperties);
 
         String connectionFactoryName = target.properties().getOrDefault("connectionFactoryName", "ConnectionFactory");
+        ConnectionKey key = new ConnectionKey(environmentProperties, connectionFactoryName, target.security().credential());
 
         try {
-            debugClassLoader();
-            Context context = new InitialContext(environmentProperties);
-            ConnectionFactory connectionFactory = (ConnectionFactory) context.lookup(connectionFactoryName);
-
-            Connection connection = createConnection(connectionFactory, target.security().credential());
-            connection.start();
-            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-            Destination destination = (Destination) context.lookup(destinationName);
-            return CloseableResource.build(resourceBuilder.apply(session, destination), () -> {
-                try {
-                    session.close();
-                } catch (JMSException e) {
-                    LOGGER.warn("Unable to close JMS Session: " + e.getMessage());
-                }
-                try {
-                    connection.close();
-                } catch (JMSException e) {
-                    LOGGER.warn("Unable to close JMS Connection: " + e.getMessage());
-                }
-            });
+            SharedConnection sharedConnection = sharedConnection(key, target);
+            Session session;
+            try {
+                session = sharedConnection.connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            } catch (JMSException e) {
+                sharedConnection.openSessions.decrementAndGet();
+                // A connection that cannot open sessions anymore is broken, unlike one failing on step inputs
+                evict(key, sharedConnection);
+                throw e;
+            } catch (RuntimeException e) {
+                sharedConnection.openSessions.decrementAndGet();
+                throw e;
+            }
+            try {
+                Destination destination = sharedConnection.destination(destinationName);
+                return CloseableResource.build(resourceBuilder.apply(session, destination), closeSession(sharedConnection, session));
+            } catch (NamingException | JMSException | RuntimeException e) {
+                sharedConnection.openSessions.decrementAndGet();
+                session.close();
+                throw e;
+            }
         } catch (InvalidSelectorException e) {
             throw new UncheckedJmsException("Cannot parse selector " + e.getMessage(), e);
         } catch (NameNotFoundException e) {
@@ -91,6 +103,83 @@ public class JmsConnectionFactory {
         }
     }
 
+    private static Runnable closeSession(SharedConnection sharedConnection, Session session) {
+        return () -> {
+            try {
+                session.close();
+            } catch (JMSException e) {
+                LOGGER.warn("Unable to close JMS Session: " + e.getMessage());
+            } finally {
+                sharedConnection.openSessions.decrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * Connections are shared by all jms tasks of a target, only sessions are opened for each step.
+     */
+    private SharedConnection sharedConnection(ConnectionKey key, Target target) throws NamingException, JMSException {
+        synchronized (CONNECTIONS) {
+            SharedConnection sharedConnection = CONNECTIONS.get(key);
+            if (sharedConnection == null) {
+                debugClassLoader();
+                Context context = new InitialContext(key.environmentProperties);
+                ConnectionFactory connectionFactory = (ConnectionFactory) context.lookup(key.connectionFactoryName);
+
+                Connection connection = createConnection(connectionFactory, target.security().credential());
+                SharedConnection createdConnection = new SharedConnection(context, connection);
+                try {
+                    connection.setExceptionListener(e -> {
+                        LOGGER.warn("JMS connection to " + target.url() + " failed, it will be opened again: " + e.getMessage());
+                        evict(key, createdConnection);
+                    });
+                    connection.start();
+                } catch (JMSException e) {
+                    close(connection);
+                    throw e;
+                }
+                sharedConnection = createdConnection;
+                CONNECTIONS.put(key, sharedConnection);
+            }
+            sharedConnection.openSessions.incrementAndGet();
+            evictLeastRecentlyUsedConnections();
+            return sharedConnection;
+        }
+    }
+
+    /**
+     * Close a broken connection, unless it was already replaced.
+     */
+    private static void evict(ConnectionKey key, SharedConnection sharedConnection) {
+        boolean evicted;
+        synchronized (CONNECTIONS) {
+            evicted = CONNECTIONS.remove(key, sharedConnection);
+        }
+        if (evicted) {
+            close(sharedConnection.connection);
+        }
+    }
+
+    private static void evictLeastRecentlyUsedConnections() {
+        Iterator<SharedConnection> lessRecentlyUsedFirst = CONNECTIONS.values().iterator();
+        while (CONNECTIONS.size() > MAX_CONNECTIONS && lessRecentlyUsedFirst.hasNext()) {
+            SharedConnection sharedConnection = lessRecentlyUsedFirst.next();
+            // Connections with open sessions are kept, even over max connections
+            if (sharedConnection.openSessions.get() == 0) {
+                close(sharedConnection.connection);
+                lessRecentlyUsedFirst.remove();
+            }
+        }
+    }
+
+    private static void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (JMSException e) {
+            LOGGER.warn("Unable to close JMS Connection: " + e.getMessage());
+        }
+    }
+
     private void debugClassLoader() {
         ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
         LOGGER.debug("Thread.currentThread().getContextClassLoader(): " + contextClassLoader);
@@ -117,6 +206,59 @@ public class JmsConnectionFactory {
         target.security().trustStorePassword().ifPresent(trustStorePassword -> environmentProperties.put("connection.ConnectionFactory.trustStorePassword", trustStorePassword));
     }
 
+    private static class ConnectionKey {
+        private final Hashtable<String, String> environmentProperties;
+        private final String connectionFactoryName;
+        private final String username;
+        private final String password;
+
+        private ConnectionKey(Hashtable<String, String> environmentProperties, String connectionFactoryName, Optional<SecurityInfo.Credential> credential) {
+            this.environmentProperties = environmentProperties;
+            this.connectionFactoryName = connectionFactoryName;
+            this.username = credential.map(SecurityInfo.Credential::username).orElse(null);
+            this.password = credential.map(SecurityInfo.Credential::password).orElse(null);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ConnectionKey that = (ConnectionKey) o;
+            return environmentProperties.equals(that.environmentProperties) &&
+                connectionFactoryName.equals(that.connectionFactoryName) &&
+                Objects.equals(username, that.username) &&
+                Objects.equals(password, that.password);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(environmentProperties, connectionFactoryName, username, password);
+        }
+    }
+
+    private static class SharedConnection {
+        private final Context context;
+        private final Connection connection;
+        private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+        private final AtomicInteger openSessions = new AtomicInteger();
+
+        private SharedConnection(Context context, Connection connection) {
+            this.context = context;
+            this.connection = connection;
+        }
+
+        private Destination destination(String destinationName) throws NamingException {
+            Destination destination = destinations.get(destinationName);
+            if (destination == null) {
+                synchronized (context) {
+                    destination = (Destination) context.lookup(destinationName);
+                }
+                destinations.put(destinationName, destination);
+            }
+            return destination;
+        }
+    }
+
     private interface JmsThrowingBiFunction<T1, T2, R> {
         R apply(T1 t1, T2 t2) throws JMSException;
     }
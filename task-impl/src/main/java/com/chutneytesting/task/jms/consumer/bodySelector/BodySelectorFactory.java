@@ -19,6 +19,7 @@ public class BodySelectorFactory {
             .map(factory -> factory.tryParse(selector))
             .filter(Optional::isPresent)
             .map(Optional::get)
+            .<BodySelector>map(bodySelector -> new CachedBodySelector(selector, bodySelector))
             .findFirst()
             .orElseThrow(() -> new IllegalArgumentException("Wrong bodySelector syntax. " + syntaxDescription()));
     }
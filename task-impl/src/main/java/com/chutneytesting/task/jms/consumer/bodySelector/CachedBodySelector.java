@@ -0,0 +1,60 @@
+package com.chutneytesting.task.jms.consumer.bodySelector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+/**
+ * Remember whether browsed messages matched a body selector, by message id,
+ * so browsing the same queue again does not parse and evaluate the same messages.
+ */
+class CachedBodySelector implements BodySelector {
+
+    static final String CACHE_SIZE_PROPERTY = "chutney.tasks.jms.bodySelector.cacheSize";
+    private static final int CACHE_SIZE = Integer.getInteger(CACHE_SIZE_PROPERTY, 10000);
+
+    private static final Map<String, Boolean> MATCHES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final String selector;
+    private final BodySelector bodySelector;
+
+    CachedBodySelector(String selector, BodySelector bodySelector) {
+        this.selector = selector;
+        this.bodySelector = bodySelector;
+    }
+
+    @Override
+    public boolean match(Message message) {
+        String messageId = messageId(message);
+        if (messageId == null) {
+            return bodySelector.match(message);
+        }
+
+        String key = selector + '\n' + messageId;
+        Boolean matches;
+        synchronized (MATCHES) {
+            matches = MATCHES.get(key);
+        }
+        if (matches == null) {
+            matches = bodySelector.match(message);
+            synchronized (MATCHES) {
+                MATCHES.put(key, matches);
+            }
+        }
+        return matches;
+    }
+
+    private static String messageId(Message message) {
+        try {
+            return message.getJMSMessageID();
+        } catch (JMSException e) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.chutneytesting.task.jms.consumer.bodySelector;
 
 import com.chutneytesting.task.jms.domain.XmlContent;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -13,6 +15,15 @@ class XpathBodySelectorParser implements BodySelectorParser {
 
     private static final String BODY_SELECTOR_REGEX = "^XPATH '(?<xpath>.+)'$";
     private static final Pattern BODY_SELECTOR_PATTERN = Pattern.compile(BODY_SELECTOR_REGEX);
+    private static final int MAX_COMPILED_XPATHS = 256;
+
+    // Compiled once, then cloned as expressions are not thread safe
+    private static final Map<String, XPathExpression<Boolean>> COMPILED_XPATHS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, XPathExpression<Boolean>> eldest) {
+            return size() > MAX_COMPILED_XPATHS;
+        }
+    };
 
     @Override
     public String description() {
@@ -28,7 +39,7 @@ class XpathBodySelectorParser implements BodySelectorParser {
         final Optional<BodySelector> optionalBodySelector;
         if (matcher.matches()) {
             String xpath = matcher.group("xpath");
-            XPathExpression<Boolean> xPathExpression = XPathFactory.instance().compile(xpath, Filters.fboolean());
+            XPathExpression<Boolean> xPathExpression = compile(xpath).clone();
             optionalBodySelector = Optional.of(new XpathBodySelector(xPathExpression));
         } else {
             optionalBodySelector = Optional.empty();
@@ -36,6 +47,20 @@ class XpathBodySelectorParser implements BodySelectorParser {
         return optionalBodySelector;
     }
 
+    private static XPathExpression<Boolean> compile(String xpath) {
+        XPathExpression<Boolean> compiled;
+        synchronized (COMPILED_XPATHS) {
+            compiled = COMPILED_XPATHS.get(xpath);
+        }
+        if (compiled == null) {
+            compiled = XPathFactory.instance().compile(xpath, Filters.fboolean());
+            synchronized (COMPILED_XPATHS) {
+                COMPILED_XPATHS.put(xpath, compiled);
+            }
+        }
+        return compiled;
+    }
+
     private static class XpathBodySelector extends TextMessageBodySelector {
         private final XPathExpression<Boolean> xPathExpression;
         private final SAXBuilder saxBuilder = new SAXBuilder();
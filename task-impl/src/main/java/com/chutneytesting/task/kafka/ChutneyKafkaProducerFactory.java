@@ -1,16 +1,32 @@
 package com.chutneytesting.task.kafka;
 
 import com.chutneytesting.task.spi.injectable.Target;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 
+/**
+ * Producers are leased by {@link #create(Target)} until {@link #release(KafkaTemplate)}.<br>
+ * Least recently used producers over max producers are evicted, those still leased are only destroyed once released.
+ */
 final class ChutneyKafkaProducerFactory {
 
-    private DefaultKafkaProducerFactory<String, String> factory;
+    static final String MAX_PRODUCERS_PROPERTY = "chutney.tasks.kafka.producer.maxProducers";
+    private static final int MAX_PRODUCERS = Integer.getInteger(MAX_PRODUCERS_PROPERTY, 50);
+
+    // Shared by all publish tasks, so a producer and its connections are reused across steps
+    private static final Map<Map<String, Object>, PooledProducer> PRODUCERS = new LinkedHashMap<>(16, 0.75f, true);
+    // Producers with leases, evicted ones included, by their factory. Guarded by PRODUCERS
+    private static final Map<ProducerFactory<String, String>, PooledProducer> LEASED = new IdentityHashMap<>();
 
     KafkaTemplate<String, String> create(Target target) {
         Map<String, Object> configProps = new HashMap<>();
@@ -28,11 +44,57 @@ final class ChutneyKafkaProducerFactory {
 
         target.properties().entrySet().forEach(p -> configProps.put(p.getKey(), p.getValue()));
 
-        this.factory = new DefaultKafkaProducerFactory<>(configProps);
-        return new KafkaTemplate(this.factory, true);
+        return new KafkaTemplate<>(lease(configProps), true);
+    }
+
+    /**
+     * Give back the template producer, for next steps on the same target.
+     */
+    void release(KafkaTemplate<String, String> template) {
+        PooledProducer toDestroy = null;
+        synchronized (PRODUCERS) {
+            PooledProducer producer = LEASED.get(template.getProducerFactory());
+            if (producer != null && --producer.leases == 0) {
+                LEASED.remove(producer.factory);
+                if (producer.evicted) {
+                    toDestroy = producer;
+                }
+            }
+        }
+        if (toDestroy != null) {
+            toDestroy.factory.destroy();
+        }
     }
 
-    void destroy() {
-        factory.destroy();
+    private static DefaultKafkaProducerFactory<String, String> lease(Map<String, Object> configProps) {
+        List<PooledProducer> toDestroy = new ArrayList<>();
+        PooledProducer producer;
+        synchronized (PRODUCERS) {
+            producer = PRODUCERS.computeIfAbsent(configProps, PooledProducer::new);
+            producer.leases++;
+            LEASED.put(producer.factory, producer);
+            Iterator<PooledProducer> lessRecentlyUsedFirst = PRODUCERS.values().iterator();
+            while (PRODUCERS.size() > MAX_PRODUCERS && lessRecentlyUsedFirst.hasNext()) {
+                PooledProducer evicted = lessRecentlyUsedFirst.next();
+                lessRecentlyUsedFirst.remove();
+                evicted.evicted = true;
+                if (evicted.leases == 0) {
+                    toDestroy.add(evicted);
+                }
+            }
+        }
+        // Destroying closes the producer, which may wait for in-flight records
+        toDestroy.forEach(evicted -> evicted.factory.destroy());
+        return producer.factory;
+    }
+
+    private static class PooledProducer {
+        private final DefaultKafkaProducerFactory<String, String> factory;
+        private int leases = 0;
+        private boolean evicted = false;
+
+        private PooledProducer(Map<String, Object> configProps) {
+            this.factory = new DefaultKafkaProducerFactory<>(configProps);
+        }
     }
 }
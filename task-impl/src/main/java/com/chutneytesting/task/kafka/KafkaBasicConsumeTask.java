@@ -33,19 +33,20 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.Header;
-import org.springframework.kafka.core.ConsumerFactory;
-import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
-import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.listener.MessageListener;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
 public class KafkaBasicConsumeTask implements Task {
 
+    // Shared by all consume tasks, so consumers stay assigned to their partitions between steps
+    private static final KafkaConsumerRegistry CONSUMERS = new KafkaConsumerRegistry();
+
     private KafkaConsumerFactoryFactory kafkaConsumerFactoryFactory = new KafkaConsumerFactoryFactory();
+    private KafkaConsumerRegistry consumerRegistry = CONSUMERS;
 
     static final String OUTPUT_BODY = "body";
     static final String OUTPUT_BODY_HEADERS_KEY = "headers";
@@ -102,10 +103,11 @@ public class KafkaBasicConsumeTask implements Task {
 
     @Override
     public TaskExecutionResult execute() {
-        ConcurrentMessageListenerContainer<String, String> messageListenerContainer = createMessageListenerContainer(createMessageListener());
+        Predicate<ConsumerRecord<String, String>> subscriber = this::accept;
+        KafkaConsumerRegistry.BufferedConsumer consumer = null;
         try {
             logger.info("Consuming message from topic " + topic);
-            messageListenerContainer.start();
+            consumer = consumerRegistry.subscribe(consumerKey(), topic, () -> kafkaConsumerFactoryFactory.create(target, group, properties), subscriber);
             countDownLatch.await(Duration.parse(timeout).toMilliseconds(), TimeUnit.MILLISECONDS);
             if (consumedMessages.size() != nbMessages) {
                 logger.error("Unable to get the expected number of messages [" + nbMessages + "] during " + timeout + " from topic " + topic + ".");
@@ -117,20 +119,29 @@ public class KafkaBasicConsumeTask implements Task {
             logger.error("An exception occurs when consuming a message to Kafka server: " + e.getMessage());
             return TaskExecutionResult.ko();
         } finally {
-            messageListenerContainer.stop();
+            if (consumer != null) {
+                consumer.unsubscribe(subscriber);
+            }
         }
     }
 
-    private MessageListener<String, String> createMessageListener() {
-        return record -> {
-            if (countDownLatch.getCount() <= 0) {
-                return;
-            }
-            final Map<String, Object> message = extractMessageFromRecord(record);
-            if (applySelector(message) && applyHeaderSelector(message)) {
-                addMessageToResultAndCountDown(message);
-            }
-        };
+    /**
+     * @return true if the record was taken as one of the expected messages
+     */
+    private synchronized boolean accept(ConsumerRecord<String, String> record) {
+        if (countDownLatch.getCount() <= 0) {
+            return false;
+        }
+        final Map<String, Object> message = extractMessageFromRecord(record);
+        if (applySelector(message) && applyHeaderSelector(message)) {
+            addMessageToResultAndCountDown(message);
+            return true;
+        }
+        return false;
+    }
+
+    List<Object> consumerKey() {
+        return List.of(target.url(), target.properties(), defaultIfNull(group, ""), topic, properties);
     }
 
     private boolean applySelector(Map<String, Object> message) {
@@ -204,15 +215,6 @@ public class KafkaBasicConsumeTask implements Task {
         return Stream.of(record.headers().toArray()).distinct().collect(toMap(Header::key, header -> new String(header.value(), UTF_8)));
     }
 
-    private ConcurrentMessageListenerContainer<String, String> createMessageListenerContainer(MessageListener<String, String> messageListener) {
-        ConsumerFactory<String, String> consumerFactory = kafkaConsumerFactoryFactory.create(target, group, properties);
-        ContainerProperties containerProperties = new ContainerProperties(topic);
-        containerProperties.setMessageListener(messageListener);
-        return new ConcurrentMessageListenerContainer<>(
-            consumerFactory,
-            containerProperties);
-    }
-
     private Map<String, Object> toOutputs() {
         Map<String, Object> results = new HashMap<>();
         results.put(OUTPUT_BODY, consumedMessages);
@@ -62,19 +62,17 @@ public class KafkaBasicPublishTask implements Task {
             ProducerRecord<String, String> producerRecord = new ProducerRecord<String, String>(topic, null, null, payload, recordHeaders);
 
             KafkaTemplate<String, String> kafkaTemplate = producerFactory.create(target);
-            kafkaTemplate.send(producerRecord).get(5, SECONDS);
+            try {
+                kafkaTemplate.send(producerRecord).get(5, SECONDS);
+            } finally {
+                producerFactory.release(kafkaTemplate);
+            }
 
             logger.info("Published Kafka Message on topic " + topic);
             return TaskExecutionResult.ok(outputs(headers, payload));
         } catch (Exception e) {
             logger.error("An exception occurs when sending a message to Kafka server: " + e.getMessage());
             return TaskExecutionResult.ko();
-        } finally {
-            try {
-                producerFactory.destroy();
-            } catch (Exception e) {
-                logger.error(e);
-            }
         }
     }
 
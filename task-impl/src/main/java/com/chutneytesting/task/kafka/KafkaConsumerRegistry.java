@@ -0,0 +1,179 @@
+package com.chutneytesting.task.kafka;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListener;
+
+/**
+ * Long-lived listener containers, by target, group, topic and consumer properties.<br>
+ * Containers keep consuming between steps, so partitions stay assigned and a step does not wait for a rebalance.
+ * Records no step took yet are kept in a bounded buffer, oldest first, and offered to the next subscribing step.
+ * Containers without subscriber for longer than idle timeout are stopped, dropping their buffered records.
+ * Offsets are committed as records are consumed, buffered or not: records dropped, because the buffer is full or the container stopped,
+ * are lost for the consumer group and will not be consumed again by a later step.
+ * Containers are stopped out of the registry lock, as stopping waits for their consumer thread.
+ */
+class KafkaConsumerRegistry implements AutoCloseable {
+
+    static final String IDLE_TIMEOUT_MS_PROPERTY = "chutney.tasks.kafka.consumer.idleTimeoutMs";
+    static final String MAX_CONSUMERS_PROPERTY = "chutney.tasks.kafka.consumer.maxConsumers";
+    static final String BUFFER_SIZE_PROPERTY = "chutney.tasks.kafka.consumer.bufferSize";
+
+    private final long idleTimeoutMs;
+    private final int maxConsumers;
+    private final int bufferSize;
+
+    private final Map<List<Object>, BufferedConsumer> consumers = new LinkedHashMap<>(16, 0.75f, true);
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kafka-consumer-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    KafkaConsumerRegistry() {
+        this(Long.getLong(IDLE_TIMEOUT_MS_PROPERTY, 300000), Integer.getInteger(MAX_CONSUMERS_PROPERTY, 50), Integer.getInteger(BUFFER_SIZE_PROPERTY, 1000));
+    }
+
+    KafkaConsumerRegistry(long idleTimeoutMs, int maxConsumers, int bufferSize) {
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxConsumers = maxConsumers;
+        this.bufferSize = bufferSize;
+        long evictionPeriodMs = Math.max(1, idleTimeoutMs / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdleConsumers, evictionPeriodMs, evictionPeriodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Offer buffered then incoming records of the topic to given subscriber, until unsubscribed.
+     * Records accepted by the subscriber are not offered again.
+     *
+     * @param key             identifies the consumer to reuse, as target, group, topic and properties
+     * @param consumerFactory used to start a new consumer when none can be reused
+     */
+    BufferedConsumer subscribe(List<Object> key, String topic, Supplier<ConsumerFactory<String, String>> consumerFactory, Predicate<ConsumerRecord<String, String>> subscriber) {
+        List<BufferedConsumer> evicted = new ArrayList<>();
+        BufferedConsumer consumer;
+        synchronized (this) {
+            consumer = consumers.get(key);
+            if (consumer == null) {
+                consumer = new BufferedConsumer(consumerFactory.get(), topic, bufferSize);
+                consumers.put(key, consumer);
+                consumer.subscribe(subscriber);
+                consumer.container.start();
+            } else {
+                consumer.subscribe(subscriber);
+            }
+            evictLeastRecentlyUsedConsumers(evicted);
+        }
+        evicted.forEach(BufferedConsumer::stop);
+        return consumer;
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        List<BufferedConsumer> closed;
+        synchronized (this) {
+            closed = new ArrayList<>(consumers.values());
+            consumers.clear();
+        }
+        closed.forEach(BufferedConsumer::stop);
+    }
+
+    private void evictLeastRecentlyUsedConsumers(List<BufferedConsumer> evicted) {
+        Iterator<BufferedConsumer> lessRecentlyUsedFirst = consumers.values().iterator();
+        while (consumers.size() > maxConsumers && lessRecentlyUsedFirst.hasNext()) {
+            BufferedConsumer consumer = lessRecentlyUsedFirst.next();
+            if (!consumer.hasSubscribers()) {
+                evicted.add(consumer);
+                lessRecentlyUsedFirst.remove();
+            }
+        }
+    }
+
+    private void evictIdleConsumers() {
+        List<BufferedConsumer> evicted = new ArrayList<>();
+        synchronized (this) {
+            consumers.values().removeIf(consumer -> {
+                if (consumer.isIdleSince(System.currentTimeMillis() - idleTimeoutMs)) {
+                    evicted.add(consumer);
+                    return true;
+                }
+                return false;
+            });
+        }
+        evicted.forEach(BufferedConsumer::stop);
+    }
+
+    static class BufferedConsumer {
+        private final ConcurrentMessageListenerContainer<String, String> container;
+        private final int bufferSize;
+        private final Deque<ConsumerRecord<String, String>> buffer = new ArrayDeque<>();
+        private final List<Predicate<ConsumerRecord<String, String>>> subscribers = new ArrayList<>();
+        private long lastUsed = System.currentTimeMillis();
+
+        private BufferedConsumer(ConsumerFactory<String, String> consumerFactory, String topic, int bufferSize) {
+            this.bufferSize = bufferSize;
+            ContainerProperties containerProperties = new ContainerProperties(topic);
+            MessageListener<String, String> listener = this::onMessage;
+            containerProperties.setMessageListener(listener);
+            this.container = new ConcurrentMessageListenerContainer<>(consumerFactory, containerProperties);
+        }
+
+        synchronized void unsubscribe(Predicate<ConsumerRecord<String, String>> subscriber) {
+            subscribers.remove(subscriber);
+            lastUsed = System.currentTimeMillis();
+        }
+
+        synchronized int buffered() {
+            return buffer.size();
+        }
+
+        private synchronized void subscribe(Predicate<ConsumerRecord<String, String>> subscriber) {
+            lastUsed = System.currentTimeMillis();
+            buffer.removeIf(subscriber);
+            subscribers.add(subscriber);
+        }
+
+        synchronized void onMessage(ConsumerRecord<String, String> record) {
+            for (Predicate<ConsumerRecord<String, String>> subscriber : subscribers) {
+                if (subscriber.test(record)) {
+                    return;
+                }
+            }
+            buffer.addLast(record);
+            while (buffer.size() > bufferSize) {
+                buffer.removeFirst();
+            }
+        }
+
+        private synchronized boolean hasSubscribers() {
+            return !subscribers.isEmpty();
+        }
+
+        private synchronized boolean isIdleSince(long time) {
+            return subscribers.isEmpty() && lastUsed <= time;
+        }
+
+        boolean isRunning() {
+            return container.isRunning();
+        }
+
+        void stop() {
+            container.stop();
+        }
+    }
+}
@@ -6,12 +6,30 @@ import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoDatabase;
 import com.chutneytesting.task.spi.injectable.Target;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
 import com.chutneytesting.tools.CloseableResource;
 import org.springframework.util.StringUtils;
 
+/**
+ * Databases are served by clients shared in {@link MongoClientRegistry}, closing a database only releases its client.
+ */
 public class DefaultMongoDatabaseFactory implements MongoDatabaseFactory {
 
+    static final String CONNECTIONS_PER_HOST_PROPERTY = "chutney.tasks.mongo.client.connectionsPerHost";
+
+    private static final MongoClientRegistry CLIENTS = new MongoClientRegistry();
+
+    private final MongoClientRegistry clientRegistry;
+
+    public DefaultMongoDatabaseFactory() {
+        this(CLIENTS);
+    }
+
+    DefaultMongoDatabaseFactory(MongoClientRegistry clientRegistry) {
+        this.clientRegistry = clientRegistry;
+    }
+
     public CloseableResource<MongoDatabase> create(Target target) throws IllegalArgumentException {
         String databaseName = target.properties().get("databaseName");
         if (StringUtils.isEmpty(databaseName)) {
@@ -19,15 +37,26 @@ public class DefaultMongoDatabaseFactory implements MongoDatabaseFactory {
         }
 
         ServerAddress serverAddress = new ServerAddress(target.getUrlAsURI().getHost(), target.getUrlAsURI().getPort());
+        MongoClientOptions options = MongoClientOptions.builder()
+            .connectionsPerHost(Integer.getInteger(CONNECTIONS_PER_HOST_PROPERTY, 10))
+            .build();
 
+        final List<Object> key;
         final MongoClient mongoClient;
         if (target.security().credential().isPresent()) {
-            MongoCredential credential = MongoCredential.createCredential(target.security().credential().get().username(), databaseName, target.security().credential().get().password().toCharArray());
-            mongoClient = new MongoClient(serverAddress, credential, MongoClientOptions.builder().build());
+            String username = target.security().credential().get().username();
+            String password = target.security().credential().get().password();
+            // Credential is checked against database name, so clients cannot be shared between databases
+            key = Arrays.asList(serverAddress, username, password, databaseName);
+            mongoClient = clientRegistry.acquire(key, () -> {
+                MongoCredential credential = MongoCredential.createCredential(username, databaseName, password.toCharArray());
+                return new MongoClient(serverAddress, credential, options);
+            });
         } else {
-            mongoClient = new MongoClient(serverAddress);
+            key = Arrays.asList(serverAddress);
+            mongoClient = clientRegistry.acquire(key, () -> new MongoClient(serverAddress, options));
         }
 
-        return CloseableResource.build(mongoClient.getDatabase(databaseName), mongoClient::close);
+        return CloseableResource.build(mongoClient.getDatabase(databaseName), () -> clientRegistry.release(key));
     }
 }
@@ -0,0 +1,79 @@
+package com.chutneytesting.task.mongo;
+
+import static com.chutneytesting.task.mongo.MongoTaskValidatorsUtils.mongoTargetValidation;
+import static com.chutneytesting.task.spi.validation.TaskValidatorsUtils.notBlankStringValidation;
+import static com.chutneytesting.task.spi.validation.TaskValidatorsUtils.notEmptyListValidation;
+import static com.chutneytesting.task.spi.validation.Validator.getErrorsFrom;
+
+import com.chutneytesting.task.spi.Task;
+import com.chutneytesting.task.spi.TaskExecutionResult;
+import com.chutneytesting.task.spi.injectable.Input;
+import com.chutneytesting.task.spi.injectable.Logger;
+import com.chutneytesting.task.spi.injectable.Target;
+import com.chutneytesting.tools.CloseableResource;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.bson.Document;
+
+/**
+ * Insert many documents in one bulk write.
+ */
+public class MongoBulkInsertTask implements Task {
+
+    private final MongoDatabaseFactory mongoDatabaseFactory = new DefaultMongoDatabaseFactory();
+    private final Target target;
+    private final Logger logger;
+    private final String collection;
+    private final List<String> documents;
+    private final boolean ordered;
+
+    public MongoBulkInsertTask(Target target,
+                               Logger logger,
+                               @Input("collection") String collection,
+                               @Input("documents") List<String> documents,
+                               // Unordered writes are faster, but do not stop at first error
+                               @Input("ordered") Boolean ordered) {
+        this.target = target;
+        this.logger = logger;
+        this.collection = collection;
+        this.documents = documents;
+        this.ordered = Optional.ofNullable(ordered).orElse(true);
+    }
+
+    @Override
+    public List<String> validateInputs() {
+        return getErrorsFrom(
+            notBlankStringValidation(collection, "collection"),
+            notEmptyListValidation(documents, "documents"),
+            mongoTargetValidation(target)
+        );
+    }
+
+    @Override
+    public TaskExecutionResult execute() {
+        try (CloseableResource<MongoDatabase> database = mongoDatabaseFactory.create(target)) {
+            List<InsertOneModel<Document>> inserts = documents.stream()
+                .map(document -> new InsertOneModel<>(Document.parse(document)))
+                .collect(Collectors.toList());
+            BulkWriteResult result = database.getResource()
+                .getCollection(collection)
+                .bulkWrite(inserts, new BulkWriteOptions().ordered(ordered));
+            if (!result.wasAcknowledged()) {
+                logger.error("Bulk insert was not acknowledged");
+                return TaskExecutionResult.ko();
+            }
+            int insertedCount = result.getInsertedCount();
+            logger.info("Inserted in Mongo collection '" + collection + "': " + insertedCount + " documents");
+            return TaskExecutionResult.ok(Collections.singletonMap("insertedCount", insertedCount));
+        } catch (IllegalArgumentException e) {
+            logger.error(e.getMessage());
+            return TaskExecutionResult.ko();
+        }
+    }
+}
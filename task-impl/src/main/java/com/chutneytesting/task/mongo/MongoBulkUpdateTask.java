@@ -0,0 +1,86 @@
+package com.chutneytesting.task.mongo;
+
+import static com.chutneytesting.task.mongo.MongoTaskValidatorsUtils.mongoTargetValidation;
+import static com.chutneytesting.task.spi.validation.TaskValidatorsUtils.notBlankStringValidation;
+import static com.chutneytesting.task.spi.validation.TaskValidatorsUtils.notEmptyListValidation;
+import static com.chutneytesting.task.spi.validation.Validator.getErrorsFrom;
+import static com.chutneytesting.task.spi.validation.Validator.of;
+
+import com.chutneytesting.task.spi.Task;
+import com.chutneytesting.task.spi.TaskExecutionResult;
+import com.chutneytesting.task.spi.injectable.Input;
+import com.chutneytesting.task.spi.injectable.Logger;
+import com.chutneytesting.task.spi.injectable.Target;
+import com.chutneytesting.tools.CloseableResource;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateManyModel;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.bson.BsonDocument;
+import org.bson.Document;
+
+/**
+ * Apply many updates in one bulk write.<br>
+ * Each update is a map with a <b>filter</b> selecting documents and the <b>update</b> to apply on them.
+ */
+public class MongoBulkUpdateTask implements Task {
+
+    private final MongoDatabaseFactory mongoDatabaseFactory = new DefaultMongoDatabaseFactory();
+    private final Target target;
+    private final Logger logger;
+    private final String collection;
+    private final List<Map<String, String>> updates;
+    private final boolean ordered;
+
+    public MongoBulkUpdateTask(Target target,
+                               Logger logger,
+                               @Input("collection") String collection,
+                               @Input("updates") List<Map<String, String>> updates,
+                               // Unordered writes are faster, but do not stop at first error
+                               @Input("ordered") Boolean ordered) {
+        this.target = target;
+        this.logger = logger;
+        this.collection = collection;
+        this.updates = updates;
+        this.ordered = Optional.ofNullable(ordered).orElse(true);
+    }
+
+    @Override
+    public List<String> validateInputs() {
+        return getErrorsFrom(
+            notBlankStringValidation(collection, "collection"),
+            notEmptyListValidation(updates, "updates"),
+            of(updates).validate(u -> u == null || u.stream().allMatch(update -> update.containsKey("filter") && update.containsKey("update")), "Each update needs a filter and an update"),
+            mongoTargetValidation(target)
+        );
+    }
+
+    @Override
+    public TaskExecutionResult execute() {
+        try (CloseableResource<MongoDatabase> database = mongoDatabaseFactory.create(target)) {
+            List<UpdateManyModel<Document>> models = updates.stream()
+                .map(update -> new UpdateManyModel<Document>(BsonDocument.parse(update.get("filter")), BsonDocument.parse(update.get("update"))))
+                .collect(Collectors.toList());
+            BulkWriteResult result = database.getResource()
+                .getCollection(collection)
+                .bulkWrite(models, new BulkWriteOptions().ordered(ordered));
+            if (!result.wasAcknowledged()) {
+                logger.error("Bulk update was not acknowledged");
+                return TaskExecutionResult.ko();
+            }
+            logger.info("Modified in Mongo collection '" + collection + "': " + result.getModifiedCount() + " documents");
+            Map<String, Object> outputs = new HashMap<>();
+            outputs.put("matchedCount", result.getMatchedCount());
+            outputs.put("modifiedCount", result.getModifiedCount());
+            return TaskExecutionResult.ok(outputs);
+        } catch (IllegalArgumentException e) {
+            logger.error(e.getMessage());
+            return TaskExecutionResult.ko();
+        }
+    }
+}
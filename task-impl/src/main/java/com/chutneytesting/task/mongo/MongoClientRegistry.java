@@ -0,0 +1,109 @@
+package com.chutneytesting.task.mongo;
+
+import com.mongodb.MongoClient;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Mongo clients shared between steps and executions, by server and credential.<br>
+ * A client owns monitor threads and a connection pool, so it is only closed when idle for longer than idle timeout,
+ * or when least recently used over max clients.
+ */
+class MongoClientRegistry {
+
+    static final String IDLE_TIMEOUT_MS_PROPERTY = "chutney.tasks.mongo.client.idleTimeoutMs";
+    static final String MAX_CLIENTS_PROPERTY = "chutney.tasks.mongo.client.maxClients";
+
+    private final long idleTimeoutMs;
+    private final int maxClients;
+
+    private final Map<List<Object>, SharedClient> clients = new LinkedHashMap<>(16, 0.75f, true);
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mongo-client-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    MongoClientRegistry() {
+        this(Long.getLong(IDLE_TIMEOUT_MS_PROPERTY, 300000), Integer.getInteger(MAX_CLIENTS_PROPERTY, 20));
+    }
+
+    MongoClientRegistry(long idleTimeoutMs, int maxClients) {
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxClients = maxClients;
+        long evictionPeriodMs = Math.max(1, idleTimeoutMs / 2);
+        evictor.scheduleWithFixedDelay(this::closeIdleClients, evictionPeriodMs, evictionPeriodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Each acquire must be followed by a {@link #release(List)} of the same key.
+     */
+    synchronized MongoClient acquire(List<Object> key, Supplier<MongoClient> clientFactory) {
+        SharedClient shared = clients.get(key);
+        if (shared == null) {
+            shared = new SharedClient(clientFactory.get());
+            clients.put(key, shared);
+        }
+        shared.leases++;
+        shared.lastUsed = System.currentTimeMillis();
+        closeLeastRecentlyUsedClients();
+        return shared.client;
+    }
+
+    synchronized void release(List<Object> key) {
+        SharedClient shared = clients.get(key);
+        if (shared != null) {
+            shared.leases--;
+            shared.lastUsed = System.currentTimeMillis();
+        }
+    }
+
+    synchronized int size() {
+        return clients.size();
+    }
+
+    synchronized void close() {
+        evictor.shutdownNow();
+        clients.values().forEach(shared -> shared.client.close());
+        clients.clear();
+    }
+
+    private void closeLeastRecentlyUsedClients() {
+        Iterator<SharedClient> lessRecentlyUsedFirst = clients.values().iterator();
+        while (clients.size() > maxClients && lessRecentlyUsedFirst.hasNext()) {
+            SharedClient shared = lessRecentlyUsedFirst.next();
+            // Clients in use are kept, even over max clients
+            if (shared.leases == 0) {
+                shared.client.close();
+                lessRecentlyUsedFirst.remove();
+            }
+        }
+    }
+
+    private synchronized void closeIdleClients() {
+        long now = System.currentTimeMillis();
+        clients.values().removeIf(shared -> {
+            if (shared.leases == 0 && now - shared.lastUsed >= idleTimeoutMs) {
+                shared.client.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static class SharedClient {
+        private final MongoClient client;
+        private int leases = 0;
+        private long lastUsed = System.currentTimeMillis();
+
+        private SharedClient(MongoClient client) {
+            this.client = client;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static com.chutneytesting.task.spi.validation.TaskValidatorsUtils.notEmpt
 import static com.chutneytesting.task.spi.validation.TaskValidatorsUtils.targetValidation;
 import static com.chutneytesting.task.spi.validation.Validator.getErrorsFrom;
 import static com.chutneytesting.task.spi.validation.Validator.of;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.task.spi.Task;
@@ -13,9 +15,11 @@ import com.chutneytesting.task.spi.injectable.Logger;
 import com.chutneytesting.task.spi.injectable.Target;
 import com.chutneytesting.task.spi.injectable.TasksConfiguration;
 import com.chutneytesting.task.spi.validation.Validator;
-import com.chutneytesting.task.sql.core.DefaultSqlClientFactory;
+import com.chutneytesting.task.sql.core.Aggregates;
+import com.chutneytesting.task.sql.core.PooledSqlClientFactory;
 import com.chutneytesting.task.sql.core.Records;
 import com.chutneytesting.task.sql.core.SqlClient;
+import com.chutneytesting.task.sql.core.SqlClientFactory;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -28,20 +32,30 @@ public class SqlTask implements Task {
 
     public static final String CONFIGURABLE_NB_LOGGED_ROW = "chutney.tasks.sql.nbLoggedRow";
     private static final Integer DEFAULT_NB_LOGGED_ROW = 30;
+    // Shared by all sql tasks, so datasources stay warm between steps
+    private static final SqlClientFactory SHARED_CLIENT_FACTORY = new PooledSqlClientFactory();
 
+    private final SqlClientFactory clientFactory;
     private final Target target;
     private final Logger logger;
     private final List<String> statements;
     private final Integer nbLoggedRow;
+    private final boolean streaming;
+    private final Map<String, String> matches;
 
-    private final DefaultSqlClientFactory clientFactory = new DefaultSqlClientFactory();
+    public SqlTask(Target target, Logger logger, TasksConfiguration configuration, @Input("statements") List<String> statements, @Input("nbLoggedRow") Integer nbLoggedRow, @Input("streaming") Boolean streaming, @Input("matches") Map<String, String> matches) {
+        this(SHARED_CLIENT_FACTORY, target, logger, configuration, statements, nbLoggedRow, streaming, matches);
+    }
 
-    public SqlTask(Target target, Logger logger, TasksConfiguration configuration, @Input("statements") List<String> statements, @Input("nbLoggedRow") Integer nbLoggedRow) {
+    SqlTask(SqlClientFactory clientFactory, Target target, Logger logger, TasksConfiguration configuration, List<String> statements, Integer nbLoggedRow, Boolean streaming, Map<String, String> matches) {
+        this.clientFactory = clientFactory;
         this.target = target;
         this.logger = logger;
         this.statements = statements;
         this.nbLoggedRow = ofNullable(nbLoggedRow)
             .orElse(configuration.getInteger(CONFIGURABLE_NB_LOGGED_ROW, DEFAULT_NB_LOGGED_ROW));
+        this.streaming = ofNullable(streaming).orElse(false);
+        this.matches = ofNullable(matches).orElse(emptyMap());
     }
 
     @Override
@@ -57,6 +71,9 @@ public class SqlTask implements Task {
 
     @Override
     public TaskExecutionResult execute() {
+        if (streaming) {
+            return aggregate();
+        }
         SqlClient sqlClient = clientFactory.create(target);
         try {
             List<Records> records = new ArrayList<>();
@@ -80,9 +97,38 @@ public class SqlTask implements Task {
             outputs.put("recordResult", records);
             return failure.get() ? TaskExecutionResult.ko(outputs) : TaskExecutionResult.ok(outputs);
         } finally {
-            if (sqlClient != null) {
-                sqlClient.closeDatasource();
-            }
+            clientFactory.release(sqlClient);
+        }
+    }
+
+    /**
+     * Read rows through a cursor and only keep their aggregates, for queries too large to be held in memory.
+     */
+    private TaskExecutionResult aggregate() {
+        SqlClient sqlClient = clientFactory.create(target);
+        try {
+            List<Aggregates> aggregates = new ArrayList<>();
+            AtomicBoolean failure = new AtomicBoolean(false);
+            statements.forEach(statement -> {
+                try {
+                    Aggregates result = sqlClient.aggregate(statement, matches);
+                    aggregates.add(result);
+                    logger.info(result.printable());
+                } catch (SQLException e) {
+                    logger.error(e.getMessage() + " for " + statement + "; Vendor error code: " + e.getErrorCode());
+                    aggregates.add(new Aggregates(0, emptyList(), matches));
+                    failure.set(true);
+                } catch (Exception e) {
+                    logger.error(e.getMessage());
+                    aggregates.add(new Aggregates(0, emptyList(), matches));
+                    failure.set(true);
+                }
+            });
+            Map<String, List<Aggregates>> outputs = new HashMap<>();
+            outputs.put("aggregateResult", aggregates);
+            return failure.get() ? TaskExecutionResult.ko(outputs) : TaskExecutionResult.ok(outputs);
+        } finally {
+            clientFactory.release(sqlClient);
         }
     }
 }
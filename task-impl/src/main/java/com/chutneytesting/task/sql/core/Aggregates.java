@@ -0,0 +1,177 @@
+package com.chutneytesting.task.sql.core;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Optional.ofNullable;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Aggregates of a query rows, computed while reading them so rows are not kept in memory.
+ */
+public class Aggregates {
+
+    public final int affectedRows;
+    public final List<Column> columns;
+
+    private final ColumnAggregate[] aggregates;
+    private final Map<String, Pattern> matchPatterns;
+    private final Map<String, Long> matchCounts = new LinkedHashMap<>();
+    private long count = 0;
+
+    public Aggregates(int affectedRows, List<Column> columns, Map<String, String> matches) {
+        this.affectedRows = affectedRows;
+        this.columns = columns;
+        this.aggregates = new ColumnAggregate[columns.size()];
+        for (int i = 0; i < aggregates.length; i++) {
+            aggregates[i] = new ColumnAggregate();
+        }
+        this.matchPatterns = ofNullable(matches).orElse(emptyMap()).entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> Pattern.compile(e.getValue()), (a, b) -> b, LinkedHashMap::new));
+        this.matchPatterns.keySet().forEach(column -> matchCounts.put(column, 0L));
+    }
+
+    void add(Object[] values) {
+        count++;
+        for (int i = 0; i < aggregates.length; i++) {
+            aggregates[i].add(values[i]);
+        }
+        matchPatterns.forEach((column, pattern) -> {
+            int index = columnIndex(column);
+            if (index >= 0 && values[index] != null && pattern.matcher(values[index].toString()).matches()) {
+                matchCounts.merge(column, 1L, Long::sum);
+            }
+        });
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return count of not null values of the column
+     */
+    public long count(String column) {
+        return aggregate(column).count;
+    }
+
+    /**
+     * @return sum of numeric values of the column
+     */
+    public BigDecimal sum(String column) {
+        return aggregate(column).sum();
+    }
+
+    public Object min(String column) {
+        return aggregate(column).min;
+    }
+
+    public Object max(String column) {
+        return aggregate(column).max;
+    }
+
+    /**
+     * @return count of rows of which column value matches the regular expression given for this column
+     */
+    public long matches(String column) {
+        Long matchCount = matchCounts.get(column);
+        if (matchCount == null) {
+            throw new IllegalArgumentException("No regular expression given for column " + column);
+        }
+        return matchCount;
+    }
+
+    public String printable() {
+        StringBuilder sb = new StringBuilder("Rows: ").append(count).append("\n");
+        columns.forEach(column -> {
+            ColumnAggregate aggregate = aggregates[column.index];
+            sb.append(column.name)
+                .append(": count=").append(aggregate.count)
+                .append(", min=").append(aggregate.min)
+                .append(", max=").append(aggregate.max);
+            if (aggregate.numeric) {
+                sb.append(", sum=").append(aggregate.sum());
+            }
+            if (matchCounts.containsKey(column.name)) {
+                sb.append(", matches=").append(matchCounts.get(column.name));
+            }
+            sb.append("\n");
+        });
+        return sb.toString();
+    }
+
+    private ColumnAggregate aggregate(String column) {
+        int index = columnIndex(column);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown column " + column);
+        }
+        return aggregates[index];
+    }
+
+    private int columnIndex(String name) {
+        for (Column column : columns) {
+            if (column.name.equals(name)) {
+                return column.index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "Aggregates{" +
+            "affectedRows=" + affectedRows +
+            ", count=" + count +
+            ", columns=" + columns +
+            '}';
+    }
+
+    private static class ColumnAggregate {
+        private long count = 0;
+        private boolean numeric = false;
+        private long longSum = 0;
+        private double doubleSum = 0;
+        private BigDecimal decimalSum = BigDecimal.ZERO;
+        private Object min;
+        private Object max;
+
+        private void add(Object value) {
+            if (value == null) {
+                return;
+            }
+            count++;
+            if (value instanceof BigDecimal) {
+                numeric = true;
+                decimalSum = decimalSum.add((BigDecimal) value);
+            } else if (value instanceof Double || value instanceof Float) {
+                numeric = true;
+                doubleSum += ((Number) value).doubleValue();
+            } else if (value instanceof Number) {
+                numeric = true;
+                longSum += ((Number) value).longValue();
+            }
+            if (min == null || isLower(value, min)) {
+                min = value;
+            }
+            if (max == null || isLower(max, value)) {
+                max = value;
+            }
+        }
+
+        private BigDecimal sum() {
+            return decimalSum.add(BigDecimal.valueOf(longSum)).add(BigDecimal.valueOf(doubleSum));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static boolean isLower(Object value, Object other) {
+            // Values of different types, as "null" texts in a numeric column, are not ordered
+            return value instanceof Comparable
+                && value.getClass().equals(other.getClass())
+                && ((Comparable<Object>) value).compareTo(other) < 0;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.chutneytesting.task.sql.core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Values of one result column.<br>
+ * Integral, boolean and floating point values are kept unboxed in a primitive array
+ * as long as all values of the column share the same type, other values are kept as is.
+ */
+class ColumnVector {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Class<?> type;
+    private long[] longs;
+    private double[] doubles;
+    private Object[] objects;
+    private final BitSet nulls = new BitSet();
+    private int size = 0;
+
+    void add(Object value) {
+        if (value == null) {
+            nulls.set(size);
+        } else if (type == null && objects == null) {
+            type = value.getClass();
+            if (isIntegral(type)) {
+                longs = new long[capacity()];
+            } else if (isFloating(type)) {
+                doubles = new double[capacity()];
+            } else {
+                type = null;
+                objects = new Object[capacity()];
+            }
+            addNotNull(value);
+        } else {
+            if (objects == null && !type.equals(value.getClass())) {
+                toObjects();
+            }
+            addNotNull(value);
+        }
+        size++;
+    }
+
+    Object get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+        if (nulls.get(row)) {
+            return null;
+        }
+        if (objects != null) {
+            return objects[row];
+        }
+        if (longs != null) {
+            return box(longs[row]);
+        }
+        return box(doubles[row]);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void addNotNull(Object value) {
+        ensureCapacity();
+        if (objects != null) {
+            objects[size] = value;
+        } else if (longs != null) {
+            longs[size] = value instanceof Boolean ? ((Boolean) value ? 1 : 0) : ((Number) value).longValue();
+        } else {
+            doubles[size] = ((Number) value).doubleValue();
+        }
+    }
+
+    private void ensureCapacity() {
+        if (longs != null && size >= longs.length) {
+            longs = Arrays.copyOf(longs, capacity());
+        } else if (doubles != null && size >= doubles.length) {
+            doubles = Arrays.copyOf(doubles, capacity());
+        } else if (objects != null && size >= objects.length) {
+            objects = Arrays.copyOf(objects, capacity());
+        }
+    }
+
+    private int capacity() {
+        return Math.max(INITIAL_CAPACITY, size * 2);
+    }
+
+    private void toObjects() {
+        Object[] values = new Object[capacity()];
+        for (int row = 0; row < size; row++) {
+            values[row] = get(row);
+        }
+        objects = values;
+        longs = null;
+        doubles = null;
+        type = null;
+    }
+
+    private Object box(long value) {
+        if (type == Integer.class) {
+            return (int) value;
+        } else if (type == Short.class) {
+            return (short) value;
+        } else if (type == Byte.class) {
+            return (byte) value;
+        } else if (type == Boolean.class) {
+            return value != 0;
+        }
+        return value;
+    }
+
+    private Object box(double value) {
+        if (type == Float.class) {
+            return (float) value;
+        }
+        return value;
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class || type == Boolean.class;
+    }
+
+    private static boolean isFloating(Class<?> type) {
+        return type == Double.class || type == Float.class;
+    }
+}
@@ -9,14 +9,14 @@ import java.util.Properties;
 
 public class DefaultSqlClientFactory implements SqlClientFactory {
 
-    private final int DEFAULT_MAX_FETCH_SIZE = 1000;
+    private static final int DEFAULT_MAX_FETCH_SIZE = 1000;
 
     @Override
     public SqlClient create(Target target) {
-        return this.doCreate(target);
+        return new SqlClient(createDataSource(target), maxFetchSize(target));
     }
 
-    private SqlClient doCreate(Target target) {
+    static HikariDataSource createDataSource(Target target) {
         Properties props = new Properties();
         props.put("jdbcUrl", target.url());
         target.security().credential().ifPresent(credential -> props.put("username", credential.username()));
@@ -24,8 +24,10 @@ public class DefaultSqlClientFactory implements SqlClientFactory {
 
         target.properties().forEach(props::put);
         final HikariConfig config = new HikariConfig(props);
-        final HikariDataSource ds = new HikariDataSource(config);
+        return new HikariDataSource(config);
+    }
 
-        return new SqlClient(ds, ofNullable(target.properties().get("maxFetchSize")).map(Integer::getInteger).orElse(DEFAULT_MAX_FETCH_SIZE));
+    static int maxFetchSize(Target target) {
+        return ofNullable(target.properties().get("maxFetchSize")).map(Integer::getInteger).orElse(DEFAULT_MAX_FETCH_SIZE);
     }
 }
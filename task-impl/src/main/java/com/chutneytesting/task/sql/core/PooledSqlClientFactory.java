@@ -0,0 +1,211 @@
+package com.chutneytesting.task.sql.core;
+
+import static com.chutneytesting.task.sql.core.DefaultSqlClientFactory.maxFetchSize;
+
+import com.chutneytesting.task.spi.injectable.SecurityInfo;
+import com.chutneytesting.task.spi.injectable.Target;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keep one warm datasource per target, so successive sql steps do not pay for a new connection pool each time.<br>
+ * Datasources idle for longer than idle timeout are closed, so do least recently used ones over max pools.
+ * A long idle timeout keeps pools warm across executions too.
+ */
+public class PooledSqlClientFactory implements SqlClientFactory, AutoCloseable {
+
+    public static final String POOL_IDLE_TIMEOUT_MS_PROPERTY = "chutney.tasks.sql.pool.idleTimeoutMs";
+    public static final String POOL_MAX_POOLS_PROPERTY = "chutney.tasks.sql.pool.maxPools";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledSqlClientFactory.class);
+
+    private final long idleTimeoutMs;
+    private final int maxPools;
+    private final Function<Target, HikariDataSource> dataSourceFactory;
+
+    private final Map<List<Object>, Pool> pools = new LinkedHashMap<>(16, 0.75f, true);
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sql-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PooledSqlClientFactory() {
+        this(Long.getLong(POOL_IDLE_TIMEOUT_MS_PROPERTY, 60000), Integer.getInteger(POOL_MAX_POOLS_PROPERTY, 20));
+    }
+
+    public PooledSqlClientFactory(long idleTimeoutMs, int maxPools) {
+        this(idleTimeoutMs, maxPools, DefaultSqlClientFactory::createDataSource);
+    }
+
+    PooledSqlClientFactory(long idleTimeoutMs, int maxPools, Function<Target, HikariDataSource> dataSourceFactory) {
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxPools = maxPools;
+        this.dataSourceFactory = dataSourceFactory;
+        long evictionPeriodMs = Math.max(1, idleTimeoutMs / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdlePools, evictionPeriodMs, evictionPeriodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A missing datasource is built outside the lock, so steps on other targets do not wait for its first connections.
+     */
+    @Override
+    public SqlClient create(Target target) {
+        List<Object> key = key(target);
+        Pool pool = lease(key, null);
+        if (pool == null) {
+            HikariDataSource dataSource = dataSourceFactory.apply(target);
+            pool = lease(key, new Pool(target.url(), dataSource));
+            if (pool.dataSource != dataSource) {
+                dataSource.close();
+            }
+        }
+        return new SqlClient(pool.dataSource, maxFetchSize(target));
+    }
+
+    /**
+     * @return the leased pool of given key, the built one if there is none yet, null if none was built either
+     */
+    private synchronized Pool lease(List<Object> key, Pool built) {
+        Pool pool = pools.get(key);
+        if (pool == null) {
+            if (built == null) {
+                return null;
+            }
+            pool = built;
+            pools.put(key, pool);
+        }
+        pool.leases++;
+        pool.lastUsed = System.currentTimeMillis();
+        evictLeastRecentlyUsedPools();
+        return pool;
+    }
+
+    /**
+     * Give back the client without closing its datasource, for next steps on the same target.
+     */
+    @Override
+    public void release(SqlClient client) {
+        giveBack(client);
+        logPoolStats();
+    }
+
+    private synchronized void giveBack(SqlClient client) {
+        pools.values().stream()
+            .filter(pool -> pool.dataSource == client.dataSource())
+            .findFirst()
+            .ifPresentOrElse(pool -> {
+                pool.leases--;
+                pool.lastUsed = System.currentTimeMillis();
+            }, client::closeDatasource);
+    }
+
+    /**
+     * @return connections statistics of each datasource, by target url
+     */
+    public synchronized Map<String, PoolStats> poolStats() {
+        Map<String, PoolStats> stats = new LinkedHashMap<>();
+        pools.values().forEach(pool -> stats.merge(pool.url, PoolStats.of(pool.dataSource.getHikariPoolMXBean()), PoolStats::sum));
+        return stats;
+    }
+
+    private void logPoolStats() {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Sql datasources connection pools: {}", poolStats());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        evictor.shutdownNow();
+        pools.values().forEach(pool -> pool.dataSource.close());
+        pools.clear();
+    }
+
+    private void evictLeastRecentlyUsedPools() {
+        Iterator<Pool> lessRecentlyUsedFirst = pools.values().iterator();
+        while (pools.size() > maxPools && lessRecentlyUsedFirst.hasNext()) {
+            Pool pool = lessRecentlyUsedFirst.next();
+            // Pools in use are kept, even over max pools
+            if (pool.leases == 0) {
+                pool.dataSource.close();
+                lessRecentlyUsedFirst.remove();
+            }
+        }
+    }
+
+    private synchronized void evictIdlePools() {
+        long now = System.currentTimeMillis();
+        pools.values().removeIf(pool -> {
+            if (pool.leases == 0 && now - pool.lastUsed >= idleTimeoutMs) {
+                pool.dataSource.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static List<Object> key(Target target) {
+        SecurityInfo security = target.security();
+        return Arrays.asList(
+            target.url(),
+            security.credential().map(SecurityInfo.Credential::username).orElse(null),
+            security.credential().map(SecurityInfo.Credential::password).orElse(null),
+            new TreeMap<>(target.properties())
+        );
+    }
+
+    private static class Pool {
+        private final String url;
+        private final HikariDataSource dataSource;
+        private int leases = 0;
+        private long lastUsed;
+
+        private Pool(String url, HikariDataSource dataSource) {
+            this.url = url;
+            this.dataSource = dataSource;
+        }
+    }
+
+    public static class PoolStats {
+        public final int active;
+        public final int idle;
+        public final int total;
+        public final int awaiting;
+
+        public PoolStats(int active, int idle, int total, int awaiting) {
+            this.active = active;
+            this.idle = idle;
+            this.total = total;
+            this.awaiting = awaiting;
+        }
+
+        private static PoolStats of(HikariPoolMXBean pool) {
+            if (pool == null) {
+                return new PoolStats(0, 0, 0, 0);
+            }
+            return new PoolStats(pool.getActiveConnections(), pool.getIdleConnections(), pool.getTotalConnections(), pool.getThreadsAwaitingConnection());
+        }
+
+        private static PoolStats sum(PoolStats a, PoolStats b) {
+            return new PoolStats(a.active + b.active, a.idle + b.idle, a.total + b.total, a.awaiting + b.awaiting);
+        }
+
+        @Override
+        public String toString() {
+            return "[active: " + active + "; idle: " + idle + "; total: " + total + "; awaiting: " + awaiting + "]";
+        }
+    }
+}
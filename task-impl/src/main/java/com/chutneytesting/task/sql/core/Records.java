@@ -1,11 +1,14 @@
 package com.chutneytesting.task.sql.core;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 public class Records {
@@ -17,10 +20,40 @@ public class Records {
     public final List<Column> columns;
     public final List<Row> records;
 
+    // Column values when built from a result set, records and rows are then views over them, materialized once on access
+    private final List<ColumnVector> vectors;
+
     public Records(int affectedRows, List<Column> columns, List<Row> records) {
         this.affectedRows = affectedRows;
         this.columns = columns;
         this.records = records;
+        this.vectors = null;
+
+        this.headers = getHeaders();
+        this.rows = getRows();
+    }
+
+    Records(int affectedRows, List<Column> columns, List<ColumnVector> vectors, int count) {
+        this.affectedRows = affectedRows;
+        this.columns = columns;
+        this.vectors = vectors;
+        AtomicReferenceArray<Row> materializedRecords = new AtomicReferenceArray<>(count);
+        this.records = new AbstractList<>() {
+            @Override
+            public Row get(int index) {
+                Row row = materializedRecords.get(index);
+                if (row == null) {
+                    row = row(index);
+                    materializedRecords.set(index, row);
+                }
+                return row;
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
 
         this.headers = getHeaders();
         this.rows = getRows();
@@ -31,7 +64,23 @@ public class Records {
     }
 
     List<List<Object>> getRows() {
-        return this.records.stream().map(r -> r.cells).map(l -> l.stream().map(c -> c.value).collect(toList())).collect(toList());
+        AtomicReferenceArray<List<Object>> materializedRows = new AtomicReferenceArray<>(records.size());
+        return new AbstractList<>() {
+            @Override
+            public List<Object> get(int index) {
+                List<Object> row = materializedRows.get(index);
+                if (row == null) {
+                    row = unmodifiableList(records.get(index).cells.stream().map(c -> c.value).collect(toList()));
+                    materializedRows.set(index, row);
+                }
+                return row;
+            }
+
+            @Override
+            public int size() {
+                return records.size();
+            }
+        };
     }
 
     public int count() {
@@ -76,12 +125,27 @@ public class Records {
         final Object[][] matrix = new Object[records.size()][columns.size()];
         for (int rowIndex = 0; rowIndex < records.size(); rowIndex++) {
             for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
-                matrix[rowIndex][columnIndex] = records.get(rowIndex).get(columnIndex).value;
+                matrix[rowIndex][columnIndex] = value(rowIndex, columnIndex);
             }
         }
         return matrix;
     }
 
+    private Row row(int index) {
+        List<Cell> cells = new ArrayList<>(columns.size());
+        for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+            cells.add(new Cell(columns.get(columnIndex), vectors.get(columnIndex).get(index)));
+        }
+        return new Row(cells);
+    }
+
+    private Object value(int rowIndex, int columnIndex) {
+        if (vectors != null) {
+            return vectors.get(columnIndex).get(rowIndex);
+        }
+        return records.get(rowIndex).get(columnIndex).value;
+    }
+
     public String printable(int limit) {
         StringBuilder sb = new StringBuilder();
         Map<Column, Integer> maxColumnLength = maximumColumnLength(limit);
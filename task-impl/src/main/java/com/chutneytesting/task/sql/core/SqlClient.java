@@ -21,6 +21,7 @@ import java.time.Period;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class SqlClient {
@@ -51,10 +52,43 @@ public class SqlClient {
         return records;
     }
 
+    /**
+     * Execute given query over a forward only cursor, computing aggregates of its rows without retaining them.
+     *
+     * @param matches regular expressions by column name, rows with a matching value are counted
+     */
+    public Aggregates aggregate(String query, Map<String, String> matches) throws SQLException {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            // Some drivers, as PostgreSQL one, only stream results out of auto-commit mode
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (final Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(maxFetchSize);
+                statement.execute(query);
+                Aggregates aggregates = StatementConverter.createAggregates(statement, matches);
+                connection.commit();
+                return aggregates;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } finally {
+            silentClose(connection);
+        }
+    }
+
     public void closeDatasource() {
         this.dataSource.close();
     }
 
+    HikariDataSource dataSource() {
+        return dataSource;
+    }
+
     public Records emptyRecords() {
         return new Records(0, Collections.emptyList(), Collections.emptyList());
     }
@@ -71,21 +105,44 @@ public class SqlClient {
 
     private static class StatementConverter {
 
+        private static final int MAX_ROWS = 100000;
+        private static final int MEMORY_CHECK_PERIOD = 1000;
+
         private static Records createRecords(Statement statement) throws SQLException {
             final int affectedRows = statement.getUpdateCount();
             List<Column> columns = Collections.emptyList();
-            List<Row> rows = Collections.emptyList();
 
             if (isSelectQuery(affectedRows)) {
                 try (final ResultSet rs = statement.getResultSet()) {
                     final ResultSetMetaData md = rs.getMetaData();
 
                     columns = createHeaders(md, md.getColumnCount());
-                    rows = createRows(rs, columns, md.getColumnCount());
+                    return createRecords(rs, columns, md.getColumnCount());
                 }
             }
 
-            return new Records(affectedRows, columns, rows);
+            return new Records(affectedRows, columns, Collections.emptyList());
+        }
+
+        private static Aggregates createAggregates(Statement statement, Map<String, String> matches) throws SQLException {
+            final int affectedRows = statement.getUpdateCount();
+            if (!isSelectQuery(affectedRows)) {
+                return new Aggregates(affectedRows, Collections.emptyList(), matches);
+            }
+
+            try (final ResultSet rs = statement.getResultSet()) {
+                final ResultSetMetaData md = rs.getMetaData();
+                final Aggregates aggregates = new Aggregates(affectedRows, createHeaders(md, md.getColumnCount()), matches);
+                final Object[] values = new Object[md.getColumnCount()];
+                while (rs.next()) {
+                    for (int i = 1; i <= values.length; i++) {
+                        // Keep nulls out of aggregates
+                        values[i - 1] = rs.getObject(i) == null ? null : boxed(rs, i);
+                    }
+                    aggregates.add(values);
+                }
+                return aggregates;
+            }
         }
 
         private static boolean isSelectQuery(int affectedRows) {
@@ -101,26 +158,27 @@ public class SqlClient {
             return headers;
         }
 
-        private static List<Row> createRows(ResultSet rs, List<Column> columns, int columnCount) throws SQLException {
-            final List<Row> rows = new ArrayList<>();
+        private static Records createRecords(ResultSet rs, List<Column> columns, int columnCount) throws SQLException {
+            final List<ColumnVector> vectors = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                vectors.add(new ColumnVector());
+            }
             int j = 0;
             while (rs.next()) {
-                if (j++ > 100000) {
+                if (j > MAX_ROWS) {
                     throw new NonOptimizedQueryException();
                 }
 
-                if (!hasEnoughAvailableMemory()) {
-                    throw new NotEnoughMemoryException(usedMemory(), maxMemory(), "Query fetched " + rows.size() + " rows");
+                if (j % MEMORY_CHECK_PERIOD == 0 && !hasEnoughAvailableMemory()) {
+                    throw new NotEnoughMemoryException(usedMemory(), maxMemory(), "Query fetched " + j + " rows");
                 }
 
-                final List<Cell> cells = new ArrayList<>(columnCount);
-                int columnIndex = 0;
                 for (int i = 1; i <= columnCount; i++) {
-                    cells.add(new Cell(columns.get(columnIndex++), boxed(rs, i)));
+                    vectors.get(i - 1).add(boxed(rs, i));
                 }
-                rows.add(new Row(cells));
+                j++;
             }
-            return rows;
+            return new Records(-1, columns, vectors, j);
         }
 
         private static Object boxed(ResultSet rs, int i) throws SQLException {
@@ -7,4 +7,11 @@ public interface SqlClientFactory {
 
     SqlClient create(Target target);
 
+    /**
+     * Called once a task is done with a client created by this factory.
+     */
+    default void release(SqlClient client) {
+        client.closeDatasource();
+    }
+
 }
@@ -3,6 +3,7 @@ package com.chutneytesting.task.ssh.sshj;
 
 import com.chutneytesting.task.spi.injectable.Target;
 import java.net.URI;
+import java.util.Objects;
 
 public class Connection {
 
@@ -37,6 +38,24 @@ public class Connection {
         return new Connection(host, port, username, password, privateKey, passphrase);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Connection that = (Connection) o;
+        return serverPort == that.serverPort &&
+            Objects.equals(serverHost, that.serverHost) &&
+            Objects.equals(username, that.username) &&
+            Objects.equals(password, that.password) &&
+            Objects.equals(privateKey, that.privateKey) &&
+            Objects.equals(passphrase, that.passphrase);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serverHost, serverPort, username, password, privateKey, passphrase);
+    }
+
     private static void guardClause(Target target) {
         if (target.getUrlAsURI() == null) {
             throw new IllegalArgumentException("Target URL is undefined");
@@ -0,0 +1,176 @@
+package com.chutneytesting.task.ssh.sshj;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.schmizz.sshj.SSHClient;
+
+/**
+ * Connected and authenticated ssh clients, by {@link Connection}.<br>
+ * Commands open their own channel on a shared client, so only the first one pays for key exchange and authentication.
+ * Clients are kept alive while in the pool, and disconnected when idle for longer than idle timeout or least recently used over max clients.
+ * A client dropped from the pool while leased, i.e. replaced or invalidated, is only disconnected once all its leases are released.
+ */
+class SshClientPool {
+
+    static final String IDLE_TIMEOUT_MS_PROPERTY = "chutney.tasks.ssh.pool.idleTimeoutMs";
+    static final String MAX_CLIENTS_PROPERTY = "chutney.tasks.ssh.pool.maxClients";
+    static final String KEEP_ALIVE_SECONDS_PROPERTY = "chutney.tasks.ssh.pool.keepAliveSeconds";
+
+    private final long idleTimeoutMs;
+    private final int maxClients;
+    private final int keepAliveSeconds;
+
+    private final Map<Connection, PooledClient> clients = new LinkedHashMap<>(16, 0.75f, true);
+    // Clients with leases, dropped ones included
+    private final Map<SSHClient, PooledClient> leased = new IdentityHashMap<>();
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ssh-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    SshClientPool() {
+        this(Long.getLong(IDLE_TIMEOUT_MS_PROPERTY, 60000), Integer.getInteger(MAX_CLIENTS_PROPERTY, 50), Integer.getInteger(KEEP_ALIVE_SECONDS_PROPERTY, 30));
+    }
+
+    SshClientPool(long idleTimeoutMs, int maxClients, int keepAliveSeconds) {
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxClients = maxClients;
+        this.keepAliveSeconds = keepAliveSeconds;
+        long evictionPeriodMs = Math.max(1, idleTimeoutMs / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdleClients, evictionPeriodMs, evictionPeriodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param authenticatedClientFactory connects and authenticates a new client when none can be reused
+     */
+    SSHClient acquire(Connection connection, ClientFactory authenticatedClientFactory) throws IOException {
+        synchronized (this) {
+            PooledClient pooled = clients.get(connection);
+            if (pooled != null && pooled.client.isConnected() && pooled.client.isAuthenticated()) {
+                pooled.leases++;
+                pooled.lastUsed = System.currentTimeMillis();
+                leased.put(pooled.client, pooled);
+                return pooled.client;
+            }
+            if (pooled != null) {
+                clients.remove(connection);
+                drop(pooled);
+            }
+        }
+
+        // Connect out of the lock, handshakes on a server must not hold others
+        SSHClient client = authenticatedClientFactory.create();
+        client.getConnection().getKeepAlive().setKeepAliveInterval(keepAliveSeconds);
+        synchronized (this) {
+            PooledClient pooled = new PooledClient(client);
+            leased.put(client, pooled);
+            PooledClient previous = clients.put(connection, pooled);
+            if (previous != null) {
+                drop(previous);
+            }
+            evictLeastRecentlyUsedClients();
+            return client;
+        }
+    }
+
+    synchronized void release(Connection connection, SSHClient client) {
+        PooledClient pooled = leased.get(client);
+        if (pooled == null) {
+            return;
+        }
+        pooled.leases--;
+        pooled.lastUsed = System.currentTimeMillis();
+        if (pooled.leases == 0) {
+            leased.remove(client);
+            if (pooled.dropped) {
+                disconnect(client);
+            }
+        }
+    }
+
+    /**
+     * Drop a client whose transport failed, so next acquire connects again, and release the caller lease.<br>
+     * The client is disconnected once other steps using it released it too.
+     */
+    synchronized void invalidate(Connection connection, SSHClient client) {
+        PooledClient pooled = leased.get(client);
+        if (pooled == null) {
+            return;
+        }
+        if (clients.get(connection) == pooled) {
+            clients.remove(connection);
+        }
+        pooled.dropped = true;
+        release(connection, client);
+    }
+
+    synchronized int size() {
+        return clients.size();
+    }
+
+    synchronized void close() {
+        evictor.shutdownNow();
+        clients.values().forEach(pooled -> disconnect(pooled.client));
+        clients.clear();
+    }
+
+    private void drop(PooledClient pooled) {
+        pooled.dropped = true;
+        if (pooled.leases == 0) {
+            disconnect(pooled.client);
+        }
+    }
+
+    private void evictLeastRecentlyUsedClients() {
+        Iterator<PooledClient> lessRecentlyUsedFirst = clients.values().iterator();
+        while (clients.size() > maxClients && lessRecentlyUsedFirst.hasNext()) {
+            PooledClient pooled = lessRecentlyUsedFirst.next();
+            // Clients in use are kept, even over max clients
+            if (pooled.leases == 0) {
+                disconnect(pooled.client);
+                lessRecentlyUsedFirst.remove();
+            }
+        }
+    }
+
+    private synchronized void evictIdleClients() {
+        long now = System.currentTimeMillis();
+        clients.values().removeIf(pooled -> {
+            if (pooled.leases == 0 && (now - pooled.lastUsed >= idleTimeoutMs || !pooled.client.isConnected())) {
+                disconnect(pooled.client);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static void disconnect(SSHClient client) {
+        try {
+            client.disconnect();
+        } catch (IOException e) {
+            // Already disconnected
+        }
+    }
+
+    interface ClientFactory {
+        SSHClient create() throws IOException;
+    }
+
+    private static class PooledClient {
+        private final SSHClient client;
+        private int leases = 1;
+        private long lastUsed = System.currentTimeMillis();
+        private boolean dropped = false;
+
+        private PooledClient(SSHClient client) {
+            this.client = client;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import net.schmizz.sshj.SSHClient;
 import net.schmizz.sshj.common.IOUtils;
 import net.schmizz.sshj.common.LoggerFactory;
 import net.schmizz.sshj.common.StreamCopier;
+import net.schmizz.sshj.connection.ConnectionException;
 import net.schmizz.sshj.connection.channel.direct.Session;
 import net.schmizz.sshj.transport.TransportException;
 import net.schmizz.sshj.userauth.UserAuthException;
@@ -19,6 +20,8 @@ import net.schmizz.sshj.userauth.keyprovider.KeyProvider;
 
 public class SshJClient implements SshClient {
 
+    private static final SshClientPool CLIENTS = new SshClientPool();
+
     private final Connection connection;
     private final Logger logger;
     private final boolean shell;
@@ -36,13 +39,63 @@ public class SshJClient implements SshClient {
 
     @Override
     public CommandResult execute(Command command) throws IOException {
+        logAuthentication();
+        SSHClient sshClient = CLIENTS.acquire(connection, this::authenticatedClient);
+        try {
+            Session session;
+            try {
+                session = sshClient.startSession();
+            } catch (ConnectionException | TransportException e) {
+                if (!isBroken(sshClient, e)) {
+                    // Channel refused on a sound transport, as when server max sessions is reached by other steps
+                    return executeOnDedicatedClient(command);
+                }
+                // Pooled transport was closed by server meanwhile, connect again once
+                SSHClient broken = sshClient;
+                sshClient = null;
+                CLIENTS.invalidate(connection, broken);
+                sshClient = CLIENTS.acquire(connection, this::authenticatedClient);
+                session = sshClient.startSession();
+            }
+            return executeCommand(session, command);
+        } catch (ConnectionException | TransportException e) {
+            if (sshClient != null && isBroken(sshClient, e)) {
+                CLIENTS.invalidate(connection, sshClient);
+                sshClient = null;
+            }
+            throw e;
+        } finally {
+            if (sshClient != null) {
+                CLIENTS.release(connection, sshClient);
+            }
+        }
+    }
+
+    /**
+     * Channel failures, such as {@link net.schmizz.sshj.connection.channel.OpenFailException}, leave the transport usable.
+     */
+    private static boolean isBroken(SSHClient sshClient, IOException e) {
+        return e instanceof TransportException || !sshClient.isConnected();
+    }
+
+    private CommandResult executeOnDedicatedClient(Command command) throws IOException {
+        SSHClient sshClient = authenticatedClient();
+        try {
+            return executeCommand(sshClient.startSession(), command);
+        } finally {
+            sshClient.disconnect();
+        }
+    }
+
+    private SSHClient authenticatedClient() throws IOException {
         SSHClient sshClient = new SSHClient();
         connect(sshClient, connection);
         try {
             authenticate(sshClient, connection);
-            return executeCommand(sshClient, command);
-        } finally {
+            return sshClient;
+        } catch (IOException | RuntimeException e) {
             sshClient.disconnect();
+            throw e;
         }
     }
 
@@ -51,12 +104,18 @@ public class SshJClient implements SshClient {
         client.connect(connection.serverHost, connection.serverPort);
     }
 
-    private void authenticate(SSHClient client, Connection connection) throws IOException {
+    private void logAuthentication() {
         if (isEmpty(connection.privateKey)) {
             logger.info("Authentication via username/password as " + connection.username);
-            loginWithPassword(client, connection.username, connection.password);
         } else {
             logger.info("Authentication via private key as " + connection.username);
+        }
+    }
+
+    private void authenticate(SSHClient client, Connection connection) throws IOException {
+        if (isEmpty(connection.privateKey)) {
+            loginWithPassword(client, connection.username, connection.password);
+        } else {
             loginWithPrivateKey(client, connection.username, connection.privateKey, connection.passphrase);
         }
     }
@@ -70,8 +129,8 @@ public class SshJClient implements SshClient {
         client.authPublickey(username, keyProvider);
     }
 
-    private CommandResult executeCommand(SSHClient sshClient, Command command) throws IOException {
-        try (Session session = sshClient.startSession()) {
+    private CommandResult executeCommand(Session session, Command command) throws IOException {
+        try (session) {
             if (shell) {
                 return shellCommand(command, session);
             } else {
@@ -81,17 +140,16 @@ public class SshJClient implements SshClient {
     }
 
     private CommandResult shellCommand(Command command, Session session) throws IOException {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        ShellOutput output = new ShellOutput();
 
         session.allocateDefaultPTY();
         Session.Shell shell = session.startShell();
 
-        new StreamCopier(shell.getInputStream(), out, LoggerFactory.DEFAULT)
+        new StreamCopier(shell.getInputStream(), output.out, LoggerFactory.DEFAULT)
             .bufSize(shell.getLocalMaxPacketSize())
             .spawn("out");
 
-        new StreamCopier(shell.getErrorStream(), err, LoggerFactory.DEFAULT)
+        new StreamCopier(shell.getErrorStream(), output.err, LoggerFactory.DEFAULT)
             .bufSize(shell.getLocalMaxPacketSize())
             .spawn("err");
 
@@ -99,19 +157,17 @@ public class SshJClient implements SshClient {
         shellOut.write(command.command.getBytes());
         shellOut.flush();
 
-        while (shell.getInputStream().available() > 0 && shell.getErrorStream().available() > 0) {
-            try {
-                Thread.sleep(100L);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+        try {
+            output.awaitQuiet(shell, command.timeout.toMilliseconds());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
 
         return new CommandResult(
             command,
-            err.size() > 0 ? -1 : 0,
-            out.toString(),
-            err.toString());
+            output.err.size() > 0 ? -1 : 0,
+            output.out.toString(),
+            output.err.toString());
     }
 
     private CommandResult execCommand(Command command, Session session) throws IOException {
@@ -131,4 +187,49 @@ public class SshJClient implements SshClient {
         return IOUtils.readFully(inputStream).toString().replaceAll("\r", "");
     }
 
+    /**
+     * Shell output, written by stream copiers.<br>
+     * A shell never exits by itself, so command is considered done when output stopped for a while.
+     */
+    private static class ShellOutput {
+        private static final long QUIET_PERIOD_MS = 100;
+
+        private final ByteArrayOutputStream out = new NotifyingOutputStream();
+        private final ByteArrayOutputStream err = new NotifyingOutputStream();
+        private boolean written = false;
+        private long lastWrite = 0;
+
+        private synchronized void written() {
+            written = true;
+            lastWrite = System.currentTimeMillis();
+            notifyAll();
+        }
+
+        /**
+         * Wait until shell is closed, output is quiet after something was written, or timeout.
+         */
+        private synchronized void awaitQuiet(Session.Shell shell, long timeoutMs) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            long now = System.currentTimeMillis();
+            while (shell.isOpen() && now < deadline && !(written && now - lastWrite >= QUIET_PERIOD_MS)) {
+                // Woken up by writes, timed out to check quiet period and shell state
+                wait(Math.max(1, Math.min(deadline - now, QUIET_PERIOD_MS)));
+                now = System.currentTimeMillis();
+            }
+        }
+
+        private class NotifyingOutputStream extends ByteArrayOutputStream {
+            @Override
+            public synchronized void write(int b) {
+                super.write(b);
+                written();
+            }
+
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                super.write(b, off, len);
+                written();
+            }
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package com.chutneytesting.task.groovy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import groovy.lang.Binding;
+import groovy.lang.Script;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class GroovyScriptCacheTest {
+
+    @Test
+    public void should_compile_a_script_once_and_bind_each_instance_separately() {
+        GroovyScriptCache sut = new GroovyScriptCache(10);
+
+        Script first = sut.script("name + '!'", new Binding(Map.of("name", "bob")));
+        Script second = sut.script("name + '!'", new Binding(Map.of("name", "alice")));
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getClass()).isSameAs(second.getClass());
+        assertThat(first.run()).isEqualTo("bob!");
+        assertThat(second.run()).isEqualTo("alice!");
+        GroovyScriptCache.Stats stats = sut.stats();
+        assertThat(stats.compilations).isEqualTo(1);
+        assertThat(stats.hits).isEqualTo(1);
+        assertThat(stats.compilationNanos).isPositive();
+    }
+
+    @Test
+    public void should_evict_least_recently_used_scripts_over_max_scripts() {
+        GroovyScriptCache sut = new GroovyScriptCache(2);
+
+        Class<?> first = sut.script("1", new Binding()).getClass();
+        sut.script("2", new Binding());
+        sut.script("1", new Binding());
+        sut.script("3", new Binding());
+
+        assertThat(sut.stats().scripts).isEqualTo(2);
+        assertThat(sut.stats().evictions).isEqualTo(1);
+        assertThat(sut.script("1", new Binding()).getClass()).isSameAs(first);
+        assertThat(sut.stats().compilations).isEqualTo(3);
+    }
+}
@@ -1,9 +1,16 @@
 package com.chutneytesting.task.http.domain;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.chutneytesting.task.TestSecurityInfo;
+import com.chutneytesting.task.TestTarget;
 import com.chutneytesting.task.spi.injectable.SecurityInfo;
+import com.chutneytesting.task.spi.injectable.Target;
+import com.github.tomakehurst.wiremock.WireMockServer;
 import java.lang.reflect.Field;
 import java.security.PrivateKey;
 import java.util.Collections;
@@ -12,8 +19,10 @@ import java.util.Map;
 import java.util.Set;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.X509KeyManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 
 class HttpClientFactoryTest {
 
@@ -52,6 +61,31 @@ class HttpClientFactoryTest {
         assertThat(actual).isNotNull();
     }
 
+    @Test
+    void should_reuse_pooled_connections_of_same_target() {
+        // Given
+        WireMockServer server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        try {
+            server.stubFor(get(urlEqualTo("/resource")).willReturn(aResponse().withStatus(200).withBody("body")));
+            Target target = TestTarget.TestTargetBuilder.builder()
+                .withUrl("http://localhost:" + server.port())
+                .withSecurity(TestSecurityInfo.builder().build())
+                .build();
+
+            // When
+            new HttpClientFactory().create(target, String.class, 1000).get("/resource", new HttpHeaders());
+            new HttpClientFactory().create(target, String.class, 1000).get("/resource", new HttpHeaders());
+
+            // Then
+            PoolStats stats = HttpClientFactory.poolStats().get(target.url());
+            assertThat(stats.getAvailable()).isEqualTo(1);
+            assertThat(stats.getLeased()).isZero();
+        } finally {
+            server.stop();
+        }
+    }
+
     private PrivateKey retrieveLoadedPrivateKey(SSLContextBuilder context, String pkName) throws Exception {
         Field privateField = SSLContextBuilder.class.getDeclaredField("keyManagers");
         privateField.setAccessible(true);
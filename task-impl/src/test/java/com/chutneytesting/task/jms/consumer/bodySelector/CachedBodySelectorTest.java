@@ -0,0 +1,50 @@
+package com.chutneytesting.task.jms.consumer.bodySelector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import org.junit.jupiter.api.Test;
+
+public class CachedBodySelectorTest {
+
+    @Test
+    public void should_evaluate_selector_once_by_message_id() throws JMSException {
+        AtomicInteger evaluations = new AtomicInteger();
+        BodySelector sut = new CachedBodySelector("XPATH 'boolean(/first)'", message -> evaluations.incrementAndGet() == 1);
+        Message message = message("ID:first");
+
+        assertThat(sut.match(message)).isTrue();
+        assertThat(sut.match(message)).isTrue();
+        assertThat(evaluations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_evaluate_selector_each_time_on_messages_without_id() throws JMSException {
+        AtomicInteger evaluations = new AtomicInteger();
+        BodySelector sut = new CachedBodySelector("XPATH 'boolean(/second)'", message -> evaluations.incrementAndGet() > 0);
+        Message message = message(null);
+
+        sut.match(message);
+        sut.match(message);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_share_results_between_selectors() throws JMSException {
+        Message message = message("ID:third");
+
+        assertThat(new CachedBodySelector("XPATH 'boolean(/a)'", m -> true).match(message)).isTrue();
+        assertThat(new CachedBodySelector("XPATH 'boolean(/b)'", m -> false).match(message)).isFalse();
+    }
+
+    private static Message message(String id) throws JMSException {
+        Message message = mock(Message.class);
+        when(message.getJMSMessageID()).thenReturn(id);
+        return message;
+    }
+}
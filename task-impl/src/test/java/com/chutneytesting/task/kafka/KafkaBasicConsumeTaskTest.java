@@ -28,6 +28,7 @@ import com.chutneytesting.task.spi.injectable.Target;
 import com.google.common.collect.ImmutableList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -35,15 +36,13 @@ import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.kafka.core.ConsumerFactory;
-import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
-import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.listener.MessageListener;
 import org.springframework.test.util.ReflectionTestUtils;
 import wiremock.com.google.common.collect.ImmutableMap;
 
@@ -63,10 +62,17 @@ public class KafkaBasicConsumeTaskTest {
         .build();
 
     private TestLogger logger;
+    private KafkaConsumerRegistry consumerRegistry;
 
     @BeforeEach
     public void before() {
         logger = new TestLogger();
+        consumerRegistry = new KafkaConsumerRegistry();
+    }
+
+    @AfterEach
+    public void after() {
+        consumerRegistry.close();
     }
 
     @Test
@@ -294,7 +300,7 @@ public class KafkaBasicConsumeTaskTest {
     public void should_respect_given_timeout() {
         // Given
         Task task = givenKafkaConsumeTask(null, null, "3 sec");
-        overrideTaskMessageListenerContainer(task);
+        overrideTaskConsumerFactory(task);
 
         // When
         TaskExecutionResult taskExecutionResult = task.execute();
@@ -327,7 +333,7 @@ public class KafkaBasicConsumeTaskTest {
         assertThat(payload.get("id")).isEqualTo("1111");
     }
 
-    private MessageListener<String, String> overrideTaskMessageListenerContainer(Task task) {
+    private ConsumerFactory<String, String> overrideTaskConsumerFactory(Task task) {
         ConsumerFactory<String, String> cf = mock(ConsumerFactory.class, RETURNS_DEEP_STUBS);
         Consumer<String, String> consumer = mock(Consumer.class);
         given(cf.createConsumer(any(), any(), any(), any())).willReturn(consumer);
@@ -336,13 +342,8 @@ public class KafkaBasicConsumeTaskTest {
         KafkaConsumerFactoryFactory kafkaConsumerFactoryFactory = mock(KafkaConsumerFactoryFactory.class);
         when(kafkaConsumerFactoryFactory.create(any(), any(), any())).thenReturn(cf);
         ReflectionTestUtils.setField(task, "kafkaConsumerFactoryFactory", kafkaConsumerFactoryFactory);
-
-        ContainerProperties containerProperties = new ContainerProperties(TOPIC);
-        containerProperties.setGroupId(GROUP);
-        containerProperties.setMessageListener(ReflectionTestUtils.invokeMethod(task, "createMessageListener"));
-        ConcurrentMessageListenerContainer<String, String> messageListenerContainer = new ConcurrentMessageListenerContainer<>(cf, containerProperties);
-
-        return (MessageListener<String, String>) messageListenerContainer.getContainerProperties().getMessageListener();
+        ReflectionTestUtils.setField(task, "consumerRegistry", consumerRegistry);
+        return cf;
     }
 
     private ConsumerRecord<String, String> buildRecord(long offset, String key, String payload) {
@@ -362,9 +363,15 @@ public class KafkaBasicConsumeTaskTest {
         return new KafkaBasicConsumeTask(TARGET_STUB, TOPIC, GROUP, emptyMap(), expectedMessageNb, selector, headerSelector, mimeType, timeout, logger);
     }
 
+    /**
+     * Messages are received by the registry consumer of the task before it subscribes, and buffered until then.
+     */
     private void givenTaskReceiveMessages(Task task, ConsumerRecord<String, String>... messages) {
-        MessageListener<String, String> listener = overrideTaskMessageListenerContainer(task);
-        stream(messages).forEach(listener::onMessage);
+        ConsumerFactory<String, String> cf = overrideTaskConsumerFactory(task);
+        Predicate<ConsumerRecord<String, String>> noSubscriber = record -> false;
+        KafkaConsumerRegistry.BufferedConsumer consumer = consumerRegistry.subscribe(((KafkaBasicConsumeTask) task).consumerKey(), TOPIC, () -> cf, noSubscriber);
+        stream(messages).forEach(consumer::onMessage);
+        consumer.unsubscribe(noSubscriber);
     }
 
     private List<Map<String, Object>> assertTaskOutputsSize(TaskExecutionResult taskExecutionResult, int size) {
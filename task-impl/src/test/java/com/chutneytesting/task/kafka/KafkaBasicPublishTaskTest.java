@@ -58,6 +58,7 @@ public class KafkaBasicPublishTaskTest {
         assertThat(taskExecutionResult.status).isEqualTo(Success);
         assertThat(logger.errors).isEmpty();
         verify(listenableFutureMock).get(anyLong(), any(TimeUnit.class));
+        verify(producerFactoryMock).release(kafkaTemplateMock);
     }
 
     @Test
@@ -0,0 +1,110 @@
+package com.chutneytesting.task.kafka;
+
+import static com.chutneytesting.task.tools.WaitUtils.awaitDuring;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+
+@SuppressWarnings("unchecked")
+public class KafkaConsumerRegistryTest {
+
+    private static final String TOPIC = "topic";
+    private static final List<Object> KEY = List.of("tcp://127.0.0.1:5555", "group", TOPIC);
+
+    private KafkaConsumerRegistry sut;
+
+    @AfterEach
+    public void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    public void should_offer_records_received_between_subscriptions_to_next_subscriber() {
+        sut = new KafkaConsumerRegistry(60000, 10, 2);
+        List<String> firstStep = new ArrayList<>();
+        Predicate<ConsumerRecord<String, String>> firstSubscriber = take(firstStep, "a");
+        KafkaConsumerRegistry.BufferedConsumer consumer = sut.subscribe(KEY, TOPIC, consumerFactory(), firstSubscriber);
+
+        consumer.onMessage(record("a"));
+        consumer.unsubscribe(firstSubscriber);
+        consumer.onMessage(record("b"));
+        consumer.onMessage(record("c"));
+        consumer.onMessage(record("d"));
+
+        List<String> secondStep = new ArrayList<>();
+        assertThat(sut.subscribe(KEY, TOPIC, consumerFactory(), take(secondStep, "c"))).isSameAs(consumer);
+        assertThat(firstStep).containsExactly("a");
+        assertThat(secondStep).containsExactly("c");
+        assertThat(consumer.buffered()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_start_one_consumer_by_key() {
+        sut = new KafkaConsumerRegistry(60000, 10, 10);
+        AtomicInteger created = new AtomicInteger();
+        Supplier<ConsumerFactory<String, String>> consumerFactory = () -> {
+            created.incrementAndGet();
+            return consumerFactory().get();
+        };
+
+        KafkaConsumerRegistry.BufferedConsumer consumer = sut.subscribe(KEY, TOPIC, consumerFactory, record -> false);
+        sut.subscribe(KEY, TOPIC, consumerFactory, record -> false);
+        sut.subscribe(List.of("other"), TOPIC, consumerFactory, record -> false);
+
+        assertThat(created.get()).isEqualTo(2);
+        assertThat(consumer.isRunning()).isTrue();
+    }
+
+    @Test
+    public void should_stop_consumers_without_subscriber_for_longer_than_idle_timeout() {
+        sut = new KafkaConsumerRegistry(100, 10, 10);
+        Predicate<ConsumerRecord<String, String>> subscriber = record -> false;
+
+        KafkaConsumerRegistry.BufferedConsumer consumer = sut.subscribe(KEY, TOPIC, consumerFactory(), subscriber);
+        consumer.unsubscribe(subscriber);
+        awaitDuring(500, MILLISECONDS);
+
+        assertThat(consumer.isRunning()).isFalse();
+    }
+
+    private static Predicate<ConsumerRecord<String, String>> take(List<String> taken, String value) {
+        return record -> {
+            if (record.value().equals(value)) {
+                taken.add(record.value());
+                return true;
+            }
+            return false;
+        };
+    }
+
+    private static ConsumerRecord<String, String> record(String value) {
+        return new ConsumerRecord<>(TOPIC, 0, 0L, "key", value);
+    }
+
+    private static Supplier<ConsumerFactory<String, String>> consumerFactory() {
+        return () -> {
+            ConsumerFactory<String, String> cf = mock(ConsumerFactory.class, RETURNS_DEEP_STUBS);
+            Consumer<String, String> consumer = mock(Consumer.class);
+            given(cf.createConsumer(any(), any(), any(), any())).willReturn(consumer);
+            when(cf.getConfigurationProperties().get(eq(ConsumerConfig.GROUP_ID_CONFIG))).thenReturn("group");
+            return cf;
+        };
+    }
+}
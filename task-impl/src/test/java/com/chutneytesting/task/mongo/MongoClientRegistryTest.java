@@ -0,0 +1,74 @@
+package com.chutneytesting.task.mongo;
+
+import static com.chutneytesting.task.tools.WaitUtils.awaitDuring;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.mongodb.MongoClient;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class MongoClientRegistryTest {
+
+    private final List<Object> key = singletonList("host1:27017");
+
+    @Test
+    public void should_share_client_between_acquires_of_same_key() {
+        MongoClientRegistry sut = new MongoClientRegistry(60000, 10);
+        AtomicInteger created = new AtomicInteger();
+
+        MongoClient first = sut.acquire(key, () -> newClient(created));
+        sut.release(key);
+        MongoClient second = sut.acquire(key, () -> newClient(created));
+        sut.release(key);
+
+        assertThat(second).isSameAs(first);
+        assertThat(created.get()).isEqualTo(1);
+        sut.close();
+    }
+
+    @Test
+    public void should_close_idle_clients() {
+        MongoClientRegistry sut = new MongoClientRegistry(50, 10);
+        MongoClient client = mock(MongoClient.class);
+
+        sut.acquire(key, () -> client);
+        sut.release(key);
+        awaitDuring(200, MILLISECONDS);
+
+        assertThat(sut.size()).isZero();
+        verify(client).close();
+        sut.close();
+    }
+
+    @Test
+    public void should_close_least_recently_used_idle_clients_over_max_clients() {
+        MongoClientRegistry sut = new MongoClientRegistry(60000, 1);
+        MongoClient idle = mock(MongoClient.class);
+        MongoClient used = mock(MongoClient.class);
+        List<Object> otherKey = singletonList("host2:27017");
+
+        sut.acquire(otherKey, () -> idle);
+        sut.release(otherKey);
+        sut.acquire(key, () -> used);
+
+        assertThat(sut.size()).isEqualTo(1);
+        verify(idle).close();
+
+        sut.acquire(otherKey, () -> mock(MongoClient.class));
+
+        assertThat(sut.size()).isEqualTo(2);
+        verify(used, never()).close();
+        sut.close();
+    }
+
+    private static MongoClient newClient(AtomicInteger created) {
+        created.incrementAndGet();
+        return mock(MongoClient.class);
+    }
+}
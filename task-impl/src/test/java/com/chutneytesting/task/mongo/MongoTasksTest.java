@@ -3,10 +3,12 @@ package com.chutneytesting.task.mongo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.result.DeleteResult;
@@ -17,7 +19,9 @@ import com.chutneytesting.task.spi.TaskExecutionResult.Status;
 import com.chutneytesting.task.spi.injectable.Target;
 import com.chutneytesting.task.TestLogger;
 import com.chutneytesting.task.TestTarget;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import org.bson.BsonDocument;
 import com.chutneytesting.tools.CloseableResource;
@@ -63,6 +67,49 @@ public class MongoTasksTest {
         assertThat(logger.info).containsOnly("Modified in Mongo collection 'lolilol': 1 documents");
     }
 
+    @Test
+    public void bulkInsertDocuments() {
+        BulkWriteResult bulkWriteResult = mock(BulkWriteResult.class);
+        when(bulkWriteResult.wasAcknowledged()).thenReturn(true);
+        when(bulkWriteResult.getInsertedCount()).thenReturn(2);
+        when(database.getCollection(any()).bulkWrite(anyList(), any())).thenReturn(bulkWriteResult);
+
+        Task bulkInsertTask = mockDatabase(new MongoBulkInsertTask(mongoTarget, logger, "lolilol", Arrays.asList("{name: 'test1'}", "{name: 'test2'}"), null), database);
+        TaskExecutionResult bulkInsertTaskResult = bulkInsertTask.execute();
+
+        assertThat(bulkInsertTaskResult.status).as("Logger errors: " + logger.errors).isEqualTo(Status.Success);
+        assertThat(bulkInsertTaskResult.outputs.get("insertedCount")).isEqualTo(2);
+        assertThat(logger.info).containsOnly("Inserted in Mongo collection 'lolilol': 2 documents");
+    }
+
+    @Test
+    public void bulkUpdateDocuments() {
+        BulkWriteResult bulkWriteResult = mock(BulkWriteResult.class);
+        when(bulkWriteResult.wasAcknowledged()).thenReturn(true);
+        when(bulkWriteResult.getMatchedCount()).thenReturn(3);
+        when(bulkWriteResult.getModifiedCount()).thenReturn(2);
+        when(database.getCollection(any()).bulkWrite(anyList(), any())).thenReturn(bulkWriteResult);
+
+        List<Map<String, String>> updates = Arrays.asList(
+            Map.of("filter", "{name: 'test1'}", "update", "{ $set: {qty: 6}}"),
+            Map.of("filter", "{name: 'test2'}", "update", "{ $set: {qty: 7}}")
+        );
+        Task bulkUpdateTask = mockDatabase(new MongoBulkUpdateTask(mongoTarget, logger, "lolilol", updates, false), database);
+        TaskExecutionResult bulkUpdateTaskResult = bulkUpdateTask.execute();
+
+        assertThat(bulkUpdateTaskResult.status).as("Logger errors: " + logger.errors).isEqualTo(Status.Success);
+        assertThat(bulkUpdateTaskResult.outputs.get("matchedCount")).isEqualTo(3);
+        assertThat(bulkUpdateTaskResult.outputs.get("modifiedCount")).isEqualTo(2);
+        assertThat(logger.info).containsOnly("Modified in Mongo collection 'lolilol': 2 documents");
+    }
+
+    @Test
+    public void bulkUpdateNeedsFilterAndUpdate() {
+        List<String> errors = new MongoBulkUpdateTask(mongoTarget, logger, "lolilol", List.of(Map.of("filter", "{}")), null).validateInputs();
+
+        assertThat(errors).containsExactly("Each update needs a filter and an update");
+    }
+
     @Test
     public void findDocument() {
         MongoCursor<String> iterable = mock(MongoCursor.class);
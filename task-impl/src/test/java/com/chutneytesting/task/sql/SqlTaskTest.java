@@ -1,7 +1,9 @@
 package com.chutneytesting.task.sql;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import com.chutneytesting.task.TestTarget;
@@ -11,10 +13,15 @@ import com.chutneytesting.task.spi.TaskExecutionResult;
 import com.chutneytesting.task.spi.injectable.Logger;
 import com.chutneytesting.task.spi.injectable.Target;
 import com.chutneytesting.task.spi.injectable.TasksConfiguration;
+import com.chutneytesting.task.sql.core.Aggregates;
+import com.chutneytesting.task.sql.core.DefaultSqlClientFactory;
 import com.chutneytesting.task.sql.core.Records;
+import com.chutneytesting.task.sql.core.SqlClient;
+import com.chutneytesting.task.sql.core.SqlClientFactory;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -52,7 +59,7 @@ public class SqlTaskTest {
 
         TasksConfiguration configuration = new TestTasksConfiguration();
 
-        Task task = new SqlTask(sqlTarget, logger, configuration, Collections.singletonList("select * from users"), 2);
+        Task task = new SqlTask(sqlTarget, logger, configuration, Collections.singletonList("select * from users"), 2, null, null);
         TaskExecutionResult result = task.execute();
 
         List<Records> recordResult = (List<Records>) result.outputs.get("recordResult");
@@ -63,4 +70,31 @@ public class SqlTaskTest {
                                      "| 1  | laitue  | laitue@fake.com |\n" +
                                      "| 2  | carotte | kakarot@fake.db |\n"));
     }
+
+    @Test
+    public void should_only_output_aggregates_when_streaming() {
+        TasksConfiguration configuration = new TestTasksConfiguration();
+
+        Task task = new SqlTask(sqlTarget, logger, configuration, Collections.singletonList("select * from users"), null, true, Map.of("EMAIL", ".*@fake\\.com"));
+        TaskExecutionResult result = task.execute();
+
+        List<Aggregates> aggregateResult = (List<Aggregates>) result.outputs.get("aggregateResult");
+        assertThat(result.status).isEqualTo(TaskExecutionResult.Status.Success);
+        assertThat(result.outputs).doesNotContainKey("recordResult");
+        assertThat(aggregateResult.get(0).count()).isEqualTo(3);
+        assertThat(aggregateResult.get(0).sum("ID")).isEqualByComparingTo("6");
+        assertThat(aggregateResult.get(0).matches("EMAIL")).isEqualTo(1);
+    }
+
+    @Test
+    public void should_release_client_to_its_factory() {
+        SqlClientFactory clientFactory = spy(new DefaultSqlClientFactory());
+
+        Task task = new SqlTask(clientFactory, sqlTarget, logger, new TestTasksConfiguration(), Collections.singletonList("select * from unknown_table"), null, null, null);
+        TaskExecutionResult result = task.execute();
+
+        assertThat(result.status).isEqualTo(TaskExecutionResult.Status.Failure);
+        verify(clientFactory).create(sqlTarget);
+        verify(clientFactory).release(any(SqlClient.class));
+    }
 }
@@ -0,0 +1,44 @@
+package com.chutneytesting.task.sql.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class ColumnVectorTest {
+
+    private final ColumnVector sut = new ColumnVector();
+
+    @Test
+    public void should_give_back_values_with_their_original_type() {
+        IntStream.range(0, 100).forEach(sut::add);
+        sut.add(null);
+
+        assertThat(sut.size()).isEqualTo(101);
+        assertThat(sut.get(42)).isEqualTo(42);
+        assertThat(sut.get(100)).isNull();
+    }
+
+    @Test
+    public void should_keep_floating_values() {
+        sut.add(1.5f);
+        sut.add(2.25f);
+
+        assertThat(sut.get(0)).isEqualTo(1.5f);
+        assertThat(sut.get(1)).isEqualTo(2.25f);
+    }
+
+    @Test
+    public void should_keep_values_of_mixed_types() {
+        sut.add(1L);
+        sut.add("null");
+        sut.add(BigDecimal.TEN);
+        sut.add(true);
+
+        assertThat(sut.get(0)).isEqualTo(1L);
+        assertThat(sut.get(1)).isEqualTo("null");
+        assertThat(sut.get(2)).isEqualTo(BigDecimal.TEN);
+        assertThat(sut.get(3)).isEqualTo(true);
+    }
+}
@@ -0,0 +1,119 @@
+package com.chutneytesting.task.sql.core;
+
+import static com.chutneytesting.task.tools.WaitUtils.awaitDuring;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.task.TestTarget;
+import com.chutneytesting.task.spi.injectable.Target;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class PooledSqlClientFactoryTest {
+
+    private static final String DB_NAME = "test_" + PooledSqlClientFactoryTest.class;
+
+    private PooledSqlClientFactory sut;
+
+    @BeforeEach
+    public void setUp() {
+        new EmbeddedDatabaseBuilder()
+            .setName(DB_NAME)
+            .setType(EmbeddedDatabaseType.H2)
+            .setScriptEncoding("UTF-8")
+            .ignoreFailedDrops(true)
+            .addScripts("db/sql/create_db.sql", "db/sql/insert_users.sql")
+            .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    public void should_reuse_datasource_of_same_target_once_released() throws SQLException {
+        sut = new PooledSqlClientFactory(60000, 10);
+        Target target = target("sa");
+
+        SqlClient first = sut.create(target);
+        first.execute("select * from users");
+        sut.release(first);
+        SqlClient second = sut.create(target);
+        second.execute("select * from users");
+        sut.release(second);
+
+        assertThat(second.dataSource()).isSameAs(first.dataSource());
+        assertThat(first.dataSource().isClosed()).isFalse();
+        assertThat(sut.poolStats()).hasSize(1);
+        PooledSqlClientFactory.PoolStats stats = sut.poolStats().get(target.url());
+        assertThat(stats.active).isZero();
+        assertThat(stats.idle).isEqualTo(stats.total).isPositive();
+    }
+
+    @Test
+    public void should_close_datasources_idle_for_longer_than_idle_timeout() {
+        sut = new PooledSqlClientFactory(100, 10);
+
+        SqlClient client = sut.create(target("sa"));
+        sut.release(client);
+        awaitDuring(400, MILLISECONDS);
+
+        assertThat(client.dataSource().isClosed()).isTrue();
+        assertThat(sut.poolStats()).isEmpty();
+    }
+
+    @Test
+    public void should_close_least_recently_used_released_datasource_over_max_pools() {
+        sut = new PooledSqlClientFactory(60000, 1);
+
+        SqlClient first = sut.create(target("sa"));
+        SqlClient inUse = sut.create(target("SA"));
+        sut.release(first);
+        SqlClient last = sut.create(target("Sa"));
+
+        assertThat(first.dataSource().isClosed()).isTrue();
+        assertThat(inUse.dataSource().isClosed()).isFalse();
+        assertThat(last.dataSource().isClosed()).isFalse();
+    }
+
+    @Test
+    public void should_not_block_other_targets_while_building_a_datasource() throws Exception {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch built = new CountDownLatch(1);
+        sut = new PooledSqlClientFactory(60000, 10, target -> {
+            if (target.security().credential().map(c -> c.username().equals("slow")).orElse(false)) {
+                building.countDown();
+                try {
+                    built.await(5, SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return DefaultSqlClientFactory.createDataSource(target);
+        });
+
+        CompletableFuture<SqlClient> slow = CompletableFuture.supplyAsync(() -> sut.create(target("slow")));
+        building.await(5, SECONDS);
+        SqlClient other = sut.create(target("sa"));
+
+        assertThat(slow).isNotDone();
+        built.countDown();
+        assertThat(slow.get(5, SECONDS).dataSource()).isNotSameAs(other.dataSource());
+    }
+
+    private static Target target(String user) {
+        return TestTarget.TestTargetBuilder.builder()
+            .withTargetId("sql")
+            .withUrl("jdbc:h2:mem:" + DB_NAME)
+            .withSecurity(user, "")
+            .build();
+    }
+}
@@ -61,6 +61,15 @@ public class SqlClientTest {
         assertThat(actual.records).containsExactly(firstTuple, secondTuple, thirdTuple);
     }
 
+    @Test
+    public void should_materialize_rows_once() throws SQLException {
+        SqlClient sqlClient = new DefaultSqlClientFactory().create(sqlTarget);
+        Records actual = sqlClient.execute("select * from users");
+
+        assertThat(actual.records.get(1)).isSameAs(actual.records.get(1));
+        assertThat(actual.rows.get(1)).isSameAs(actual.rows.get(1));
+    }
+
     @Test
     public void should_return_affected_rows_on_update_queries() throws SQLException {
         SqlClient sqlClient = new DefaultSqlClientFactory().create(sqlTarget);
@@ -159,7 +168,7 @@ public class SqlClientTest {
     @Test
     public void should_prevent_out_of_memory(){
         try (MockedStatic<ChutneyMemoryInfo> chutneyMemoryInfoMockedStatic = Mockito.mockStatic(ChutneyMemoryInfo.class);) {
-            chutneyMemoryInfoMockedStatic.when(ChutneyMemoryInfo::hasEnoughAvailableMemory).thenReturn(true, true, false);
+            chutneyMemoryInfoMockedStatic.when(ChutneyMemoryInfo::hasEnoughAvailableMemory).thenReturn(false);
             chutneyMemoryInfoMockedStatic.when(ChutneyMemoryInfo::usedMemory).thenReturn(42L * 1024 * 1024);
             chutneyMemoryInfoMockedStatic.when(ChutneyMemoryInfo::maxMemory).thenReturn(1337L * 1024 * 1024);
 
@@ -170,7 +179,21 @@ public class SqlClientTest {
             });
             assertThat(exception.getMessage()).isEqualTo( "Running step was stopped to prevent application crash.42MB memory used of 1337MB max.\n" +
                                                           "Current step may not be the cause.\n" +
-                                                          "Query fetched 2 rows");
+                                                          "Query fetched 0 rows");
         }
     }
+
+    @Test
+    public void should_aggregate_rows_without_retaining_them() throws SQLException {
+        SqlClient sqlClient = new DefaultSqlClientFactory().create(sqlTarget);
+        Aggregates aggregates = sqlClient.aggregate("select * from users", Map.of("NAME", ".*t.*"));
+
+        assertThat(aggregates.count()).isEqualTo(3);
+        assertThat(aggregates.count("EMAIL")).isEqualTo(2);
+        assertThat(aggregates.sum("ID")).isEqualByComparingTo("6");
+        assertThat(aggregates.min("NAME")).isEqualTo("carotte");
+        assertThat(aggregates.max("ID")).isEqualTo(3);
+        assertThat(aggregates.matches("NAME")).isEqualTo(3);
+        assertThat(aggregates.printable()).startsWith("Rows: 3\n");
+    }
 }
@@ -0,0 +1,101 @@
+package com.chutneytesting.task.ssh.sshj;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.task.TestTarget;
+import java.io.IOException;
+import net.schmizz.sshj.SSHClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SshClientPoolTest {
+
+    private final SshClientPool sut = new SshClientPool(60000, 1, 30);
+    private final Connection connection = connection("ssh://host1:22");
+
+    @AfterEach
+    public void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    public void should_reuse_authenticated_client_for_same_connection() throws IOException {
+        SSHClient client = authenticatedClient();
+
+        SSHClient first = sut.acquire(connection, () -> client);
+        sut.release(connection, first);
+        SSHClient second = sut.acquire(connection, () -> { throw new IOException("should not connect again"); });
+        sut.release(connection, second);
+
+        assertThat(second).isSameAs(first);
+        verify(client, never()).disconnect();
+    }
+
+    @Test
+    public void should_connect_again_when_pooled_client_was_disconnected() throws IOException {
+        SSHClient lost = authenticatedClient();
+        SSHClient fresh = authenticatedClient();
+
+        sut.release(connection, sut.acquire(connection, () -> lost));
+        when(lost.isConnected()).thenReturn(false);
+        SSHClient acquired = sut.acquire(connection, () -> fresh);
+
+        assertThat(acquired).isSameAs(fresh);
+        verify(lost).disconnect();
+    }
+
+    @Test
+    public void should_disconnect_least_recently_used_idle_client_over_max_clients() throws IOException {
+        SSHClient first = authenticatedClient();
+        SSHClient second = authenticatedClient();
+        Connection otherConnection = connection("ssh://host2:22");
+
+        sut.release(connection, sut.acquire(connection, () -> first));
+        sut.acquire(otherConnection, () -> second);
+
+        assertThat(sut.size()).isEqualTo(1);
+        verify(first).disconnect();
+    }
+
+    @Test
+    public void should_disconnect_invalidated_client() throws IOException {
+        SSHClient client = authenticatedClient();
+
+        sut.invalidate(connection, sut.acquire(connection, () -> client));
+
+        assertThat(sut.size()).isZero();
+        verify(client).disconnect();
+    }
+
+    @Test
+    public void should_disconnect_invalidated_client_only_once_released_by_all_steps() throws IOException {
+        SSHClient client = authenticatedClient();
+        SSHClient first = sut.acquire(connection, () -> client);
+        SSHClient second = sut.acquire(connection, () -> { throw new IOException("should not connect again"); });
+
+        sut.invalidate(connection, first);
+
+        assertThat(sut.size()).isZero();
+        verify(client, never()).disconnect();
+
+        sut.release(connection, second);
+
+        verify(client).disconnect();
+    }
+
+    private static SSHClient authenticatedClient() {
+        SSHClient client = mock(SSHClient.class, RETURNS_DEEP_STUBS);
+        when(client.isConnected()).thenReturn(true);
+        when(client.isAuthenticated()).thenReturn(true);
+        return client;
+    }
+
+    private static Connection connection(String url) {
+        return Connection.from(TestTarget.TestTargetBuilder.builder().withTargetId("ssh").withUrl(url).withSecurity("user", "password").build());
+    }
+}
@@ -0,0 +1,34 @@
+package com.chutneytesting.task.spi;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@link Task} which does not block a thread while waiting, e.g. for a delay, a message or a response.<br>
+ * The engine waits for the returned stage without counting the step against its running ones,
+ * so waiting steps do not prevent others from being executed.
+ * <p>
+ * Work done before returning the stage runs on the engine thread and should be short.
+ * Waiting must be done by completing the stage later, from a timer, a listener or a client callback.
+ */
+public interface AsyncTask extends Task {
+
+    /**
+     * Start the task.
+     *
+     * @return a stage completed with a {@link TaskExecutionResult} according to how the execution went
+     */
+    CompletionStage<TaskExecutionResult> executeAsync();
+
+    /**
+     * Blocking execution, for callers which cannot wait for a stage.
+     */
+    @Override
+    default TaskExecutionResult execute() {
+        try {
+            return executeAsync().toCompletableFuture().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+}
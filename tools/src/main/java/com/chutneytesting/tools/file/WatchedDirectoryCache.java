@@ -0,0 +1,130 @@
+package com.chutneytesting.tools.file;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Values read from the files of a directory, kept in memory until these files change.<br>
+ * Owners invalidate values on their own writes, and a directory watcher does it for edits made outside of them.
+ * A value read while an invalidation happens is returned but not cached, so that a stale value is never kept.
+ *
+ * @param <K> key of cached values
+ * @param <V> cached values
+ */
+public class WatchedDirectoryCache<K, V> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WatchedDirectoryCache.class);
+
+    private final Path directory;
+    private final Function<Path, Optional<K>> keyOfChangedFile;
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+    // Guarded by this, incremented on each invalidation
+    private long invalidations = 0;
+    private final WatchService watchService;
+
+    /**
+     * @param keyOfChangedFile key of the value to invalidate when given file name changes, empty when the file does not matter
+     */
+    public WatchedDirectoryCache(Path directory, String watcherName, Function<Path, Optional<K>> keyOfChangedFile) {
+        this.directory = directory;
+        this.keyOfChangedFile = keyOfChangedFile;
+        this.watchService = watch(watcherName);
+    }
+
+    /**
+     * @param reader reads the value from files, called outside of any lock. Null values are not cached
+     */
+    public V get(K key, Function<? super K, ? extends V> reader) {
+        V cached = values.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long invalidationsBeforeRead = invalidations();
+        V read = reader.apply(key);
+        if (read != null) {
+            synchronized (this) {
+                if (invalidations == invalidationsBeforeRead) {
+                    values.putIfAbsent(key, read);
+                }
+            }
+        }
+        return read;
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        values.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        values.clear();
+    }
+
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warn("Cannot close watcher of folder {}", directory, e);
+            }
+        }
+    }
+
+    private synchronized long invalidations() {
+        return invalidations;
+    }
+
+    private WatchService watch(String watcherName) {
+        try {
+            WatchService watcher = directory.getFileSystem().newWatchService();
+            directory.register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            Thread watcherThread = new Thread(() -> watchChanges(watcher), watcherName);
+            watcherThread.setDaemon(true);
+            watcherThread.start();
+            return watcher;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Cannot watch folder {}, changes made outside of Chutney will not be seen", directory, e);
+            return null;
+        }
+    }
+
+    private void watchChanges(WatchService watcher) {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        invalidateAll();
+                    } else {
+                        keyOfChangedFile.apply((Path) event.context()).ifPresent(this::invalidate);
+                    }
+                }
+                if (!key.reset()) {
+                    invalidateAll();
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Cache closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
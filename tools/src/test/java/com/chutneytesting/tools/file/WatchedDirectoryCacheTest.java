@@ -0,0 +1,73 @@
+package com.chutneytesting.tools.file;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WatchedDirectoryCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private WatchedDirectoryCache<String, String> sut;
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        sut = new WatchedDirectoryCache<>(directory, "test-watcher",
+            changed -> changed.toString().endsWith(".txt") ? Optional.of(FileUtils.getNameWithoutExtension(changed)) : Optional.empty());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    public void should_read_value_once_until_invalidated() {
+        assertThat(sut.get("key", this::read)).isEqualTo("value 1");
+        assertThat(sut.get("key", this::read)).isEqualTo("value 1");
+
+        sut.invalidate("key");
+
+        assertThat(sut.get("key", this::read)).isEqualTo("value 2");
+    }
+
+    @Test
+    public void should_not_cache_value_read_during_an_invalidation() {
+        String read = sut.get("key", key -> {
+            sut.invalidate(key);
+            return read(key);
+        });
+
+        assertThat(read).isEqualTo("value 1");
+        assertThat(sut.get("key", this::read)).isEqualTo("value 2");
+    }
+
+    @Test
+    public void should_invalidate_value_of_file_changed_outside() throws IOException {
+        sut.get("key", this::read);
+        sut.get("other", this::read);
+
+        Files.write(directory.resolve("key.txt"), "edited".getBytes());
+
+        await().atMost(10, SECONDS).untilAsserted(() ->
+            assertThat(sut.get("key", this::read)).isNotEqualTo("value 1")
+        );
+        assertThat(sut.get("other", this::read)).isEqualTo("value 2");
+    }
+
+    private String read(String key) {
+        return "value " + reads.incrementAndGet();
+    }
+}